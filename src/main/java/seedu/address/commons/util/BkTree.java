@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree of words, for finding the words within an edit distance of a given word.
+ *
+ * Every child of a node is filed under its distance to that node. By the triangle inequality, a word within
+ * {@code d} of the query can only be under a child whose distance lies within {@code d} of the distance between
+ * the query and the node, so a search only visits a small part of the tree when {@code d} is small.
+ * Distances are measured by {@link StringUtil#getEditDistance(String, String)}.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size = 0;
+
+    /**
+     * Adds {@code word} to the tree. Does nothing if the word is already in the tree.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} of {@code word}, closest first.
+     */
+    public List<Match> search(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0, "Maximum distance must not be negative");
+
+        List<Match> matches = new ArrayList<>();
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        if (root != null) {
+            nodesToVisit.push(root);
+        }
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.word, distance));
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    nodesToVisit.push(child.getValue());
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::getDistance));
+        return matches;
+    }
+
+    /**
+     * A word found by {@link #search(String, int)}, with its distance to the word searched for.
+     */
+    public static class Match {
+        private final String word;
+        private final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Tests whether a text contains any of a fixed list of keywords, ignoring case.
+ *
+ * The keywords are compiled once into an Aho-Corasick automaton, so a text is scanned a single time however many
+ * keywords there are, and the text is case-folded one character at a time as it is scanned instead of being copied.
+ * Characters that appear in no keyword send the automaton back to its start, so they share one column of the
+ * transition table.
+ */
+public final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int ASCII_SIZE = 128;
+
+    // Column of each character in the transition table. Column 0 is shared by characters in no keyword.
+    private final int[] asciiColumns = new int[ASCII_SIZE];
+    private final Map<Character, Integer> otherColumns = new HashMap<>();
+    private final int[][] transitions;
+    // Whether a keyword ends at, or is a suffix of the text leading to, each state.
+    private final boolean[] isMatch;
+    private final boolean hasKeywords;
+
+    /**
+     * Compiles a matcher for {@code keywords}.
+     * An empty keyword is contained in every text, and a matcher without keywords matches no text.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        hasKeywords = !keywords.isEmpty();
+
+        int columnCount = 1;
+        for (String keyword : keywords) {
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = fold(keyword.charAt(i));
+                if (getColumn(c) == 0) {
+                    setColumn(c, columnCount++);
+                }
+            }
+        }
+
+        // Build the trie of the keywords, with -1 for missing edges.
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        trie.add(newRow(columnCount));
+        ends.add(false);
+        for (String keyword : keywords) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int column = getColumn(fold(keyword.charAt(i)));
+                if (trie.get(state)[column] < 0) {
+                    trie.get(state)[column] = trie.size();
+                    trie.add(newRow(columnCount));
+                    ends.add(false);
+                }
+                state = trie.get(state)[column];
+            }
+            ends.set(state, true);
+        }
+
+        transitions = trie.toArray(new int[0][]);
+        isMatch = new boolean[transitions.length];
+        for (int state = 0; state < isMatch.length; state++) {
+            isMatch[state] = ends.get(state);
+        }
+        linkFailures(columnCount);
+    }
+
+    /**
+     * Turns the trie into the full transition table of the automaton, in breadth-first order so that the failure
+     * state of every state is complete before the state itself is.
+     */
+    private void linkFailures(int columnCount) {
+        int[] failures = new int[transitions.length];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int column = 0; column < columnCount; column++) {
+            int child = transitions[ROOT][column];
+            if (child < 0) {
+                transitions[ROOT][column] = ROOT;
+            } else {
+                failures[child] = ROOT;
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            isMatch[state] |= isMatch[failures[state]];
+            for (int column = 0; column < columnCount; column++) {
+                int child = transitions[state][column];
+                int fallback = transitions[failures[state]][column];
+                if (child < 0) {
+                    transitions[state][column] = fallback;
+                } else {
+                    failures[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords, ignoring case.
+     */
+    public boolean matches(String text) {
+        requireNonNull(text);
+        if (!hasKeywords) {
+            return false;
+        }
+
+        int state = ROOT;
+        if (isMatch[state]) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state][getColumn(fold(text.charAt(i)))];
+            if (isMatch[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private int getColumn(char c) {
+        return c < ASCII_SIZE ? asciiColumns[c] : otherColumns.getOrDefault(c, 0);
+    }
+
+    private void setColumn(char c, int column) {
+        if (c < ASCII_SIZE) {
+            asciiColumns[c] = column;
+        } else {
+            otherColumns.put(c, column);
+        }
+    }
+
+    private static int[] newRow(int columnCount) {
+        int[] row = new int[columnCount];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
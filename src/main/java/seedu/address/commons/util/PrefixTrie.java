@@ -0,0 +1,121 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A trie of words, for listing the words that start with a given prefix, ignoring case.
+ *
+ * A word may be added several times, and stays in the trie until it has been removed as many times. Words that
+ * only differ in case are kept as one, under the case they were first added in. Looking up a prefix costs its
+ * length plus the size of the part of the trie below it that is walked, so it does not grow with the number of
+ * words that do not start with the prefix.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+    private int size = 0;
+
+    /**
+     * Adds {@code word} to the trie.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(fold(word.charAt(i)), unused -> new Node());
+        }
+        if (node.count++ == 0) {
+            node.word = word;
+            size++;
+        }
+    }
+
+    /**
+     * Removes one copy of {@code word} from the trie, ignoring case. Does nothing if it is not in the trie.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            path.push(node);
+            node = node.children.get(fold(word.charAt(i)));
+            if (node == null) {
+                return;
+            }
+        }
+        if (node.count == 0 || --node.count > 0) {
+            return;
+        }
+        node.word = null;
+        size--;
+
+        // Prune the nodes that no longer lead to a word.
+        for (int i = word.length() - 1; i >= 0 && node.count == 0 && node.children.isEmpty(); i--) {
+            node = path.pop();
+            node.children.remove(fold(word.charAt(i)));
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} words that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "Limit must not be negative");
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(fold(prefix.charAt(i)));
+        }
+
+        List<String> completions = new ArrayList<>();
+        if (node == null) {
+            return completions;
+        }
+        // A depth-first walk that visits children in order, so that words come out sorted.
+        Deque<Iterator<Node>> stack = new ArrayDeque<>();
+        if (node.word != null && limit > 0) {
+            completions.add(node.word);
+        }
+        stack.push(node.children.values().iterator());
+        while (!stack.isEmpty() && completions.size() < limit) {
+            Iterator<Node> children = stack.peek();
+            if (!children.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            Node child = children.next();
+            if (child.word != null) {
+                completions.add(child.word);
+            }
+            stack.push(child.children.values().iterator());
+        }
+        return completions;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private String word;
+        private int count = 0;
+    }
+}
@@ -6,12 +6,19 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    // Soundex digit of each letter from A to Z; 0 marks the letters that are not coded.
+    private static final String SOUNDEX_DIGITS = "01230120022455012623010202";
+    private static final int SOUNDEX_LENGTH = 4;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -65,4 +72,96 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code first} and {@code second}: the fewest insertions,
+     * deletions, substitutions and swaps of adjacent characters that turn one into the other.
+     * Unlike the restricted variant, this distance obeys the triangle inequality, so it can be used to index words
+     * by their distance to each other.
+     *   <br>examples:<pre>
+     *       getEditDistance("john", "jonh") == 1
+     *       getEditDistance("john", "joan") == 1
+     *       getEditDistance("ca", "abc") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int firstLength = first.length();
+        int secondLength = second.length();
+        int infinity = firstLength + secondLength;
+        // Row and column 0 hold infinity, so that distances[i + 1][j + 1] is the distance between the first i
+        // characters of first and the first j characters of second.
+        int[][] distances = new int[firstLength + 2][secondLength + 2];
+        distances[0][0] = infinity;
+        for (int i = 0; i <= firstLength; i++) {
+            distances[i + 1][0] = infinity;
+            distances[i + 1][1] = i;
+        }
+        for (int j = 0; j <= secondLength; j++) {
+            distances[0][j + 1] = infinity;
+            distances[1][j + 1] = j;
+        }
+
+        // The last row of first in which each character was seen.
+        Map<Character, Integer> lastRows = new HashMap<>();
+        for (int i = 1; i <= firstLength; i++) {
+            int lastMatchingColumn = 0;
+            for (int j = 1; j <= secondLength; j++) {
+                int swapRow = lastRows.getOrDefault(second.charAt(j - 1), 0);
+                int swapColumn = lastMatchingColumn;
+                int cost = 1;
+                if (first.charAt(i - 1) == second.charAt(j - 1)) {
+                    cost = 0;
+                    lastMatchingColumn = j;
+                }
+                distances[i + 1][j + 1] = Math.min(
+                        Math.min(distances[i][j] + cost, distances[i + 1][j] + 1),
+                        Math.min(distances[i][j + 1] + 1,
+                                distances[swapRow][swapColumn] + (i - swapRow - 1) + 1 + (j - swapColumn - 1)));
+            }
+            lastRows.put(first.charAt(i - 1), i);
+        }
+        return distances[firstLength + 1][secondLength + 1];
+    }
+
+    /**
+     * Returns the American Soundex code of {@code word}: its first letter followed by three digits for the
+     * consonant sounds after it, so that words which sound alike, such as "Smith" and "Smyth", get the same code.
+     * Characters other than the letters A to Z are ignored, and a word without any letters has the empty code.
+     *   <br>examples:<pre>
+     *       getSoundex("Robert") == "R163"
+     *       getSoundex("Rupert") == "R163"
+     *       getSoundex("Lee") == "L000"
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String getSoundex(String word) {
+        requireNonNull(word);
+        String letters = word.toUpperCase(Locale.ROOT).replaceAll("[^A-Z]", "");
+        if (letters.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder code = new StringBuilder(SOUNDEX_LENGTH).append(letters.charAt(0));
+        char previousDigit = SOUNDEX_DIGITS.charAt(letters.charAt(0) - 'A');
+        for (int i = 1; i < letters.length() && code.length() < SOUNDEX_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            char digit = SOUNDEX_DIGITS.charAt(letter - 'A');
+            if (digit != '0' && digit != previousDigit) {
+                code.append(digit);
+            }
+            // H and W do not separate consonants with the same digit, but vowels do.
+            if (letter != 'H' && letter != 'W') {
+                previousDigit = digit;
+            }
+        }
+        while (code.length() < SOUNDEX_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
 }
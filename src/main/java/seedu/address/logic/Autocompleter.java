@@ -0,0 +1,138 @@
+package seedu.address.logic;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHILDNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENTEMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENTNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENTPHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Model;
+import seedu.address.model.person.Allergy;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Completes the command word, or the child name, parent name, allergy, tag or subject being typed at the end of a
+ * command.
+ *
+ * The values of each field are kept in a {@link PrefixTrie}, which is kept up to date with every change to the
+ * persons rather than rebuilt. The subjects are few and only change through commands, so their trie is rebuilt
+ * whenever the subject names are found to have changed.
+ */
+class Autocompleter {
+
+    static final int MAX_COMPLETIONS = 20;
+
+    private static final List<Prefix> PREFIXES = List.of(PREFIX_CHILDNAME, PREFIX_PARENTNAME, PREFIX_PARENTPHONE,
+            PREFIX_PARENTEMAIL, PREFIX_ADDRESS, PREFIX_ALLERGY, PREFIX_TAG, PREFIX_SUBJECT, PREFIX_SCORE,
+            PREFIX_NEW_SUBJECT);
+    private static final List<String> CATEGORY_MARKERS = List.of(PersonContainsKeywordsPredicate.REQUIRED_MARKER,
+            PersonContainsKeywordsPredicate.EXCLUDED_MARKER);
+
+    private final Model model;
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final Map<Prefix, PrefixTrie> personValues = Map.of(PREFIX_CHILDNAME, new PrefixTrie(),
+            PREFIX_PARENTNAME, new PrefixTrie(), PREFIX_ALLERGY, new PrefixTrie(), PREFIX_TAG, new PrefixTrie());
+    private PrefixTrie subjects = new PrefixTrie();
+    private List<String> subjectNames = List.of();
+
+    Autocompleter(Model model) {
+        this.model = model;
+        AddressBookParser.COMMAND_WORDS.forEach(commandWords::add);
+        model.getAddressBook().getPersonList().forEach(person -> updateValues(person, PrefixTrie::add));
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(person -> updateValues(person, PrefixTrie::remove));
+                change.getAddedSubList().forEach(person -> updateValues(person, PrefixTrie::add));
+            }
+        });
+    }
+
+    private void updateValues(Person person, TrieUpdate update) {
+        update.apply(personValues.get(PREFIX_CHILDNAME), person.getChildName().fullName);
+        update.apply(personValues.get(PREFIX_PARENTNAME), person.getParentName().fullName);
+        person.getAllergyList().stream().map(Allergy::toString)
+                .forEach(allergy -> update.apply(personValues.get(PREFIX_ALLERGY), allergy));
+        person.getTags().forEach(tag -> update.apply(personValues.get(PREFIX_TAG), tag.tagName));
+    }
+
+    /**
+     * Returns the ways {@code commandText} can be completed, each as the whole completed command, in alphabetical
+     * order of the completed word or value. Only the command word, or the value after the last prefix, is
+     * completed.
+     */
+    List<String> complete(String commandText) {
+        String trimmed = commandText.stripLeading();
+        if (!trimmed.isEmpty() && trimmed.chars().noneMatch(Character::isWhitespace)) {
+            String head = commandText.substring(0, commandText.length() - trimmed.length());
+            return withHead(head, commandWords.getCompletions(trimmed, MAX_COMPLETIONS));
+        }
+
+        // The value being typed is the one after the last prefix that starts an argument.
+        Prefix lastPrefix = null;
+        int valueStart = -1;
+        for (Prefix prefix : PREFIXES) {
+            int index = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (index >= 0 && index + prefix.getPrefix().length() + 1 > valueStart) {
+                lastPrefix = prefix;
+                valueStart = index + prefix.getPrefix().length() + 1;
+            }
+        }
+        PrefixTrie values = getValues(lastPrefix);
+        if (values == null) {
+            return List.of();
+        }
+
+        String value = commandText.substring(valueStart);
+        if (lastPrefix.equals(PREFIX_ALLERGY) || lastPrefix.equals(PREFIX_TAG)) {
+            for (String marker : CATEGORY_MARKERS) {
+                if (value.startsWith(marker)) {
+                    valueStart += marker.length();
+                    value = value.substring(marker.length());
+                    break;
+                }
+            }
+        }
+        return withHead(commandText.substring(0, valueStart), values.getCompletions(value, MAX_COMPLETIONS));
+    }
+
+    private PrefixTrie getValues(Prefix prefix) {
+        if (PREFIX_SUBJECT.equals(prefix)) {
+            List<String> currentSubjectNames = model.getSubjectList().stream()
+                    .map(subject -> subject.subjectName)
+                    .collect(Collectors.toList());
+            if (!currentSubjectNames.equals(subjectNames)) {
+                subjects = new PrefixTrie();
+                currentSubjectNames.forEach(subjects::add);
+                subjectNames = currentSubjectNames;
+            }
+            return subjects;
+        }
+        return prefix == null ? null : personValues.get(prefix);
+    }
+
+    private static List<String> withHead(String head, List<String> completions) {
+        return completions.stream().map(completion -> head + completion).collect(Collectors.toList());
+    }
+
+    /**
+     * Adds a value to, or removes one from, a trie.
+     */
+    @FunctionalInterface
+    private interface TrieUpdate {
+        void apply(PrefixTrie trie, String value);
+    }
+}
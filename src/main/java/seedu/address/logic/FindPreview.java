@@ -0,0 +1,83 @@
+package seedu.address.logic;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * The persons a {@code find} command that is still being typed would list.
+ *
+ * The persons to test are picked when the preview is made, on the JavaFX application thread, so that
+ * {@link #computeMatches()} can then test them on any other thread. {@link #apply()} shows the matches in the
+ * filtered person list, and must be called back on the JavaFX application thread.
+ */
+public class FindPreview {
+
+    private final FindPreviewer previewer;
+    private final PersonContainsKeywordsPredicate predicate;
+    private final List<Person> candidates;
+    private final int version;
+    private volatile boolean isCancelled = false;
+    private volatile Set<Person> matches;
+
+    FindPreview(FindPreviewer previewer, PersonContainsKeywordsPredicate predicate, List<Person> candidates,
+                int version) {
+        this.previewer = previewer;
+        this.predicate = predicate;
+        this.candidates = candidates;
+        this.version = version;
+    }
+
+    PersonContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * Tests the persons picked for this preview, stopping early if the preview is cancelled.
+     * Safe to call off the JavaFX application thread.
+     */
+    public void computeMatches() {
+        Set<Person> newMatches = new HashSet<>();
+        for (Person person : candidates) {
+            if (isCancelled) {
+                return;
+            }
+            if (predicate.test(person)) {
+                newMatches.add(person);
+            }
+        }
+        matches = newMatches;
+    }
+
+    /**
+     * Stops this preview, so that it is neither worked out any further nor shown.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Shows the matches in the filtered person list, unless this preview was cancelled, its matches are not worked
+     * out yet, or the persons have changed since it was made.
+     *
+     * @return true if the filtered person list was updated.
+     */
+    public boolean apply() {
+        Set<Person> computedMatches = matches;
+        if (isCancelled || computedMatches == null) {
+            return false;
+        }
+        return previewer.apply(this, computedMatches);
+    }
+}
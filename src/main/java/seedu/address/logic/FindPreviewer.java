@@ -0,0 +1,113 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Makes {@link FindPreview}s of {@code find} commands as they are typed.
+ *
+ * The matches of the last preview shown are kept. When the next query can only match fewer persons, such as when
+ * a keyword has been typed out further, only those matches are tested again rather than every person. Otherwise,
+ * the persons to test are narrowed down by the search index of the address book. Any change to the persons drops
+ * the kept matches, and stops previews made before the change from being shown.
+ *
+ * The filter the person list had before the first preview was shown is put back once the command typed is no
+ * longer a {@code find} command, or before any command is executed, so that a preview that was abandoned never
+ * decides which persons the indexes of the next command refer to.
+ */
+class FindPreviewer {
+
+    private final Logger logger = LogsCenter.getLogger(FindPreviewer.class);
+
+    private final Model model;
+    private final AddressBookParser addressBookParser;
+    // Changed whenever the persons change, so that previews of the old persons are not shown.
+    private int version = 0;
+    private PersonContainsKeywordsPredicate lastPredicate;
+    private Set<Person> lastMatches;
+    // The filter of the person list before the previews being shown, or null if no preview is shown.
+    private Predicate<Person> predicateBeforePreview;
+
+    FindPreviewer(Model model, AddressBookParser addressBookParser) {
+        this.model = model;
+        this.addressBookParser = addressBookParser;
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> {
+            version++;
+            lastPredicate = null;
+            lastMatches = null;
+        });
+    }
+
+    /**
+     * Returns a preview of the persons {@code commandText} would list, if it is a valid {@code find} command that
+     * only filters by keywords. Otherwise, ends any preview being shown.
+     */
+    Optional<FindPreview> preview(String commandText) {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            endPreview();
+            return Optional.empty();
+        }
+        Optional<PersonContainsKeywordsPredicate> keywordPredicate = command instanceof FindCommand
+                ? ((FindCommand) command).getKeywordPredicate()
+                : Optional.empty();
+        if (keywordPredicate.isEmpty()) {
+            endPreview();
+            return Optional.empty();
+        }
+
+        return keywordPredicate.map(predicate -> {
+            boolean isRefinement = lastPredicate != null && predicate.isNarrowerThan(lastPredicate);
+            Collection<Person> candidates = isRefinement
+                    ? lastMatches
+                    : model.getAddressBook().getSearchCandidates(predicate);
+            logger.fine("Previewing " + predicate + (isRefinement ? " from the last preview" : "")
+                    + " with " + candidates.size() + " candidates");
+            return new FindPreview(this, predicate, new ArrayList<>(candidates), version);
+        });
+    }
+
+    /**
+     * Shows {@code matches}, the matches of {@code preview}, in the filtered person list, unless the persons have
+     * changed since the preview was made.
+     */
+    boolean apply(FindPreview preview, Set<Person> matches) {
+        if (preview.getVersion() != version) {
+            return false;
+        }
+        if (predicateBeforePreview == null) {
+            predicateBeforePreview = model.getFilteredPersonListPredicate();
+        }
+        lastPredicate = preview.getPredicate();
+        lastMatches = matches;
+        model.updateFilteredPersonList(matches::contains);
+        return true;
+    }
+
+    /**
+     * Puts back the filter the person list had before the preview being shown, if any.
+     */
+    void endPreview() {
+        if (predicateBeforePreview == null) {
+            return;
+        }
+        model.updateFilteredPersonList(predicateBeforePreview);
+        predicateBeforePreview = null;
+    }
+}
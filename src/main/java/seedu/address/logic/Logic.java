@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,30 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves any changes to the address book that have not been saved yet, and waits for the save to finish.
+     *
+     * @throws CommandException If the changes, or earlier ones, could not be saved.
+     */
+    void flush() throws CommandException;
+
+    /**
+     * Returns a preview of the persons {@code commandText} would list, if it is a {@code find} command that only
+     * filters by keywords. Otherwise, puts back the filter the person list had before the preview being shown, if
+     * any. Must be called on the JavaFX application thread.
+     *
+     * @param commandText The command as typed so far by the user.
+     */
+    Optional<FindPreview> previewFind(String commandText);
+
+    /**
+     * Returns the ways {@code commandText} can be completed, each as the whole completed command.
+     * The command word, or the child name, parent name, allergy, tag or subject typed last, is completed.
+     *
+     * @param commandText The command as typed so far by the user.
+     */
+    List<String> complete(String commandText);
+
     /**
      * Returns the AddressBook.
      *
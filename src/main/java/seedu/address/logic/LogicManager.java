@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,13 +15,20 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ *
+ * The address book is saved in the background shortly after a command changes it, rather than after every command.
+ * Commands that change nothing are not saved at all, and a burst of changes is saved once. A failed save is reported
+ * by the next command, or by {@link #flush()}.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -30,35 +39,90 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final FindPreviewer findPreviewer;
+    private final Autocompleter autocompleter;
+    private final AsyncAddressBookSaver saver;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, AsyncAddressBookSaver.DEFAULT_SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that saves the address book
+     * {@code saveDelayMillis} milliseconds after it changes.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
         this.model = model;
-        this.storage = storage;
         addressBookParser = new AddressBookParser();
+        findPreviewer = new FindPreviewer(model, addressBookParser);
+        autocompleter = new Autocompleter(model);
+        // The address book as it is now is the one read from storage, so only later changes are saved.
+        model.takeAddressBookChanges();
+        saver = new AsyncAddressBookSaver(storage, saveDelayMillis);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        // The indexes of the command refer to the list as the last command left it, not as a preview shows it.
+        findPreviewer.endPreview();
+
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.refreshFilteredPersonListOrder();
+        }
 
+        List<AddressBookChange> changes = model.takeAddressBookChanges();
+        Optional<IOException> saveError = saver.takeError();
+        if (!changes.isEmpty() || saveError.isPresent()) {
+            saver.save(changes, this::copyAddressBook);
+        }
+        if (saveError.isPresent()) {
+            throw toCommandException(saveError.get());
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public void flush() throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saver.flush(this::copyAddressBook);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Returns a copy of the address book, for the saver to write whole when changes alone will not do.
+     */
+    private ReadOnlyAddressBook copyAddressBook() {
+        return new AddressBook(model.getAddressBook());
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    @Override
+    public Optional<FindPreview> previewFind(String commandText) {
+        return findPreviewer.preview(commandText);
+    }
+
+    @Override
+    public List<String> complete(String commandText) {
+        return autocompleter.complete(commandText);
     }
 
     @Override
@@ -16,6 +16,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The child index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d children listed!";
+    public static final String MESSAGE_UNKNOWN_SUBJECT = "Subject %1$s is not in the subject catalogue";
+    public static final String MESSAGE_NO_GRADED_CHILDREN = "No children have been graded in %1$s yet.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_EMPTY_PARAMETER =
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Adds subjects to the subject catalogue of the address book.
+ */
+public class AddSubjectCommand extends Command {
+
+    public static final String COMMAND_WORD = "addsubject";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds one or more subjects to the subject catalogue.\n"
+            + "Parameters: s/SUBJECT...\n"
+            + "Example: " + COMMAND_WORD + " s/physics s/chemistry";
+
+    public static final String MESSAGE_SUCCESS = "Subjects added to the catalogue: %1$s";
+    public static final String MESSAGE_DUPLICATE_SUBJECT = "Subject %1$s is already in the subject catalogue";
+
+    private final List<Subject> subjectList;
+
+    /**
+     * Creates an AddSubjectCommand to add the given subjects.
+     * @param subjectList the subjects to be added to the catalogue
+     */
+    public AddSubjectCommand(List<Subject> subjectList) {
+        requireNonNull(subjectList);
+        this.subjectList = subjectList;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        for (Subject subject : subjectList) {
+            if (model.hasSubject(subject)) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_SUBJECT, subject));
+            }
+        }
+        for (Subject subject : subjectList) {
+            model.addSubject(subject);
+        }
+
+        String addedSubjects = subjectList.stream().map(Subject::toString).collect(Collectors.joining(", "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addedSubjects));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddSubjectCommand)) {
+            return false;
+        }
+
+        AddSubjectCommand otherCommand = (AddSubjectCommand) other;
+        return subjectList.equals(otherCommand.subjectList);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("subjects", subjectList)
+                .toString();
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Lists the children with the lowest scores in a subject.
+ */
+public class BottomCommand extends ScorersCommand {
+
+    public static final String COMMAND_WORD = "bottom";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the children with the lowest scores "
+            + "in a subject, lowest first, and shows them in the list.\n"
+            + "Parameters: NUMBER s/SUBJECT\n"
+            + "Example: " + COMMAND_WORD + " 20 s/math";
+
+    public static final String MESSAGE_SUCCESS = "Bottom %1$d children in %2$s:\n";
+
+    private final int count;
+
+    /**
+     * Creates a BottomCommand to list the {@code count} children with the lowest scores in {@code subject}.
+     */
+    public BottomCommand(int count, Subject subject) {
+        super(subject);
+        this.count = count;
+    }
+
+    @Override
+    protected List<Person> getScorers(Model model, Subject catalogueSubject) {
+        return model.getBottomScorers(catalogueSubject, count);
+    }
+
+    @Override
+    protected String getHeading(int scorerCount, Subject catalogueSubject) {
+        return String.format(MESSAGE_SUCCESS, scorerCount, catalogueSubject);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BottomCommand)) {
+            return false;
+        }
+
+        BottomCommand otherCommand = (BottomCommand) other;
+        return count == otherCommand.count
+                && subject.equals(otherCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("subject", subject)
+                .toString();
+    }
+}
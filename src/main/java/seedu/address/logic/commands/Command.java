@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.subject.Subject;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +22,28 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the subject in the catalogue of {@code model} with the same name as {@code subject}, so that messages
+     * use the catalogue spelling.
+     *
+     * @throws CommandException If the catalogue has no such subject.
+     */
+    protected static Subject resolveSubject(Model model, Subject subject) throws CommandException {
+        return model.findSubject(subject.subjectName).orElseThrow(() -> new CommandException(
+                String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, subject)));
+    }
+
+    /**
+     * Returns the subjects in the catalogue of {@code model} with the same names as {@code subjects}, in order.
+     *
+     * @throws CommandException If the catalogue is missing any of them.
+     * @see #resolveSubject(Model, Subject)
+     */
+    protected static List<Subject> resolveSubjects(Model model, List<Subject> subjects) throws CommandException {
+        List<Subject> resolvedSubjects = new ArrayList<>();
+        for (Subject subject : subjects) {
+            resolvedSubjects.add(resolveSubject(model, subject));
+        }
+        return resolvedSubjects;
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +21,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** The feedback to show once the command has finished in the background, or null if it has finished. */
+    private final CompletableFuture<String> pendingFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +31,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.pendingFeedback = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, to be replaced by the feedback
+     * {@code pendingFeedback} completes with once the command has finished in the background.
+     */
+    public CommandResult(String feedbackToUser, CompletableFuture<String> pendingFeedback) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.pendingFeedback = requireNonNull(pendingFeedback);
     }
 
     /**
@@ -48,6 +65,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<CompletableFuture<String>> getPendingFeedback() {
+        return Optional.ofNullable(pendingFeedback);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -62,12 +83,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(pendingFeedback, otherCommandResult.pendingFeedback);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, pendingFeedback);
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -35,20 +36,27 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        String deletedPersonsResult = "";
+        StringBuilder deletedPersonsResult = new StringBuilder();
         List<Person> lastShownList = model.getFilteredPersonList();
         for (Index targetIndex : targetIndices) {
             if (targetIndex.getZeroBased() >= lastShownList.size()) {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             }
         }
+        List<Person> personsToDelete = new ArrayList<>();
         for (Index targetIndex : targetIndices) {
             Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-            model.deletePerson(personToDelete);
-            deletedPersonsResult += String.format(MESSAGE_DELETE_PERSON_SUCCESS,
-                    Messages.format(personToDelete));
+            personsToDelete.add(personToDelete);
+            deletedPersonsResult.append(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
+                    Messages.format(personToDelete)));
         }
-        return new CommandResult(deletedPersonsResult);
+        if (personsToDelete.size() == 1) {
+            model.deletePersonById(personsToDelete.get(0).getUniqueId());
+        } else {
+            // Removed together, so that the persons left are shifted into place only once.
+            model.deletePersons(personsToDelete);
+        }
+        return new CommandResult(deletedPersonsResult.toString());
     }
 
     @Override
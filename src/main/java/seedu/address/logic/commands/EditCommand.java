@@ -28,7 +28,6 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.subject.Subject;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -88,22 +87,8 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CHILD);
         }
 
-        model.setPerson(personToEdit, editedPerson);
-        for (Subject subject : Subject.getAllSubjects()) {
-            if (subject.getStudents().contains(personToEdit)) {
-                int score;
-                try {
-                    score = subject.getScore(personToEdit);
-                } catch (IllegalStateException e) {
-                    // If no score is present, use default unset value -1
-                    score = Subject.getDefaultScore();
-                }
-
-                subject.unenrollPerson(personToEdit);
-                subject.enrollPerson(editedPerson);
-                subject.setScore(editedPerson, score);
-            }
-        }
+        // Subject enrollments and scores are carried over to the edited person by the model.
+        model.setPersonById(personToEdit.getUniqueId(), editedPerson);
 
         return new CommandResult(String.format(MESSAGE_EDIT_CHILD_SUCCESS, Messages.format(editedPerson)));
     }
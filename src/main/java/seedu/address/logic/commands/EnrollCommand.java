@@ -74,10 +74,12 @@ public class EnrollCommand extends Command {
             }
         }
 
+        List<Subject> subjects = resolveSubjects(model, subjectList);
+
         for (Person person : personsToProcess) {
-            for (Subject subject : subjectList) {
-                if (!subject.getStudents().contains(person)) {
-                    subject.enrollPerson(person);
+            for (Subject subject : subjects) {
+                if (!model.isEnrolled(subject, person)) {
+                    model.enrollPerson(subject, person);
                     sb.append(String.format(MESSAGE_ENROLL_PERSON_SUCCESS,
                             Messages.formatShort(person), subject));
                     enrollCount++;
@@ -2,13 +2,24 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.subject.ScoreRange;
+import seedu.address.model.subject.Subject;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords,
+ * optionally only keeping those whose score in a subject falls within a range.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -17,22 +28,81 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all children records "
             + "whose child name, parent name, allergy or tag contain any of the specified keywords (case-insensitive) "
+            + "and whose score in the specified subject is in the specified range, "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: [c/CHILD_NAME] [b/PARENT_NAME] [r/ALLERGIES] [t/TAG]\n"
-            + "Example: " + COMMAND_WORD + " b/alice c/bob r/dust t/adhd";
+            + "Parameters: [c/CHILD_NAME] [b/PARENT_NAME] [r/ALLERGIES] [t/TAG] [s/SUBJECT g/SCORE_RANGE]\n"
+            + "SCORE_RANGE is one of >=N, <=N, >N, <N, N, N-M or unset\n"
+            + "Prefix an allergy or tag with + to require it, or with - to exclude it\n"
+            + "Prefix a name with ~ to also match names one edit away for every ~, e.g. c/~jonh; "
+            + "the closest matches are listed first\n"
+            + "Prefix a name with ? to match names that sound like it, e.g. b/?smyth\n"
+            + "Example: " + COMMAND_WORD + " b/alice c/bob r/dust t/adhd\n"
+            + "Example: " + COMMAND_WORD + " t/+P5 r/+peanut\n"
+            + "Example: " + COMMAND_WORD + " s/science g/<50";
+
+    public static final String MESSAGE_FINDING = "Finding matching children records...";
 
     private final PersonContainsKeywordsPredicate predicate;
+    private final Subject subject;
+    private final ScoreRange scoreRange;
 
+    /**
+     * Creates a FindCommand that lists the persons matching {@code predicate}.
+     */
     public FindCommand(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
         this.predicate = predicate;
+        this.subject = null;
+        this.scoreRange = null;
+    }
+
+    /**
+     * Creates a FindCommand that lists the persons whose score in {@code subject} is within {@code scoreRange}.
+     * If {@code predicate} has any keywords, the persons must also match it.
+     */
+    public FindCommand(PersonContainsKeywordsPredicate predicate, Subject subject, ScoreRange scoreRange) {
+        requireNonNull(predicate);
+        requireNonNull(subject);
+        requireNonNull(scoreRange);
+        this.predicate = predicate;
+        this.subject = subject;
+        this.scoreRange = scoreRange;
+    }
+
+    /**
+     * Returns the keyword predicate of this command, unless it also filters by score, in which case the persons it
+     * lists also depend on the subjects in the model.
+     */
+    public Optional<PersonContainsKeywordsPredicate> getKeywordPredicate() {
+        return subject == null ? Optional.of(predicate) : Optional.empty();
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        // Large address books are searched in the background, and the count is reported once the list is shown.
+        CompletableFuture<Integer> listed = model.updateFilteredPersonListInBackground(createFilter(model));
+        if (listed.isDone()) {
+            return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, listed.join()));
+        }
+        return new CommandResult(MESSAGE_FINDING,
+                listed.thenApply(count -> String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, count)));
+    }
+
+    private Predicate<Person> createFilter(Model model) throws CommandException {
+        if (subject == null) {
+            // The model narrows the search down with its search index and caches the results.
+            return predicate;
+        }
+
+        Subject catalogueSubject = resolveSubject(model, subject);
+        // Looked up once in the score index of the subject, rather than probing the score of every child.
+        Set<Person> studentsInRange =
+                model.getAddressBook().getSubjectStore().getStudentsInRange(catalogueSubject, scoreRange);
+        if (predicate.hasNoKeywords()) {
+            return studentsInRange::contains;
+        }
+        return person -> studentsInRange.contains(person) && predicate.test(person);
     }
 
     @Override
@@ -47,13 +117,19 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && Objects.equals(subject, otherFindCommand.subject)
+                && Objects.equals(scoreRange, otherFindCommand.scoreRange);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
-                .add("predicate", predicate)
-                .toString();
+        ToStringBuilder builder = new ToStringBuilder(this)
+                .add("predicate", predicate);
+        if (subject != null) {
+            builder.add("subject", subject)
+                    .add("scoreRange", scoreRange);
+        }
+        return builder.toString();
     }
 }
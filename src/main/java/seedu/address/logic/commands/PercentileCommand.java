@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Lists the children who scored below a percentile of a subject.
+ */
+public class PercentileCommand extends ScorersCommand {
+
+    public static final String COMMAND_WORD = "percentile";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the children who scored below the given "
+            + "percentile of a subject, lowest first, and shows them in the list.\n"
+            + "Parameters: PERCENTILE s/SUBJECT\n"
+            + "Example: " + COMMAND_WORD + " 10 s/english";
+
+    public static final String MESSAGE_SUCCESS = "%1$d children below percentile %2$d in %3$s:\n";
+
+    private final int percentile;
+
+    /**
+     * Creates a PercentileCommand to list the children below the {@code percentile}-th percentile of {@code subject}.
+     */
+    public PercentileCommand(int percentile, Subject subject) {
+        super(subject);
+        this.percentile = percentile;
+    }
+
+    @Override
+    protected List<Person> getScorers(Model model, Subject catalogueSubject) {
+        return model.getScorersBelowPercentile(catalogueSubject, percentile);
+    }
+
+    @Override
+    protected String getHeading(int scorerCount, Subject catalogueSubject) {
+        return String.format(MESSAGE_SUCCESS, scorerCount, percentile, catalogueSubject);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PercentileCommand)) {
+            return false;
+        }
+
+        PercentileCommand otherCommand = (PercentileCommand) other;
+        return percentile == otherCommand.percentile
+                && subject.equals(otherCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("percentile", percentile)
+                .add("subject", subject)
+                .toString();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.ReadOnlySubjectStore;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Shows the rank of a child in a subject.
+ */
+public class RankCommand extends Command {
+
+    public static final String COMMAND_WORD = "rank";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the rank of the child identified by the "
+            + "index number used in the displayed list among the graded children of a subject.\n"
+            + "Parameters: INDEX (must be a positive integer) s/SUBJECT\n"
+            + "Example: " + COMMAND_WORD + " 1 s/math";
+
+    public static final String MESSAGE_SUCCESS = "%1$s is ranked %2$d of %3$d in %4$s with a score of %5$d, "
+            + "higher than %6$d%% of graded children";
+    public static final String MESSAGE_NOT_ENROLLED = "%1$s is not enrolled in %2$s";
+    public static final String MESSAGE_NOT_GRADED = "%1$s has not been graded in %2$s yet";
+
+    private final Index index;
+    private final Subject subject;
+
+    /**
+     * Creates a RankCommand to show the rank of the child at {@code index} in {@code subject}.
+     */
+    public RankCommand(Index index, Subject subject) {
+        requireNonNull(index);
+        requireNonNull(subject);
+        this.index = index;
+        this.subject = subject;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        Subject catalogueSubject = resolveSubject(model, subject);
+
+        Person person = lastShownList.get(index.getZeroBased());
+        ReadOnlySubjectStore subjectStore = model.getAddressBook().getSubjectStore();
+        if (!subjectStore.isEnrolled(catalogueSubject, person)) {
+            throw new CommandException(String.format(MESSAGE_NOT_ENROLLED,
+                    Messages.formatShort(person), catalogueSubject));
+        }
+        int score = subjectStore.getScore(catalogueSubject, person);
+        if (score == Subject.getDefaultScore()) {
+            throw new CommandException(String.format(MESSAGE_NOT_GRADED,
+                    Messages.formatShort(person), catalogueSubject));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.formatShort(person),
+                model.getRank(catalogueSubject, person),
+                subjectStore.getScoreStats(catalogueSubject).getGradedCount(),
+                catalogueSubject, score, model.getPercentileRank(catalogueSubject, person)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RankCommand)) {
+            return false;
+        }
+
+        RankCommand otherCommand = (RankCommand) other;
+        return index.equals(otherCommand.index)
+                && subject.equals(otherCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("index", index)
+                .add("subject", subject)
+                .toString();
+    }
+}
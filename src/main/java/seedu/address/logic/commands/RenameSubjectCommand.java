@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Renames a subject in the subject catalogue, keeping the enrollments and scores of the subject.
+ */
+public class RenameSubjectCommand extends Command {
+
+    public static final String COMMAND_WORD = "renamesubject";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Renames a subject in the subject catalogue. "
+            + "Children enrolled in the subject stay enrolled and keep their scores.\n"
+            + "Parameters: s/SUBJECT n/NEW_NAME\n"
+            + "Example: " + COMMAND_WORD + " s/science n/general science";
+
+    public static final String MESSAGE_SUCCESS = "Renamed subject %1$s to %2$s";
+
+    private final Subject target;
+    private final Subject renamedSubject;
+
+    /**
+     * Creates a RenameSubjectCommand to rename {@code target} to {@code renamedSubject}.
+     */
+    public RenameSubjectCommand(Subject target, Subject renamedSubject) {
+        requireNonNull(target);
+        requireNonNull(renamedSubject);
+        this.target = target;
+        this.renamedSubject = renamedSubject;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Subject subjectToRename = resolveSubject(model, target);
+        if (!subjectToRename.equals(renamedSubject) && model.hasSubject(renamedSubject)) {
+            throw new CommandException(String.format(AddSubjectCommand.MESSAGE_DUPLICATE_SUBJECT, renamedSubject));
+        }
+
+        model.renameSubject(subjectToRename, renamedSubject);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, subjectToRename, renamedSubject));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RenameSubjectCommand)) {
+            return false;
+        }
+
+        RenameSubjectCommand otherCommand = (RenameSubjectCommand) other;
+        return target.equals(otherCommand.target)
+                && renamedSubject.subjectName.equals(otherCommand.renamedSubject.subjectName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("renamedSubject", renamedSubject)
+                .toString();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Removes subjects from the subject catalogue, unenrolling every child enrolled in them.
+ */
+public class RetireSubjectCommand extends Command {
+
+    public static final String COMMAND_WORD = "retiresubject";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes one or more subjects from the subject "
+            + "catalogue. Children enrolled in the subjects are unenrolled and their scores are discarded.\n"
+            + "Parameters: s/SUBJECT...\n"
+            + "Example: " + COMMAND_WORD + " s/physics";
+
+    public static final String MESSAGE_RETIRE_SUBJECT_SUCCESS = "Retired Subject: %1$s, %2$d children unenrolled\n";
+    public static final String MESSAGE_DONE = "Finished command execution.";
+
+    private final List<Subject> subjectList;
+
+    /**
+     * Creates a RetireSubjectCommand to retire the given subjects.
+     * @param subjectList the subjects to be removed from the catalogue
+     */
+    public RetireSubjectCommand(List<Subject> subjectList) {
+        requireNonNull(subjectList);
+        this.subjectList = subjectList;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Subject> subjects = resolveSubjects(model, subjectList);
+
+        StringBuilder sb = new StringBuilder();
+        for (Subject subject : subjects) {
+            int enrolledCount = model.getAddressBook().getSubjectStore().getEnrolledCount(subject);
+            model.retireSubject(subject);
+            sb.append(String.format(MESSAGE_RETIRE_SUBJECT_SUCCESS, subject, enrolledCount));
+        }
+        sb.append(MESSAGE_DONE);
+
+        return new CommandResult(sb.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RetireSubjectCommand)) {
+            return false;
+        }
+
+        RetireSubjectCommand otherCommand = (RetireSubjectCommand) other;
+        return subjectList.equals(otherCommand.subjectList);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("subjects", subjectList)
+                .toString();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Lists some of the children graded in a subject, in order, with their rank and score, and shows only them in the
+ * list.
+ */
+public abstract class ScorersCommand extends Command {
+
+    public static final String MESSAGE_SCORER = "%1$d. %2$s: %3$d\n";
+
+    protected final Subject subject;
+
+    /**
+     * Creates a ScorersCommand to list children graded in {@code subject}.
+     */
+    protected ScorersCommand(Subject subject) {
+        requireNonNull(subject);
+        this.subject = subject;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Subject catalogueSubject = resolveSubject(model, subject);
+        if (model.getAddressBook().getSubjectStore().getScoreStats(catalogueSubject).getGradedCount() == 0) {
+            return new CommandResult(String.format(Messages.MESSAGE_NO_GRADED_CHILDREN, catalogueSubject));
+        }
+
+        List<Person> scorers = getScorers(model, catalogueSubject);
+        Set<Person> scorerSet = new HashSet<>(scorers);
+        model.updateFilteredPersonList(scorerSet::contains);
+
+        StringBuilder sb = new StringBuilder(getHeading(scorers.size(), catalogueSubject));
+        for (Person scorer : scorers) {
+            sb.append(String.format(MESSAGE_SCORER, model.getRank(catalogueSubject, scorer),
+                    Messages.formatShort(scorer),
+                    model.getAddressBook().getSubjectStore().getScore(catalogueSubject, scorer)));
+        }
+        return new CommandResult(sb.toString());
+    }
+
+    /**
+     * Returns the children graded in {@code catalogueSubject} to list, in the order to list them in.
+     */
+    protected abstract List<Person> getScorers(Model model, Subject catalogueSubject);
+
+    /**
+     * Returns the line shown above the {@code scorerCount} children listed for {@code catalogueSubject}.
+     */
+    protected abstract String getHeading(int scorerCount, Subject catalogueSubject);
+}
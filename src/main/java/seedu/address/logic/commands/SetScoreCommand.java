@@ -73,13 +73,16 @@ public class SetScoreCommand extends Command {
             }
         }
 
+        Subject catalogueSubject = resolveSubject(model, subject);
+
         // Process each person
         for (Person person : personsToProcess) {
-            if (!subject.getStudents().contains(person)) {
-                sb.append(String.format(MESSAGE_SKIPPED_STUDENT, Messages.formatShort(person), subject));
+            if (!model.isEnrolled(catalogueSubject, person)) {
+                sb.append(String.format(MESSAGE_SKIPPED_STUDENT, Messages.formatShort(person), catalogueSubject));
             } else {
-                subject.setScore(person, score);
-                sb.append(String.format(MESSAGE_SET_SCORE_SUCCESS, Messages.formatShort(person), subject, score));
+                model.setScore(catalogueSubject, person, score);
+                sb.append(String.format(MESSAGE_SET_SCORE_SUCCESS,
+                        Messages.formatShort(person), catalogueSubject, score));
             }
         }
 
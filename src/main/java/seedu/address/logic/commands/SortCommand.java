@@ -0,0 +1,172 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.ReadOnlySubjectStore;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Sorts the displayed list of persons by child name, parent name, score in a subject or number of subjects.
+ *
+ * Names are compared by collation keys worked out once per name. Scores and subject counts are read from the subject
+ * store of the address book on every comparison, so the model can put the list back in order after they change.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed children records "
+            + "by child name, parent name, score in a subject (highest first) "
+            + "or number of subjects enrolled in (most first).\n"
+            + "Parameters: child|parent|score s/SUBJECT|subjects|none\n"
+            + "Example: " + COMMAND_WORD + " child\n"
+            + "Example: " + COMMAND_WORD + " score s/math";
+
+    public static final String MESSAGE_SUCCESS = "Sorted child records by %1$s";
+    public static final String MESSAGE_UNSORTED = "Child records are shown in the order they were added";
+
+    // Ranks ungraded students after graded ones, and students not enrolled after both.
+    private static final int NOT_ENROLLED = Integer.MIN_VALUE;
+
+    private final SortField field;
+    private final Subject subject;
+
+    /**
+     * Creates a SortCommand to sort by {@code field}, which must not be {@link SortField#SCORE}.
+     */
+    public SortCommand(SortField field) {
+        requireNonNull(field);
+        assert field != SortField.SCORE : "Sorting by score needs a subject";
+        this.field = field;
+        this.subject = null;
+    }
+
+    /**
+     * Creates a SortCommand to sort by score in {@code subject}.
+     */
+    public SortCommand(Subject subject) {
+        requireNonNull(subject);
+        this.field = SortField.SCORE;
+        this.subject = subject;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        switch (field) {
+        case CHILD:
+            model.sortFilteredPersonList(Comparator.comparing(person -> person.getChildName().getCollationKey()));
+            break;
+        case PARENT:
+            model.sortFilteredPersonList(Comparator.comparing(person -> person.getParentName().getCollationKey()));
+            break;
+        case SCORE:
+            Subject catalogueSubject = resolveSubject(model, subject);
+            ReadOnlySubjectStore scoreStore = model.getAddressBook().getSubjectStore();
+            model.sortFilteredPersonList(byKeyDescending(person -> getScoreKey(scoreStore, catalogueSubject, person)));
+            return new CommandResult(String.format(MESSAGE_SUCCESS,
+                    String.format(field.description, catalogueSubject)));
+        case SUBJECTS:
+            ReadOnlySubjectStore subjectStore = model.getAddressBook().getSubjectStore();
+            model.sortFilteredPersonList(byKeyDescending(subjectStore::getSubjectCount));
+            break;
+        case NONE:
+            model.sortFilteredPersonList(Model.COMPARATOR_ORDER_ADDED);
+            return new CommandResult(MESSAGE_UNSORTED);
+        default:
+            throw new AssertionError("Unknown sort field: " + field);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, field.description));
+    }
+
+    /**
+     * Returns a comparator that puts persons with higher keys first, and then sorts them by child name.
+     */
+    private static Comparator<Person> byKeyDescending(ToIntFunction<Person> key) {
+        Comparator<Person> byKey = Comparator.comparingInt(key);
+        return byKey.reversed().thenComparing(person -> person.getChildName().getCollationKey());
+    }
+
+    /**
+     * Returns the score of {@code person} in {@code subject}, or {@code NOT_ENROLLED} if they are not enrolled in it
+     * or it has since been renamed or retired.
+     */
+    private static int getScoreKey(ReadOnlySubjectStore subjectStore, Subject subject, Person person) {
+        if (!subjectStore.hasSubject(subject) || !subjectStore.isEnrolled(subject, person)) {
+            return NOT_ENROLLED;
+        }
+        return subjectStore.getScore(subject, person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return field == otherSortCommand.field
+                && Objects.equals(subject, otherSortCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(this)
+                .add("field", field);
+        if (subject != null) {
+            builder.add("subject", subject);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The fields child records can be sorted by.
+     */
+    public enum SortField {
+        CHILD("child name"),
+        PARENT("parent name"),
+        SCORE("score in %1$s"),
+        SUBJECTS("number of subjects"),
+        NONE("the order they were added");
+
+        private final String description;
+
+        SortField(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Returns the field named {@code keyword}, ignoring case.
+         */
+        public static Optional<SortField> fromKeyword(String keyword) {
+            requireNonNull(keyword);
+            for (SortField field : values()) {
+                if (field.name().equalsIgnoreCase(keyword)) {
+                    return Optional.of(field);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
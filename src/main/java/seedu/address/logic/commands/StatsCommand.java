@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.subject.ScoreStats;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Shows a summary of the scores in a subject.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the average, lowest and highest score "
+            + "and the score distribution of a subject.\n"
+            + "Parameters: s/SUBJECT\n"
+            + "Example: " + COMMAND_WORD + " s/math";
+
+    public static final String MESSAGE_SUMMARY = "Statistics for %1$s: %2$d enrolled, %3$d graded, %4$d not graded\n";
+    public static final String MESSAGE_SCORES = "Average: %1$.2f, Lowest: %2$d, Highest: %3$d\n";
+    public static final String MESSAGE_NO_SCORES = "No scores have been set yet.";
+    public static final String MESSAGE_DISTRIBUTION = "Distribution: %1$s";
+
+    // Width of each band of the distribution. The last band also takes the maximum score.
+    private static final int BAND_WIDTH = 10;
+
+    private final Subject subject;
+
+    /**
+     * Creates a StatsCommand to summarise the scores in {@code subject}.
+     */
+    public StatsCommand(Subject subject) {
+        requireNonNull(subject);
+        this.subject = subject;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Subject catalogueSubject = resolveSubject(model, subject);
+        ScoreStats stats = model.getAddressBook().getSubjectStore().getScoreStats(catalogueSubject);
+
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_SUMMARY, catalogueSubject,
+                stats.getCount(), stats.getGradedCount(), stats.getUngradedCount()));
+        if (stats.getGradedCount() == 0) {
+            sb.append(MESSAGE_NO_SCORES);
+            return new CommandResult(sb.toString());
+        }
+
+        sb.append(String.format(MESSAGE_SCORES, stats.getAverage().getAsDouble(),
+                stats.getMin().getAsInt(), stats.getMax().getAsInt()));
+        sb.append(String.format(MESSAGE_DISTRIBUTION, formatDistribution(stats)));
+        return new CommandResult(sb.toString());
+    }
+
+    private static String formatDistribution(ScoreStats stats) {
+        StringBuilder sb = new StringBuilder();
+        for (int low = 0; low + BAND_WIDTH <= ScoreStats.MAX_SCORE; low += BAND_WIDTH) {
+            int high = low + BAND_WIDTH >= ScoreStats.MAX_SCORE ? ScoreStats.MAX_SCORE : low + BAND_WIDTH - 1;
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(low).append('-').append(high).append(": ").append(stats.getCountBetween(low, high));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherCommand = (StatsCommand) other;
+        return subject.equals(otherCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("subject", subject)
+                .toString();
+    }
+}
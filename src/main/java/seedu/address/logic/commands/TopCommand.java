@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Lists the children with the highest scores in a subject.
+ */
+public class TopCommand extends ScorersCommand {
+
+    public static final String COMMAND_WORD = "top";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the children with the highest scores "
+            + "in a subject, highest first, and shows them in the list.\n"
+            + "Parameters: NUMBER s/SUBJECT\n"
+            + "Example: " + COMMAND_WORD + " 20 s/math";
+
+    public static final String MESSAGE_SUCCESS = "Top %1$d children in %2$s:\n";
+
+    private final int count;
+
+    /**
+     * Creates a TopCommand to list the {@code count} children with the highest scores in {@code subject}.
+     */
+    public TopCommand(int count, Subject subject) {
+        super(subject);
+        this.count = count;
+    }
+
+    @Override
+    protected List<Person> getScorers(Model model, Subject catalogueSubject) {
+        return model.getTopScorers(catalogueSubject, count);
+    }
+
+    @Override
+    protected String getHeading(int scorerCount, Subject catalogueSubject) {
+        return String.format(MESSAGE_SUCCESS, scorerCount, catalogueSubject);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TopCommand)) {
+            return false;
+        }
+
+        TopCommand otherCommand = (TopCommand) other;
+        return count == otherCommand.count
+                && subject.equals(otherCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("subject", subject)
+                .toString();
+    }
+}
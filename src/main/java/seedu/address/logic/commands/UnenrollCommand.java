@@ -72,11 +72,13 @@ public class UnenrollCommand extends Command {
             }
         }
 
+        List<Subject> subjects = resolveSubjects(model, subjectList);
+
         for (Person person : personsToProcess) {
-            for (Subject subject : subjectList) {
-                if (subject.getStudents().contains(person)) {
+            for (Subject subject : subjects) {
+                if (model.isEnrolled(subject, person)) {
                     unenrollCount++;
-                    subject.unenrollPerson(person);
+                    model.unenrollPerson(subject, person);
                     sb.append(String.format(MESSAGE_UNENROLL_PERSON_SUCCESS,
                             Messages.formatShort(person), subject));
                 } else {
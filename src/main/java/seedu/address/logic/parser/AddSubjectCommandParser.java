@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PREFIX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import java.util.List;
+
+import seedu.address.logic.commands.AddSubjectCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Parser class for AddSubject command
+ */
+public class AddSubjectCommandParser implements Parser<AddSubjectCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddSubjectCommand
+     * and returns a AddSubjectCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddSubjectCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT);
+
+        if (argMultimap.getValue(PREFIX_SUBJECT).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSubjectCommand.MESSAGE_USAGE));
+        }
+        String invalidPrefixes =
+                ParserUtil.detectInvalidPrefixes(args, PREFIX_SUBJECT);
+        if (!invalidPrefixes.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_PREFIX, invalidPrefixes, AddSubjectCommand.MESSAGE_USAGE));
+        }
+
+        List<Subject> subjects = ParserUtil.parseSubjects(argMultimap.getAllValues(PREFIX_SUBJECT));
+
+        return new AddSubjectCommand(subjects);
+    }
+}
@@ -3,12 +3,15 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddSubjectCommand;
+import seedu.address.logic.commands.BottomCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -18,7 +21,14 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PercentileCommand;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RenameSubjectCommand;
+import seedu.address.logic.commands.RetireSubjectCommand;
 import seedu.address.logic.commands.SetScoreCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.TopCommand;
 import seedu.address.logic.commands.UnenrollCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -27,6 +37,17 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    /**
+     * The words of every command this parser understands.
+     */
+    public static final List<String> COMMAND_WORDS = List.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, EnrollCommand.COMMAND_WORD,
+            UnenrollCommand.COMMAND_WORD, SetScoreCommand.COMMAND_WORD, AddSubjectCommand.COMMAND_WORD,
+            RenameSubjectCommand.COMMAND_WORD, RetireSubjectCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD,
+            TopCommand.COMMAND_WORD, BottomCommand.COMMAND_WORD, RankCommand.COMMAND_WORD,
+            PercentileCommand.COMMAND_WORD, SortCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -89,6 +110,33 @@ public class AddressBookParser {
         case SetScoreCommand.COMMAND_WORD:
             return new SetScoreCommandParser().parse(arguments);
 
+        case AddSubjectCommand.COMMAND_WORD:
+            return new AddSubjectCommandParser().parse(arguments);
+
+        case RenameSubjectCommand.COMMAND_WORD:
+            return new RenameSubjectCommandParser().parse(arguments);
+
+        case RetireSubjectCommand.COMMAND_WORD:
+            return new RetireSubjectCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case TopCommand.COMMAND_WORD:
+            return new TopCommandParser().parse(arguments);
+
+        case BottomCommand.COMMAND_WORD:
+            return new BottomCommandParser().parse(arguments);
+
+        case RankCommand.COMMAND_WORD:
+            return new RankCommandParser().parse(arguments);
+
+        case PercentileCommand.COMMAND_WORD:
+            return new PercentileCommandParser().parse(arguments);
+
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
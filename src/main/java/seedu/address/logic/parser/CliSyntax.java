@@ -15,6 +15,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_SUBJECT = new Prefix("s/");
     public static final Prefix PREFIX_SCORE = new Prefix("g/");
+    public static final Prefix PREFIX_NEW_SUBJECT = new Prefix("n/");
 
     // for enrol/unenrol commands
     public static final String ALL_KEYWORD = "all";
@@ -7,6 +7,8 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_PREFIX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CHILDNAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENTNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
@@ -17,6 +19,8 @@ import java.util.stream.Stream;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.subject.ScoreRange;
+import seedu.address.model.subject.Subject;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -31,17 +35,19 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_CHILDNAME, PREFIX_PARENTNAME, PREFIX_ALLERGY, PREFIX_TAG);
+                ArgumentTokenizer.tokenize(args, PREFIX_CHILDNAME, PREFIX_PARENTNAME, PREFIX_ALLERGY, PREFIX_TAG,
+                        PREFIX_SUBJECT, PREFIX_SCORE);
 
         String invalidPrefixes =
-                ParserUtil.detectInvalidPrefixes(
-                        args, PREFIX_CHILDNAME, PREFIX_PARENTNAME, PREFIX_ALLERGY, PREFIX_TAG);
+                ParserUtil.detectInvalidPrefixes(args, PREFIX_CHILDNAME, PREFIX_PARENTNAME, PREFIX_ALLERGY, PREFIX_TAG,
+                        PREFIX_SUBJECT, PREFIX_SCORE);
         if (!invalidPrefixes.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_PREFIX, invalidPrefixes, FindCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CHILDNAME, PREFIX_PARENTNAME, PREFIX_ALLERGY, PREFIX_TAG);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CHILDNAME, PREFIX_PARENTNAME, PREFIX_ALLERGY, PREFIX_TAG,
+                PREFIX_SUBJECT, PREFIX_SCORE);
 
         List<String> childNameKeywords = argMultimap.getValue(PREFIX_CHILDNAME)
                 .map(s -> Arrays.asList(s.trim().split("\\s+")))
@@ -67,18 +73,28 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_EMPTY_PARAMETER));
         }
 
-        if (childNameKeywords.isEmpty()
-                && parentNameKeywords.isEmpty()
-                && allergyKeywords.isEmpty()
-                && tagKeywords.isEmpty()) {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(childNameKeywords,
+                                                                                        parentNameKeywords,
+                                                                                        allergyKeywords,
+                                                                                        tagKeywords);
+
+        // a subject and a score range must be given together
+        if (argMultimap.getValue(PREFIX_SUBJECT).isPresent() != argMultimap.getValue(PREFIX_SCORE).isPresent()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        if (argMultimap.getValue(PREFIX_SUBJECT).isPresent()) {
+            Subject subject = ParserUtil.parseSubject(argMultimap.getValue(PREFIX_SUBJECT).get());
+            ScoreRange scoreRange = ParserUtil.parseScoreRange(argMultimap.getValue(PREFIX_SCORE).get());
+            return new FindCommand(predicate, subject, scoreRange);
+        }
+
+        if (predicate.hasNoKeywords()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(new PersonContainsKeywordsPredicate(childNameKeywords,
-                                                                    parentNameKeywords,
-                                                                    allergyKeywords,
-                                                                    tagKeywords));
+        return new FindCommand(predicate);
     }
 
 }
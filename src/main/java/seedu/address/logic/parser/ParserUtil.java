@@ -22,6 +22,8 @@ import seedu.address.model.person.AllergyList;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.subject.ScoreRange;
+import seedu.address.model.subject.ScoreStats;
 import seedu.address.model.subject.Subject;
 import seedu.address.model.tag.Tag;
 
@@ -32,6 +34,15 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_SCORE = "Score must be an integer between 0 to 100!";
+    public static final String MESSAGE_INVALID_COUNT = "Number of children must be a positive integer!";
+    public static final String MESSAGE_INVALID_SCORE_RANGE = "Score range must be one of >=N, <=N, >N, <N, N, "
+            + "N-M or unset, where N and M are scores between 0 to 100!";
+    public static final String MESSAGE_INVALID_PERCENTILE = "Percentile must be an integer between 1 to 100!";
+
+    private static final Pattern SCORE_COMPARISON_FORMAT =
+            Pattern.compile("(?<operator>>=|<=|>|<|=)?\\s*(?<score>\\d+)");
+    private static final Pattern SCORE_BETWEEN_FORMAT =
+            Pattern.compile("(?<low>\\d+)\\s*-\\s*(?<high>\\d+)");
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -176,7 +187,9 @@ public class ParserUtil {
     }
 
     /**
-     * Parse a single subject string into a {@code Subject}
+     * Parse a single subject string into a {@code Subject}.
+     * Only the format of the name is checked here; whether the subject is in the catalogue is checked by the
+     * command against the model.
      * @param subject the string to be parsed
      * @return a subject object
      * @throws ParseException
@@ -185,11 +198,11 @@ public class ParserUtil {
         requireNonNull(subject);
         String trimmedSubject = subject.trim();
 
-        if (!Subject.contains(trimmedSubject)) {
+        if (!Subject.isValidSubjectName(trimmedSubject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
 
-        return Subject.fromString(trimmedSubject);
+        return new Subject(trimmedSubject);
     }
 
     /**
@@ -236,6 +249,100 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a score range from user input.
+     * The range may be a comparison with a score ({@code >=N}, {@code <=N}, {@code >N}, {@code <N}, {@code =N}
+     * or just {@code N}), two scores {@code N-M}, or {@code unset} for children who have not been graded.
+     * @param rangeString the string to be processed
+     * @return the {@code ScoreRange} described by the string
+     * @throws ParseException if the string does not describe a non-empty range of scores between 0 and 100
+     */
+    public static ScoreRange parseScoreRange(String rangeString) throws ParseException {
+        requireNonNull(rangeString);
+        String trimmedRange = rangeString.trim();
+        if (trimmedRange.equalsIgnoreCase("unset")) {
+            return ScoreRange.UNSET;
+        }
+
+        int low;
+        int high;
+        Matcher comparison = SCORE_COMPARISON_FORMAT.matcher(trimmedRange);
+        Matcher between = SCORE_BETWEEN_FORMAT.matcher(trimmedRange);
+        if (comparison.matches()) {
+            int score = parseRangeScore(comparison.group("score"));
+            String operator = comparison.group("operator") == null ? "=" : comparison.group("operator");
+            switch (operator) {
+            case ">=":
+                low = score;
+                high = ScoreStats.MAX_SCORE;
+                break;
+            case ">":
+                low = score + 1;
+                high = ScoreStats.MAX_SCORE;
+                break;
+            case "<=":
+                low = 0;
+                high = score;
+                break;
+            case "<":
+                low = 0;
+                high = score - 1;
+                break;
+            default:
+                low = score;
+                high = score;
+                break;
+            }
+        } else if (between.matches()) {
+            low = parseRangeScore(between.group("low"));
+            high = parseRangeScore(between.group("high"));
+        } else {
+            throw new ParseException(MESSAGE_INVALID_SCORE_RANGE);
+        }
+
+        if (low > high) {
+            throw new ParseException(MESSAGE_INVALID_SCORE_RANGE);
+        }
+        return ScoreRange.between(low, high);
+    }
+
+    private static int parseRangeScore(String scoreString) throws ParseException {
+        try {
+            return parseScore(scoreString);
+        } catch (ParseException pe) {
+            throw new ParseException(MESSAGE_INVALID_SCORE_RANGE, pe);
+        }
+    }
+
+    /**
+     * Parses the number of children to list from user input. Must be a positive integer.
+     * @param countString the string to be processed
+     * @return an integer representation of the count
+     * @throws ParseException if the count is not a positive integer
+     */
+    public static int parseCount(String countString) throws ParseException {
+        String trimmedCount = countString.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
+    /**
+     * Parses a percentile from user input. Must be between 1 - 100
+     * @param percentileString the string to be processed
+     * @return an integer representation of the percentile
+     * @throws ParseException if the percentile is not an integer between 1 and 100
+     */
+    public static int parsePercentile(String percentileString) throws ParseException {
+        String trimmedPercentile = percentileString.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedPercentile)
+                || Integer.parseInt(trimmedPercentile) > 100) {
+            throw new ParseException(MESSAGE_INVALID_PERCENTILE);
+        }
+        return Integer.parseInt(trimmedPercentile);
+    }
+
     /**
      * Detects and returns any invalid prefixes found in the given {@code args} string.
      * A prefix is considered invalid if it matches the pattern {@code [a-zA-Z]+/}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PREFIX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import seedu.address.logic.commands.PercentileCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Parser class for Percentile command
+ */
+public class PercentileCommandParser implements Parser<PercentileCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PercentileCommand
+     * and returns a PercentileCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PercentileCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT);
+
+        if (argMultimap.getValue(PREFIX_SUBJECT).isEmpty()
+                || argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, PercentileCommand.MESSAGE_USAGE));
+        }
+        String invalidPrefixes =
+                ParserUtil.detectInvalidPrefixes(args, PREFIX_SUBJECT);
+        if (!invalidPrefixes.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_PREFIX, invalidPrefixes, PercentileCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUBJECT);
+
+        int percentile = ParserUtil.parsePercentile(argMultimap.getPreamble());
+        Subject subject = ParserUtil.parseSubject(argMultimap.getValue(PREFIX_SUBJECT).get());
+
+        return new PercentileCommand(percentile, subject);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PREFIX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Parser class for Rank command
+ */
+public class RankCommandParser implements Parser<RankCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RankCommand
+     * and returns a RankCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RankCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT);
+
+        if (argMultimap.getValue(PREFIX_SUBJECT).isEmpty()
+                || argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE));
+        }
+        String invalidPrefixes =
+                ParserUtil.detectInvalidPrefixes(args, PREFIX_SUBJECT);
+        if (!invalidPrefixes.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_PREFIX, invalidPrefixes, RankCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUBJECT);
+
+        Index index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        Subject subject = ParserUtil.parseSubject(argMultimap.getValue(PREFIX_SUBJECT).get());
+
+        return new RankCommand(index, subject);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PREFIX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+
+import seedu.address.logic.commands.RenameSubjectCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Parser class for RenameSubject command
+ */
+public class RenameSubjectCommandParser implements Parser<RenameSubjectCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RenameSubjectCommand
+     * and returns a RenameSubjectCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RenameSubjectCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SUBJECT, PREFIX_NEW_SUBJECT);
+
+        if (argMultimap.getValue(PREFIX_SUBJECT).isEmpty()
+                || argMultimap.getValue(PREFIX_NEW_SUBJECT).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenameSubjectCommand.MESSAGE_USAGE));
+        }
+        String invalidPrefixes =
+                ParserUtil.detectInvalidPrefixes(args, PREFIX_SUBJECT, PREFIX_NEW_SUBJECT);
+        if (!invalidPrefixes.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_PREFIX, invalidPrefixes, RenameSubjectCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SUBJECT, PREFIX_NEW_SUBJECT);
+
+        Subject target = ParserUtil.parseSubject(argMultimap.getValue(PREFIX_SUBJECT).get());
+        Subject renamedSubject = ParserUtil.parseSubject(argMultimap.getValue(PREFIX_NEW_SUBJECT).get());
+
+        return new RenameSubjectCommand(target, renamedSubject);
+    }
+}
@@ -2,13 +2,22 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.subject.ReadOnlySubjectStore;
 import seedu.address.model.subject.Subject;
+import seedu.address.model.subject.SubjectStore;
 
 /**
  * Wraps all data at the address-book level
@@ -17,7 +26,14 @@ import seedu.address.model.subject.Subject;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-    private final List<Subject> subjects = Subject.getAllSubjects();
+    private final SubjectStore subjectStore = new SubjectStore();
+    // Only built once it is first searched, so that copies of an address book, such as those made for saving,
+    // do not pay for an index they never use. Null until then.
+    private PersonSearchIndex searchIndex;
+    // Bumped on every change to the data, so that results worked out from it, and saved copies of it, can tell
+    // they are out of date. It is bumped before the person list changes, as listeners of the list may already
+    // check it.
+    private long version = 0;
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -32,7 +48,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons and subject enrollments in the {@code toBeCopied}
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
@@ -46,7 +62,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        version++;
         this.persons.setPersons(persons);
+        searchIndex = null;
     }
 
     /**
@@ -56,6 +74,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
+        subjectStore.resetData(newData.getSubjectStore());
     }
 
     //// person-level operations
@@ -68,12 +87,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code uniqueId}, if any.
+     */
+    public Optional<Person> getPersonById(int uniqueId) {
+        return persons.getById(uniqueId);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        version++;
         persons.add(p);
+        if (searchIndex != null) {
+            searchIndex.add(p);
+        }
     }
 
     /**
@@ -84,7 +114,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        version++;
         persons.setPerson(target, editedPerson);
+        subjectStore.replacePerson(target, editedPerson);
+        if (searchIndex != null) {
+            searchIndex.remove(target);
+            searchIndex.add(editedPerson);
+        }
     }
 
     /**
@@ -94,14 +130,107 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removePerson(Person key) {
         requireNonNull(key);
 
-        // Remove the person from all subject registries so scores/enrollments are not left dangling.
-        for (Subject subject : subjects) {
-            if (subject.getStudents().contains(key)) {
-                subject.unenrollPerson(key);
+        version++;
+        persons.remove(key);
+        if (searchIndex != null) {
+            searchIndex.remove(key);
+        }
+        // Remove the person from all subjects so scores/enrollments are not left dangling.
+        subjectStore.removePerson(key);
+    }
+
+    /**
+     * Removes all persons in {@code keys} from this {@code AddressBook} in a single pass over the person list.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        requireNonNull(keys);
+
+        version++;
+        persons.removeAll(keys);
+        for (Person key : keys) {
+            subjectStore.removePerson(key);
+            if (searchIndex != null) {
+                searchIndex.remove(key);
             }
         }
+    }
 
-        persons.remove(key);
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    //// subject-level operations
+
+    /**
+     * Replaces the subject catalogue with {@code subjects}, dropping all current enrollments.
+     * {@code subjects} must not contain duplicate subjects.
+     */
+    public void setSubjects(List<Subject> subjects) {
+        version++;
+        subjectStore.setSubjects(subjects);
+    }
+
+    /**
+     * Adds {@code subject} to the subject catalogue.
+     * The subject must not already be in the catalogue.
+     */
+    public void addSubject(Subject subject) {
+        version++;
+        subjectStore.addSubject(subject);
+    }
+
+    /**
+     * Renames {@code target} in the subject catalogue to {@code renamedSubject}, keeping its enrollments and scores.
+     * {@code target} must be in the catalogue, and no other subject in the catalogue may be named
+     * {@code renamedSubject}.
+     */
+    public void renameSubject(Subject target, Subject renamedSubject) {
+        version++;
+        subjectStore.renameSubject(target, renamedSubject);
+    }
+
+    /**
+     * Removes {@code subject} from the subject catalogue, unenrolling every child enrolled in it.
+     * {@code subject} must be in the catalogue.
+     */
+    public void retireSubject(Subject subject) {
+        version++;
+        subjectStore.retireSubject(subject);
+    }
+
+    /**
+     * Enrolls {@code person} in {@code subject}.
+     * If the person does not already have a score in the subject, the default score is assigned.
+     */
+    public void enrollPerson(Subject subject, Person person) {
+        version++;
+        subjectStore.enrollPerson(subject, person);
+    }
+
+    /**
+     * Unenrolls {@code person} from {@code subject}, removing their score in it.
+     */
+    public void unenrollPerson(Subject subject, Person person) {
+        version++;
+        subjectStore.unenrollPerson(subject, person);
+    }
+
+    /**
+     * Returns true if {@code person} is enrolled in {@code subject}.
+     */
+    public boolean isEnrolled(Subject subject, Person person) {
+        return subjectStore.isEnrolled(subject, person);
+    }
+
+    /**
+     * Sets the score of {@code person} in {@code subject}.
+     * {@code person} must be enrolled in {@code subject}.
+     */
+    public void setScore(Subject subject, Person person, int score) {
+        version++;
+        subjectStore.setScore(subject, person, score);
     }
 
     //// util methods
@@ -118,14 +247,42 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ReadOnlySubjectStore getSubjectStore() {
+        return subjectStore;
+    }
+
+    @Override
+    public Set<Person> getSearchCandidates(PersonContainsKeywordsPredicate predicate) {
+        return getSearchIndex().getCandidates(predicate);
+    }
+
+    /**
+     * Returns the edit distance from the fuzzy name keywords of {@code predicate} to the closest name word of each
+     * person they match.
+     *
+     * @see PersonSearchIndex#getFuzzyDistances(PersonContainsKeywordsPredicate)
+     */
+    public Map<Person, Integer> getFuzzyDistances(PersonContainsKeywordsPredicate predicate) {
+        return getSearchIndex().getFuzzyDistances(predicate);
+    }
+
+    private PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex();
+            searchIndex.setPersons(getPersonList());
+        }
+        return searchIndex;
+    }
+
     /**
-     * Checks if the subject exists in the address book.
+     * Checks if the subject exists in the subject catalogue of the address book.
      * @param subject
      * @return
      */
     public boolean hasSubject(Subject subject) {
         requireNonNull(subject);
-        return subjects.contains(subject);
+        return subjectStore.hasSubject(subject);
     }
 
     /**
@@ -133,7 +290,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @return
      */
     public List<Subject> getSubjectList() {
-        return List.copyOf(subjects);
+        return subjectStore.getSubjectList();
     }
 
     @Override
@@ -148,11 +305,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         AddressBook otherAddressBook = (AddressBook) other;
-        return persons.equals(otherAddressBook.persons);
+        return persons.equals(otherAddressBook.persons)
+                && subjectStore.equals(otherAddressBook.subjectStore);
     }
 
     @Override
     public int hashCode() {
-        return persons.hashCode();
+        return Objects.hash(persons, subjectStore);
     }
 }
@@ -0,0 +1,240 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+
+/**
+ * A change made to the address book of a {@code Model}, as recorded in its change log.
+ *
+ * There is one type of change for each way a {@code Model} changes its address book. Changes hold the persons and
+ * subjects they involve, which are immutable, so a change can be saved, or applied to a copy of the address book,
+ * on another thread.
+ */
+public class AddressBookChange {
+
+    /**
+     * The types of change.
+     */
+    public enum Type {
+        RESET, ADD_PERSON, SET_PERSON, REMOVE_PERSON, ADD_SUBJECT, RENAME_SUBJECT, RETIRE_SUBJECT, ENROLL, UNENROLL,
+        SET_SCORE
+    }
+
+    private final Type type;
+    // The data the address book is reset to. Only set for RESET.
+    private final ReadOnlyAddressBook data;
+    // The person added, replaced, removed, enrolled, unenrolled or scored.
+    private final Person person;
+    // The person replacing person. Only set for SET_PERSON.
+    private final Person editedPerson;
+    // The subject added, renamed, retired, enrolled in, unenrolled from or scored in.
+    private final Subject subject;
+    // The new name of subject. Only set for RENAME_SUBJECT.
+    private final Subject renamedSubject;
+    private final int score;
+
+    private AddressBookChange(Type type, ReadOnlyAddressBook data, Person person, Person editedPerson,
+                              Subject subject, Subject renamedSubject, int score) {
+        this.type = type;
+        this.data = data;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.subject = subject;
+        this.renamedSubject = renamedSubject;
+        this.score = score;
+    }
+
+    /**
+     * Returns a change that replaces all the data of the address book with {@code data}.
+     * {@code data} must not change afterwards.
+     */
+    public static AddressBookChange reset(ReadOnlyAddressBook data) {
+        requireNonNull(data);
+        return new AddressBookChange(Type.RESET, data, null, null, null, null, 0);
+    }
+
+    /**
+     * Returns a change that adds {@code person} to the end of the person list.
+     */
+    public static AddressBookChange addPerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD_PERSON, null, person, null, null, null, 0);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}, keeping the scores of {@code target}.
+     */
+    public static AddressBookChange setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new AddressBookChange(Type.SET_PERSON, null, target, editedPerson, null, null, 0);
+    }
+
+    /**
+     * Returns a change that removes {@code target}, along with their scores.
+     */
+    public static AddressBookChange removePerson(Person target) {
+        requireNonNull(target);
+        return new AddressBookChange(Type.REMOVE_PERSON, null, target, null, null, null, 0);
+    }
+
+    /**
+     * Returns a change that adds {@code subject} to the subject catalogue.
+     */
+    public static AddressBookChange addSubject(Subject subject) {
+        requireNonNull(subject);
+        return new AddressBookChange(Type.ADD_SUBJECT, null, null, null, subject, null, 0);
+    }
+
+    /**
+     * Returns a change that renames {@code target} to {@code renamedSubject}, keeping its scores.
+     */
+    public static AddressBookChange renameSubject(Subject target, Subject renamedSubject) {
+        requireAllNonNull(target, renamedSubject);
+        return new AddressBookChange(Type.RENAME_SUBJECT, null, null, null, target, renamedSubject, 0);
+    }
+
+    /**
+     * Returns a change that removes {@code subject} from the subject catalogue, along with its scores.
+     */
+    public static AddressBookChange retireSubject(Subject subject) {
+        requireNonNull(subject);
+        return new AddressBookChange(Type.RETIRE_SUBJECT, null, null, null, subject, null, 0);
+    }
+
+    /**
+     * Returns a change that enrolls {@code person} in {@code subject}, if they are not enrolled already.
+     */
+    public static AddressBookChange enroll(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        return new AddressBookChange(Type.ENROLL, null, person, null, subject, null, 0);
+    }
+
+    /**
+     * Returns a change that unenrolls {@code person} from {@code subject}.
+     */
+    public static AddressBookChange unenroll(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        return new AddressBookChange(Type.UNENROLL, null, person, null, subject, null, 0);
+    }
+
+    /**
+     * Returns a change that sets the score of {@code person} in {@code subject} to {@code score}.
+     */
+    public static AddressBookChange setScore(Subject subject, Person person, int score) {
+        requireAllNonNull(subject, person);
+        return new AddressBookChange(Type.SET_SCORE, null, person, null, subject, null, score);
+    }
+
+    /**
+     * Makes this change to {@code addressBook}, which must hold the data this change was made to.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        switch (type) {
+        case RESET:
+            addressBook.resetData(data);
+            break;
+        case ADD_PERSON:
+            addressBook.addPerson(person);
+            break;
+        case SET_PERSON:
+            addressBook.setPerson(person, editedPerson);
+            break;
+        case REMOVE_PERSON:
+            addressBook.removePerson(person);
+            break;
+        case ADD_SUBJECT:
+            addressBook.addSubject(subject);
+            break;
+        case RENAME_SUBJECT:
+            addressBook.renameSubject(subject, renamedSubject);
+            break;
+        case RETIRE_SUBJECT:
+            addressBook.retireSubject(subject);
+            break;
+        case ENROLL:
+            addressBook.enrollPerson(subject, person);
+            break;
+        case UNENROLL:
+            addressBook.unenrollPerson(subject, person);
+            break;
+        case SET_SCORE:
+            addressBook.setScore(subject, person, score);
+            break;
+        default:
+            throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public ReadOnlyAddressBook getData() {
+        return data;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Person getEditedPerson() {
+        return editedPerson;
+    }
+
+    public Subject getSubject() {
+        return subject;
+    }
+
+    public Subject getRenamedSubject() {
+        return renamedSubject;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+                && Objects.equals(data, otherChange.data)
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(editedPerson, otherChange.editedPerson)
+                && Objects.equals(subject, otherChange.subject)
+                && Objects.equals(renamedSubject, otherChange.renamedSubject)
+                && score == otherChange.score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, data, person, editedPerson, subject, renamedSubject, score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("person", person)
+                .add("editedPerson", editedPerson)
+                .add("subject", subject)
+                .add("renamedSubject", renamedSubject)
+                .add("score", score)
+                .toString();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Tests an array of persons against a predicate on a {@code ForkJoinPool}, marking the matches in a bitmap over
+ * their positions in the array.
+ *
+ * The range of persons is halved until it is no longer than the chunk size, and each chunk is tested by one task.
+ * The predicate must be safe to test from several threads at once.
+ */
+class MatchTask extends RecursiveAction {
+
+    static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private final Person[] persons;
+    private final boolean[] matches;
+    private final Predicate<Person> predicate;
+    private final int from;
+    private final int to;
+
+    private MatchTask(Person[] persons, boolean[] matches, Predicate<Person> predicate, int from, int to) {
+        this.persons = persons;
+        this.matches = matches;
+        this.predicate = predicate;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that match {@code predicate}, tested across the pool the calling
+     * thread belongs to, or across the common pool if it belongs to none.
+     */
+    static Set<Person> findMatches(Person[] persons, Predicate<Person> predicate) {
+        boolean[] matches = new boolean[persons.length];
+        new MatchTask(persons, matches, predicate, 0, persons.length).invoke();
+
+        Set<Person> matchSet = new HashSet<>();
+        for (int i = 0; i < persons.length; i++) {
+            if (matches[i]) {
+                matchSet.add(persons[i]);
+            }
+        }
+        return matchSet;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= DEFAULT_CHUNK_SIZE) {
+            for (int i = from; i < to; i++) {
+                matches[i] = predicate.test(persons[i]);
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new MatchTask(persons, matches, predicate, from, middle),
+                new MatchTask(persons, matches, predicate, middle, to));
+    }
+}
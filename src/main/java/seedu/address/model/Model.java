@@ -1,7 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -16,6 +20,9 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /** {@code Comparator} that keeps persons in the order they were added */
+    Comparator<Person> COMPARATOR_ORDER_ADDED = (unused1, unused2) -> 0;
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -54,17 +61,40 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the changes made to the address book since this was last called, in the order they were made, and
+     * forgets them.
+     */
+    List<AddressBookChange> takeAddressBookChanges();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code uniqueId}, if any.
+     */
+    Optional<Person> getPersonById(int uniqueId);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes the person with the given {@code uniqueId}.
+     * The person must exist in the address book.
+     */
+    void deletePersonById(int uniqueId);
+
+    /**
+     * Deletes all the given persons.
+     * Every person must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -78,7 +108,14 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Replaces the person with the given {@code uniqueId} with {@code editedPerson}.
+     * The person must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPersonById(int uniqueId, Person editedPerson);
+
+    /** Returns an unmodifiable view of the filtered person list, in its sorted order */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -87,6 +124,44 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Has filters given to {@link #updateFilteredPersonListInBackground(Predicate)} worked out in the background,
+     * and shown by running code on {@code publisher}, which must run it on the thread that owns the filtered list.
+     */
+    void setFilterPublisher(Executor publisher);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * If a filter publisher is set and there are many persons to test, they are tested on a background fork-join
+     * task instead of the calling thread, and the matches are shown in one change through the publisher, unless the
+     * filter is updated again first. Otherwise, the filter is updated before this returns.
+     * {@code predicate} must be safe to test from several threads at once.
+     *
+     * @return the number of persons listed, once they are shown. Cancelled if the filter is updated again first.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    CompletableFuture<Integer> updateFilteredPersonListInBackground(Predicate<Person> predicate);
+
+    /**
+     * Returns the predicate the filtered person list was last filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Sorts the filtered person list by the given {@code comparator}.
+     * Persons added or edited later are put in place by the same comparator.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void sortFilteredPersonList(Comparator<Person> comparator);
+
+    /**
+     * Sorts the filtered person list again if the subjects, enrollments or scores it may be sorted by have changed
+     * since it was last sorted.
+     * Persons are not moved as those change, so that a command can go through the list while changing them, and a
+     * command that changes many of them sorts the list only once.
+     */
+    void refreshFilteredPersonListOrder();
+
     /**
      * Returns true if the model contains the given subject.
      */
@@ -96,4 +171,77 @@ public interface Model {
      * Returns an unmodifiable view of the list of Subjects.
      */
     List<Subject> getSubjectList();
+
+    /**
+     * Returns the subject in the catalogue whose name equals {@code subjectName}, ignoring case.
+     */
+    Optional<Subject> findSubject(String subjectName);
+
+    /**
+     * Adds the given subject to the subject catalogue.
+     * {@code subject} must not already be in the catalogue.
+     */
+    void addSubject(Subject subject);
+
+    /**
+     * Renames {@code target} to {@code renamedSubject}, keeping its enrollments and scores.
+     * {@code target} must be in the catalogue, and no other subject in the catalogue may be named
+     * {@code renamedSubject}.
+     */
+    void renameSubject(Subject target, Subject renamedSubject);
+
+    /**
+     * Removes {@code subject} from the subject catalogue, unenrolling every child enrolled in it.
+     * {@code subject} must be in the catalogue.
+     */
+    void retireSubject(Subject subject);
+
+    /**
+     * Returns true if {@code person} is enrolled in {@code subject}.
+     */
+    boolean isEnrolled(Subject subject, Person person);
+
+    /**
+     * Enrolls {@code person} in {@code subject}.
+     * {@code person} must exist in the address book.
+     */
+    void enrollPerson(Subject subject, Person person);
+
+    /**
+     * Unenrolls {@code person} from {@code subject}, removing their score in it.
+     */
+    void unenrollPerson(Subject subject, Person person);
+
+    /**
+     * Sets the score of {@code person} in {@code subject}.
+     * {@code person} must be enrolled in {@code subject}.
+     */
+    void setScore(Subject subject, Person person, int score);
+
+    /**
+     * Returns up to {@code k} graded children of {@code subject} with the highest scores, highest first.
+     */
+    List<Person> getTopScorers(Subject subject, int k);
+
+    /**
+     * Returns up to {@code k} graded children of {@code subject} with the lowest scores, lowest first.
+     */
+    List<Person> getBottomScorers(Subject subject, int k);
+
+    /**
+     * Returns the graded children of {@code subject} below the {@code percentile}-th percentile, lowest first.
+     */
+    List<Person> getScorersBelowPercentile(Subject subject, int percentile);
+
+    /**
+     * Returns the rank of {@code person} in {@code subject}, where 1 is the highest score.
+     * {@code person} must have been graded in {@code subject}.
+     */
+    int getRank(Subject subject, Person person);
+
+    /**
+     * Returns the percentage of graded children in {@code subject} who scored lower than {@code person}.
+     * {@code person} must have been graded in {@code subject}.
+     */
+    int getPercentileRank(Subject subject, Person person);
 }
@@ -4,26 +4,60 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.subject.Subject;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    /** The smallest number of persons worth testing across a fork-join pool rather than one at a time. */
+    static final int PARALLEL_SEARCH_THRESHOLD = 10_000;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    // The predicate last given to updateFilteredPersonList, before it is answered through the query cache.
+    private Predicate<Person> filteredPersonListPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    // Puts persons that are added or edited in place, rather than sorting the whole list again.
+    private final SortedList<Person> sortedPersons;
+    // The order given to sortFilteredPersonList, or null for the order added.
+    private Comparator<Person> sortComparator;
+    // Whether subjects, enrollments or scores have changed since the filtered person list was last sorted.
+    private boolean isSortOrderStale = false;
+    // Ranks the persons matched by fuzzy name keywords closest first, or null if the filter has none.
+    private Comparator<Person> fuzzyRanking;
+    private final QueryCache queryCache = new QueryCache();
+    // Runs the code that shows filters worked out in the background, or null if filters are always worked out on
+    // the calling thread.
+    private Executor filterPublisher;
+    // Changed whenever the filter is updated, so that a filter worked out in the background after it is not shown.
+    private long filterGeneration = 0;
+    // The changes made to the address book since they were last taken.
+    private final List<AddressBookChange> addressBookChanges = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,6 +70,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -82,6 +117,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        addressBookChanges.add(AddressBookChange.reset(new AddressBook(addressBook)));
+        isSortOrderStale = true;
     }
 
     @Override
@@ -89,20 +126,46 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public List<AddressBookChange> takeAddressBookChanges() {
+        List<AddressBookChange> changes = new ArrayList<>(addressBookChanges);
+        addressBookChanges.clear();
+        return changes;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> getPersonById(int uniqueId) {
+        return addressBook.getPersonById(uniqueId);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        addressBookChanges.add(AddressBookChange.removePerson(target));
+    }
+
+    @Override
+    public void deletePersonById(int uniqueId) {
+        deletePerson(getPersonById(uniqueId).orElseThrow(PersonNotFoundException::new));
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+        addressBook.removePersons(targets);
+        targets.forEach(target -> addressBookChanges.add(AddressBookChange.removePerson(target)));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        addressBookChanges.add(AddressBookChange.addPerson(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -111,23 +174,188 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        addressBookChanges.add(AddressBookChange.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void setPersonById(int uniqueId, Person editedPerson) {
+        requireNonNull(editedPerson);
+        setPerson(getPersonById(uniqueId).orElseThrow(PersonNotFoundException::new), editedPerson);
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in its sorted order
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filterGeneration++;
+        if (!(predicate instanceof PersonContainsKeywordsPredicate)) {
+            showFilter(predicate, predicate);
+            return;
+        }
+
+        PersonContainsKeywordsPredicate keywordPredicate = (PersonContainsKeywordsPredicate) predicate;
+        long version = addressBook.getVersion();
+        Optional<Set<Person>> cachedMatches = queryCache.get(keywordPredicate, version);
+        Set<Person> matches = cachedMatches.isPresent()
+                ? cachedMatches.get()
+                : findMatches(addressBook.getSearchCandidates(keywordPredicate), keywordPredicate);
+        showMatches(predicate, matches, version);
+    }
+
+    @Override
+    public void setFilterPublisher(Executor publisher) {
+        requireNonNull(publisher);
+        filterPublisher = publisher;
+    }
+
+    @Override
+    public CompletableFuture<Integer> updateFilteredPersonListInBackground(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            updateFilteredPersonList(predicate);
+            return CompletableFuture.completedFuture(sortedPersons.size());
+        }
+
+        long version = addressBook.getVersion();
+        Collection<Person> candidates = addressBook.getPersonList();
+        if (predicate instanceof PersonContainsKeywordsPredicate) {
+            PersonContainsKeywordsPredicate keywordPredicate = (PersonContainsKeywordsPredicate) predicate;
+            Optional<Set<Person>> cachedMatches = queryCache.get(keywordPredicate, version);
+            if (cachedMatches.isPresent()) {
+                filterGeneration++;
+                showMatches(predicate, cachedMatches.get(), version);
+                return CompletableFuture.completedFuture(sortedPersons.size());
+            }
+            candidates = addressBook.getSearchCandidates(keywordPredicate);
+        }
+
+        long generation = ++filterGeneration;
+        if (filterPublisher == null || candidates.size() < PARALLEL_SEARCH_THRESHOLD) {
+            showMatches(predicate, findMatches(candidates, predicate), version);
+            return CompletableFuture.completedFuture(sortedPersons.size());
+        }
+
+        Person[] snapshot = candidates.toArray(new Person[0]);
+        CompletableFuture<Integer> listed = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> MatchTask.findMatches(snapshot, predicate), ForkJoinPool.commonPool())
+                .whenCompleteAsync((matches, error) -> {
+                    if (error != null) {
+                        logger.warning("Failed to filter the person list: " + error);
+                        listed.completeExceptionally(error);
+                    } else if (generation != filterGeneration) {
+                        listed.cancel(false);
+                    } else {
+                        showMatches(predicate, matches, version);
+                        listed.complete(sortedPersons.size());
+                    }
+                }, filterPublisher);
+        return listed;
+    }
+
+    /**
+     * Returns the persons in {@code candidates} that match {@code predicate}, tested across the common fork-join
+     * pool if there are many of them.
+     */
+    private static Set<Person> findMatches(Collection<Person> candidates, Predicate<Person> predicate) {
+        if (candidates.size() >= PARALLEL_SEARCH_THRESHOLD) {
+            return MatchTask.findMatches(candidates.toArray(new Person[0]), predicate);
+        }
+        return candidates.stream().filter(predicate).collect(Collectors.toSet());
+    }
+
+    /**
+     * Filters the person list by {@code predicate}, whose matches in version {@code version} of the address book are
+     * {@code matches}, in one change. Keyword matches are cached, and persons added or edited since that version
+     * are tested against {@code predicate} itself.
+     */
+    private void showMatches(Predicate<Person> predicate, Set<Person> matches, long version) {
+        if (predicate instanceof PersonContainsKeywordsPredicate) {
+            queryCache.put((PersonContainsKeywordsPredicate) predicate, version, matches);
+            logger.fine("Find query cache: " + queryCache);
+        }
+        showFilter(predicate, person -> matches.contains(person)
+                || (addressBook.getVersion() != version && predicate.test(person)));
+    }
+
+    /**
+     * Filters the person list by {@code filter}, which lists the same persons as {@code predicate}, and ranks fuzzy
+     * keyword matches.
+     */
+    private void showFilter(Predicate<Person> predicate, Predicate<Person> filter) {
+        filteredPersonListPredicate = predicate;
+        fuzzyRanking = predicate instanceof PersonContainsKeywordsPredicate
+                ? getFuzzyRanking((PersonContainsKeywordsPredicate) predicate)
+                : null;
+        filteredPersons.setPredicate(filter);
+        updateComparator();
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return filteredPersonListPredicate;
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        sortComparator = comparator == COMPARATOR_ORDER_ADDED ? null : comparator;
+        fuzzyRanking = null;
+        isSortOrderStale = false;
+        updateComparator();
+    }
+
+    @Override
+    public void refreshFilteredPersonListOrder() {
+        if (!isSortOrderStale) {
+            return;
+        }
+        isSortOrderStale = false;
+        if (sortComparator != null) {
+            // The sorted list only sorts itself again when it is given a different comparator.
+            Comparator<? super Person> comparator = sortedPersons.getComparator();
+            sortedPersons.setComparator(comparator::compare);
+        }
+    }
+
+    /**
+     * Sorts the filtered person list by the fuzzy ranking, if any, and then in the order it was last sorted in.
+     */
+    private void updateComparator() {
+        if (fuzzyRanking == null || sortComparator == null) {
+            sortedPersons.setComparator(fuzzyRanking == null ? sortComparator : fuzzyRanking);
+            return;
+        }
+        sortedPersons.setComparator(fuzzyRanking.thenComparing(sortComparator));
+    }
+
+    /**
+     * Returns a comparator that ranks persons by how close their name words are to the fuzzy name keywords of
+     * {@code predicate}, as measured in the search index, or null if there are no fuzzy name keywords.
+     * Persons matched by the other keywords alone rank as exact matches.
+     */
+    private Comparator<Person> getFuzzyRanking(PersonContainsKeywordsPredicate predicate) {
+        if (predicate.getFuzzyChildNameKeywords().isEmpty() && predicate.getFuzzyParentNameKeywords().isEmpty()) {
+            return null;
+        }
+        Map<Person, Integer> distances = addressBook.getFuzzyDistances(predicate);
+        return Comparator.comparingInt(person -> distances.getOrDefault(person, 0));
+    }
+
+    /**
+     * Returns the cache of {@code find} results, so that its statistics can be checked.
+     */
+    QueryCache getQueryCache() {
+        return queryCache;
     }
 
     @Override
@@ -141,6 +369,95 @@ public class ModelManager implements Model {
         return addressBook.getSubjectList();
     }
 
+    @Override
+    public Optional<Subject> findSubject(String subjectName) {
+        requireNonNull(subjectName);
+        return addressBook.getSubjectStore().findSubject(subjectName);
+    }
+
+    @Override
+    public void addSubject(Subject subject) {
+        requireNonNull(subject);
+        addressBook.addSubject(subject);
+        addressBookChanges.add(AddressBookChange.addSubject(subject));
+    }
+
+    @Override
+    public void renameSubject(Subject target, Subject renamedSubject) {
+        requireAllNonNull(target, renamedSubject);
+        addressBook.renameSubject(target, renamedSubject);
+        addressBookChanges.add(AddressBookChange.renameSubject(target, renamedSubject));
+        isSortOrderStale = true;
+    }
+
+    @Override
+    public void retireSubject(Subject subject) {
+        requireNonNull(subject);
+        addressBook.retireSubject(subject);
+        addressBookChanges.add(AddressBookChange.retireSubject(subject));
+        isSortOrderStale = true;
+    }
+
+    @Override
+    public boolean isEnrolled(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        return addressBook.isEnrolled(subject, person);
+    }
+
+    @Override
+    public void enrollPerson(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        addressBook.enrollPerson(subject, person);
+        addressBookChanges.add(AddressBookChange.enroll(subject, person));
+        isSortOrderStale = true;
+    }
+
+    @Override
+    public void unenrollPerson(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        addressBook.unenrollPerson(subject, person);
+        addressBookChanges.add(AddressBookChange.unenroll(subject, person));
+        isSortOrderStale = true;
+    }
+
+    @Override
+    public void setScore(Subject subject, Person person, int score) {
+        requireAllNonNull(subject, person);
+        addressBook.setScore(subject, person, score);
+        addressBookChanges.add(AddressBookChange.setScore(subject, person, score));
+        isSortOrderStale = true;
+    }
+
+    @Override
+    public List<Person> getTopScorers(Subject subject, int k) {
+        requireNonNull(subject);
+        return addressBook.getSubjectStore().getTopScorers(subject, k);
+    }
+
+    @Override
+    public List<Person> getBottomScorers(Subject subject, int k) {
+        requireNonNull(subject);
+        return addressBook.getSubjectStore().getBottomScorers(subject, k);
+    }
+
+    @Override
+    public List<Person> getScorersBelowPercentile(Subject subject, int percentile) {
+        requireNonNull(subject);
+        return addressBook.getSubjectStore().getScorersBelowPercentile(subject, percentile);
+    }
+
+    @Override
+    public int getRank(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        return addressBook.getSubjectStore().getRank(subject, person);
+    }
+
+    @Override
+    public int getPercentileRank(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        return addressBook.getSubjectStore().getPercentileRank(subject, person);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -155,7 +472,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
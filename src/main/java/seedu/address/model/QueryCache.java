@@ -0,0 +1,117 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Remembers the persons matched by the most recently used {@code find} predicates, so that running the same query
+ * again does not test every person again.
+ *
+ * Every result is stamped with the {@link AddressBook#getVersion() version} of the address book it was worked out
+ * for, and is only handed out while the address book is still at that version. A result found to be out of date
+ * is dropped and counted as an invalidation. Once the cache is full, the least recently used result is evicted.
+ */
+class QueryCache {
+
+    static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<PersonContainsKeywordsPredicate, Entry> entries;
+    private int hitCount = 0;
+    private int missCount = 0;
+    private int evictionCount = 0;
+    private int invalidationCount = 0;
+
+    QueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    QueryCache(int capacity) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PersonContainsKeywordsPredicate, Entry> eldest) {
+                if (size() > capacity) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the persons matched by {@code predicate} in version {@code version} of the address book, if known.
+     */
+    Optional<Set<Person>> get(PersonContainsKeywordsPredicate predicate, long version) {
+        Entry entry = entries.get(predicate);
+        if (entry != null && entry.version != version) {
+            entries.remove(predicate);
+            invalidationCount++;
+            entry = null;
+        }
+        if (entry == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(entry.matches);
+    }
+
+    /**
+     * Remembers that {@code predicate} matched {@code matches} in version {@code version} of the address book.
+     */
+    void put(PersonContainsKeywordsPredicate predicate, long version, Set<Person> matches) {
+        requireAllNonNull(predicate, matches);
+        entries.put(predicate, new Entry(version, matches));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int getHitCount() {
+        return hitCount;
+    }
+
+    int getMissCount() {
+        return missCount;
+    }
+
+    int getEvictionCount() {
+        return evictionCount;
+    }
+
+    int getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", entries.size())
+                .add("hits", hitCount)
+                .add("misses", missCount)
+                .add("evictions", evictionCount)
+                .add("invalidations", invalidationCount)
+                .toString();
+    }
+
+    private static class Entry {
+        private final long version;
+        private final Set<Person> matches;
+
+        Entry(long version, Set<Person> matches) {
+            this.version = version;
+            this.matches = matches;
+        }
+    }
+}
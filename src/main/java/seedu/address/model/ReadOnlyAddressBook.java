@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.subject.ReadOnlySubjectStore;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +18,20 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an unmodifiable view of the subject enrollments and scores of the persons in this address book.
+     */
+    ReadOnlySubjectStore getSubjectStore();
+
+    /**
+     * Returns the persons who may match {@code predicate}.
+     * Every person who matches {@code predicate} is returned, but the persons returned must still be tested against it.
+     */
+    Set<Person> getSearchCandidates(PersonContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns a number that changes whenever the persons, subjects, enrollments or scores in this address book change.
+     */
+    long getVersion();
+
 }
@@ -3,6 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,7 +30,13 @@ public class Name {
     public static final String VALIDATION_REGEX =
             "^(?=.*[A-Za-z])[A-Za-z .,'’\\-()/]+$";
 
+    private static final Collator COLLATOR = Collator.getInstance(Locale.ENGLISH);
+
     public final String fullName;
+    // Computed once, since every phonetic search compares against it.
+    private final Set<String> phoneticKeys;
+    // Computed once, so that comparisons when sorting are cheap.
+    private final CollationKey collationKey;
 
     /**
      * Constructs a {@code Name}.
@@ -33,6 +48,11 @@ public class Name {
         String trimmed = name.trim(); // trim whitespace from both ends
         checkArgument(isValidName(trimmed), MESSAGE_CONSTRAINTS);
         fullName = trimmed.replaceAll("\\s+", " ");
+        phoneticKeys = Arrays.stream(fullName.split("[^A-Za-z]+"))
+                .map(StringUtil::getSoundex)
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        collationKey = COLLATOR.getCollationKey(fullName);
     }
 
     /**
@@ -42,6 +62,20 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the Soundex codes of the words in this name.
+     */
+    public Set<String> getPhoneticKeys() {
+        return phoneticKeys;
+    }
+
+    /**
+     * Returns the key this name is sorted by, which orders names alphabetically, with case only breaking ties.
+     */
+    public CollationKey getCollationKey() {
+        return collationKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -1,18 +1,59 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name}, {@code Allergy} or {@code Tag} matches any of the keywords given.
+ * An allergy or tag keyword starting with {@value #REQUIRED_MARKER} names an allergy or tag the person must have,
+ * and one starting with {@value #EXCLUDED_MARKER} names one they must not have. These are matched against the
+ * whole allergy or tag name, ignoring case, and must all hold on top of any of the other keywords matching.
+ * A child or parent name keyword starting with {@value #FUZZY_MARKER} matches a name with a word within one edit
+ * of it for every {@value #FUZZY_MARKER}, up to {@value #MAX_FUZZY_DISTANCE} edits, and one starting with
+ * {@value #PHONETIC_MARKER} matches a name with a word that sounds like it, by {@link Name#getPhoneticKeys()}.
  */
 public class PersonContainsKeywordsPredicate implements Predicate<Person> {
+    public static final String REQUIRED_MARKER = "+";
+    public static final String EXCLUDED_MARKER = "-";
+    public static final String FUZZY_MARKER = "~";
+    public static final int MAX_FUZZY_DISTANCE = 3;
+    public static final String PHONETIC_MARKER = "?";
+
     private final List<String> childNameKeywords;
     private final List<String> parentNameKeywords;
     private final List<String> allergyKeywords;
     private final List<String> tagKeywords;
+    // The name keywords without a marker, the fuzzy ones, and the phonetic keys of the phonetic ones.
+    private final List<String> exactChildNameKeywords = new ArrayList<>();
+    private final List<String> exactParentNameKeywords = new ArrayList<>();
+    private final List<FuzzyKeyword> fuzzyChildNameKeywords = new ArrayList<>();
+    private final List<FuzzyKeyword> fuzzyParentNameKeywords = new ArrayList<>();
+    private final Set<String> childNamePhoneticKeys = new HashSet<>();
+    private final Set<String> parentNamePhoneticKeys = new HashSet<>();
+    // The allergy and tag keywords without a marker, and the lower-cased names of those with one.
+    private final List<String> anyOfAllergyKeywords = new ArrayList<>();
+    private final List<String> anyOfTagKeywords = new ArrayList<>();
+    private final Set<String> requiredAllergies = new HashSet<>();
+    private final Set<String> excludedAllergies = new HashSet<>();
+    private final Set<String> requiredTags = new HashSet<>();
+    private final Set<String> excludedTags = new HashSet<>();
+    // Compiled once here, so that each field is scanned once per person however many keywords were given.
+    private final KeywordMatcher childNameMatcher;
+    private final KeywordMatcher parentNameMatcher;
+    private final KeywordMatcher allergyMatcher;
+    private final KeywordMatcher tagMatcher;
 
     /**
      * Constructs a {@code PersonContainsKeywordsPredicate} with the given keywords for
@@ -35,35 +76,237 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         this.parentNameKeywords = parentNameKeywords;
         this.allergyKeywords = allergyKeywords;
         this.tagKeywords = tagKeywords;
+        sortNameKeywords(childNameKeywords, exactChildNameKeywords, fuzzyChildNameKeywords, childNamePhoneticKeys);
+        sortNameKeywords(parentNameKeywords, exactParentNameKeywords, fuzzyParentNameKeywords,
+                parentNamePhoneticKeys);
+        sortByMarker(allergyKeywords, anyOfAllergyKeywords, requiredAllergies, excludedAllergies);
+        sortByMarker(tagKeywords, anyOfTagKeywords, requiredTags, excludedTags);
+        this.childNameMatcher = new KeywordMatcher(exactChildNameKeywords);
+        this.parentNameMatcher = new KeywordMatcher(exactParentNameKeywords);
+        this.allergyMatcher = new KeywordMatcher(anyOfAllergyKeywords);
+        this.tagMatcher = new KeywordMatcher(anyOfTagKeywords);
+    }
+
+    private static void sortNameKeywords(List<String> keywords, List<String> exact, List<FuzzyKeyword> fuzzy,
+                                         Set<String> phoneticKeys) {
+        for (String keyword : keywords) {
+            if (keyword.length() > PHONETIC_MARKER.length() && keyword.startsWith(PHONETIC_MARKER)) {
+                String phoneticKey = StringUtil.getSoundex(keyword.substring(PHONETIC_MARKER.length()));
+                if (!phoneticKey.isEmpty()) {
+                    phoneticKeys.add(phoneticKey);
+                    continue;
+                }
+            }
+            int markerCount = 0;
+            while (keyword.startsWith(FUZZY_MARKER, markerCount)) {
+                markerCount += FUZZY_MARKER.length();
+            }
+            if (markerCount == 0 || markerCount == keyword.length()) {
+                exact.add(keyword);
+            } else {
+                fuzzy.add(new FuzzyKeyword(toKey(keyword.substring(markerCount)),
+                        Math.min(markerCount / FUZZY_MARKER.length(), MAX_FUZZY_DISTANCE)));
+            }
+        }
+    }
+
+    private static void sortByMarker(List<String> keywords, List<String> anyOf, Set<String> required,
+                                     Set<String> excluded) {
+        for (String keyword : keywords) {
+            if (keyword.length() > 1 && keyword.startsWith(REQUIRED_MARKER)) {
+                required.add(toKey(keyword.substring(REQUIRED_MARKER.length())));
+            } else if (keyword.length() > 1 && keyword.startsWith(EXCLUDED_MARKER)) {
+                excluded.add(toKey(keyword.substring(EXCLUDED_MARKER.length())));
+            } else {
+                anyOf.add(keyword);
+            }
+        }
+    }
+
+    /**
+     * Returns the key an allergy or tag name is compared by in {@link #getRequiredAllergies()} and the like.
+     */
+    public static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the lower-cased words of {@code name} that fuzzy keywords are compared against.
+     */
+    public static List<String> toWords(String name) {
+        return Arrays.stream(toKey(name).split("[^\\p{Alpha}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the child name keywords without a marker, any of which may match.
+     */
+    public List<String> getChildNameKeywords() {
+        return exactChildNameKeywords;
+    }
+
+    /**
+     * Returns the parent name keywords without a marker, any of which may match.
+     */
+    public List<String> getParentNameKeywords() {
+        return exactParentNameKeywords;
+    }
+
+    public List<FuzzyKeyword> getFuzzyChildNameKeywords() {
+        return fuzzyChildNameKeywords;
+    }
+
+    public List<FuzzyKeyword> getFuzzyParentNameKeywords() {
+        return fuzzyParentNameKeywords;
+    }
+
+    /**
+     * Returns the phonetic keys of the phonetic child name keywords.
+     */
+    public Set<String> getChildNamePhoneticKeys() {
+        return childNamePhoneticKeys;
+    }
+
+    /**
+     * Returns the phonetic keys of the phonetic parent name keywords.
+     */
+    public Set<String> getParentNamePhoneticKeys() {
+        return parentNamePhoneticKeys;
+    }
+
+    /**
+     * Returns the allergy keywords without a marker, any of which may match.
+     */
+    public List<String> getAllergyKeywords() {
+        return anyOfAllergyKeywords;
+    }
+
+    /**
+     * Returns the tag keywords without a marker, any of which may match.
+     */
+    public List<String> getTagKeywords() {
+        return anyOfTagKeywords;
+    }
+
+    public Set<String> getRequiredAllergies() {
+        return requiredAllergies;
+    }
+
+    public Set<String> getExcludedAllergies() {
+        return excludedAllergies;
+    }
+
+    public Set<String> getRequiredTags() {
+        return requiredTags;
+    }
+
+    public Set<String> getExcludedTags() {
+        return excludedTags;
+    }
+
+    /**
+     * Returns true if any keywords without a marker were given, so that a person must match one of them.
+     */
+    public boolean hasAnyOfKeywords() {
+        return !childNameKeywords.isEmpty() || !parentNameKeywords.isEmpty()
+                || !anyOfAllergyKeywords.isEmpty() || !anyOfTagKeywords.isEmpty();
+    }
+
+    /**
+     * Returns true if no keywords were given for any of the fields.
+     */
+    public boolean hasNoKeywords() {
+        return childNameKeywords.isEmpty() && parentNameKeywords.isEmpty()
+                && allergyKeywords.isEmpty() && tagKeywords.isEmpty();
+    }
+
+    /**
+     * Returns true if every person this predicate matches is sure to be matched by {@code other} too, such as when
+     * a keyword of {@code other} has been typed out further. Used to narrow down the previous results of
+     * {@code other} rather than testing every person again, so this may answer false even when it holds.
+     */
+    public boolean isNarrowerThan(PersonContainsKeywordsPredicate other) {
+        if (hasNoKeywords()) {
+            return true;
+        }
+        if (other.hasNoKeywords()
+                || !requiredAllergies.containsAll(other.requiredAllergies)
+                || !excludedAllergies.containsAll(other.excludedAllergies)
+                || !requiredTags.containsAll(other.requiredTags)
+                || !excludedTags.containsAll(other.excludedTags)) {
+            return false;
+        }
+        if (!other.hasAnyOfKeywords()) {
+            return true;
+        }
+        // Each keyword here must only match what one of the keywords of other does, in the same field.
+        return hasAnyOfKeywords()
+                && containsAny(exactChildNameKeywords, other.exactChildNameKeywords)
+                && containsAny(exactParentNameKeywords, other.exactParentNameKeywords)
+                && containsAny(anyOfAllergyKeywords, other.anyOfAllergyKeywords)
+                && containsAny(anyOfTagKeywords, other.anyOfTagKeywords)
+                && other.fuzzyChildNameKeywords.containsAll(fuzzyChildNameKeywords)
+                && other.fuzzyParentNameKeywords.containsAll(fuzzyParentNameKeywords)
+                && other.childNamePhoneticKeys.containsAll(childNamePhoneticKeys)
+                && other.parentNamePhoneticKeys.containsAll(parentNamePhoneticKeys);
+    }
+
+    /**
+     * Returns true if each of {@code keywords} contains one of {@code otherKeywords}, ignoring case.
+     */
+    private static boolean containsAny(List<String> keywords, List<String> otherKeywords) {
+        return keywords.stream().map(PersonContainsKeywordsPredicate::toKey).allMatch(keyword ->
+                otherKeywords.stream().map(PersonContainsKeywordsPredicate::toKey).anyMatch(keyword::contains));
     }
 
     /**
      * Compares the given {@code keywords} against the child's name, parent's name, allergies and tags,
-     * and returns a boolean indicating if it matches any of the respective keywords.
+     * and returns a boolean indicating if it matches any of the respective keywords, and has every required
+     * allergy and tag but none of the excluded ones.
      */
     @Override
     public boolean test(Person person) {
-        boolean matchesChildName = childNameKeywords
-                .stream()
-                .anyMatch(keyword -> (
-                        person.getChildName().fullName.toLowerCase().contains(keyword.toLowerCase())));
+        if (hasNoKeywords()) {
+            return false;
+        }
+        return (!hasAnyOfKeywords() || matchesAnyOf(person))
+                && matchesCategories(person.getAllergyList().stream().map(Allergy::toString),
+                        requiredAllergies, excludedAllergies)
+                && matchesCategories(person.getTags().stream().map(tag -> tag.tagName), requiredTags, excludedTags);
+    }
 
-        boolean matchesParentName = parentNameKeywords
-                .stream()
-                .anyMatch(keyword -> (
-                        person.getParentName().fullName.toLowerCase().contains(keyword.toLowerCase())));
+    private boolean matchesAnyOf(Person person) {
+        return childNameMatcher.matches(person.getChildName().fullName)
+                || parentNameMatcher.matches(person.getParentName().fullName)
+                || matchesFuzzily(person.getChildName().fullName, fuzzyChildNameKeywords)
+                || matchesFuzzily(person.getParentName().fullName, fuzzyParentNameKeywords)
+                || matchesPhonetically(person.getChildName(), childNamePhoneticKeys)
+                || matchesPhonetically(person.getParentName(), parentNamePhoneticKeys)
+                || (!anyOfAllergyKeywords.isEmpty() && person.getAllergyList().stream()
+                        .anyMatch(allergy -> allergyMatcher.matches(allergy.toString())))
+                || (!anyOfTagKeywords.isEmpty() && person.getTags().stream()
+                        .anyMatch(tag -> tagMatcher.matches(tag.toString())));
+    }
 
-        boolean matchesAllergy = allergyKeywords.stream()
-                .anyMatch(keyword -> person.getAllergyList().stream()
-                        .anyMatch(allergy -> (
-                                allergy.toString().toLowerCase().contains(keyword.toLowerCase()))));
+    private static boolean matchesFuzzily(String name, List<FuzzyKeyword> keywords) {
+        if (keywords.isEmpty()) {
+            return false;
+        }
+        List<String> words = toWords(name);
+        return keywords.stream().anyMatch(keyword -> words.stream().anyMatch(keyword::matches));
+    }
 
-        boolean matchesTag = tagKeywords.stream()
-                .anyMatch(keyword -> person.getTags().stream()
-                        .anyMatch(tag -> (
-                                tag.toString().toLowerCase().contains(keyword.toLowerCase()))));
+    private static boolean matchesPhonetically(Name name, Set<String> phoneticKeys) {
+        return !phoneticKeys.isEmpty() && name.getPhoneticKeys().stream().anyMatch(phoneticKeys::contains);
+    }
 
-        return matchesChildName || matchesParentName || matchesAllergy || matchesTag;
+    private static boolean matchesCategories(Stream<String> names, Set<String> required, Set<String> excluded) {
+        if (required.isEmpty() && excluded.isEmpty()) {
+            return true;
+        }
+        Set<String> keys = names.map(PersonContainsKeywordsPredicate::toKey).collect(Collectors.toSet());
+        return keys.containsAll(required) && excluded.stream().noneMatch(keys::contains);
     }
 
     @Override
@@ -84,6 +327,11 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
                 && tagKeywords.equals(otherPersonContainsKeywordsPredicate.tagKeywords);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(childNameKeywords, parentNameKeywords, allergyKeywords, tagKeywords);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -93,4 +341,56 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
                 .add("tagKeywords", tagKeywords)
                 .toString();
     }
+
+    /**
+     * A name keyword that matches the words of a name within a number of edits of it.
+     */
+    public static class FuzzyKeyword {
+        private final String word;
+        private final int maxDistance;
+
+        FuzzyKeyword(String word, int maxDistance) {
+            this.word = word;
+            this.maxDistance = maxDistance;
+        }
+
+        /**
+         * Returns the lower-cased word to match.
+         */
+        public String getWord() {
+            return word;
+        }
+
+        public int getMaxDistance() {
+            return maxDistance;
+        }
+
+        /**
+         * Returns true if the lower-cased {@code otherWord} is within {@link #getMaxDistance()} edits of this word.
+         */
+        public boolean matches(String otherWord) {
+            return Math.abs(otherWord.length() - word.length()) <= maxDistance
+                    && StringUtil.getEditDistance(word, otherWord) <= maxDistance;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof FuzzyKeyword)) {
+                return false;
+            }
+
+            FuzzyKeyword otherFuzzyKeyword = (FuzzyKeyword) other;
+            return word.equals(otherFuzzyKeyword.word) && maxDistance == otherFuzzyKeyword.maxDistance;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(word, maxDistance);
+        }
+    }
 }
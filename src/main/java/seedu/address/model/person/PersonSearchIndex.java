@@ -0,0 +1,415 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.BkTree;
+import seedu.address.model.person.PersonContainsKeywordsPredicate.FuzzyKeyword;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the child name, parent name, allergies and tags of persons by their trigrams, so that the persons who
+ * may contain a keyword in one of those fields can be found without looking at every person.
+ *
+ * Each indexed person is given a small slot number, and every field keeps a posting list of sorted slots per
+ * trigram. A keyword of at least {@link #GRAM_LENGTH} characters can only be contained in a value that has all
+ * of its trigrams, so its candidates are the intersection of their posting lists. Shorter keywords have no
+ * trigrams, so every person is a candidate for them. Candidates still have to be checked against the keywords,
+ * since a value with all the trigrams of a keyword need not contain the keyword itself.
+ *
+ * Allergies and tags are also indexed whole, with a bitmap of slots per allergy and per tag, so that the allergies
+ * and tags a person must or must not have are applied to the candidates with bitwise AND and AND NOT.
+ *
+ * The words of the child and parent names are kept in a {@link BkTree} each, so that the names within a few edits
+ * of a fuzzy keyword are found without measuring the distance to every word. Words are left in the tree when the
+ * last person with them is removed, and are skipped by searches until the index is rebuilt by
+ * {@link #setPersons(List)}. The same word indexes also map the phonetic keys of the names to the persons with
+ * them, so a phonetic keyword is answered by a single hash lookup.
+ */
+public class PersonSearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    /**
+     * The fields of a person that are indexed, with the values matched against the keywords of each field.
+     * The values are the same strings that {@link PersonContainsKeywordsPredicate} matches against.
+     */
+    private enum Field {
+        CHILD_NAME(person -> List.of(person.getChildName().fullName)),
+        PARENT_NAME(person -> List.of(person.getParentName().fullName)),
+        ALLERGY(person -> person.getAllergyList().stream().map(Allergy::toString).collect(Collectors.toList())),
+        TAG(person -> person.getTags().stream().map(Tag::toString).collect(Collectors.toList()));
+
+        private final Function<Person, List<String>> values;
+
+        Field(Function<Person, List<String>> values) {
+            this.values = values;
+        }
+    }
+
+    private final Map<Person, Integer> slotsByPerson = new HashMap<>();
+    private Person[] persons = new Person[16];
+    private final BitSet usedSlots = new BitSet();
+    private final Map<Field, Map<String, PostingList>> postingsByField = new EnumMap<>(Field.class);
+    private final Map<String, BitSet> slotsByAllergy = new HashMap<>();
+    private final Map<String, BitSet> slotsByTag = new HashMap<>();
+    private WordIndex childNameWords = new WordIndex();
+    private WordIndex parentNameWords = new WordIndex();
+
+    /**
+     * Creates an empty index.
+     */
+    public PersonSearchIndex() {
+        for (Field field : Field.values()) {
+            postingsByField.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Indexes {@code person}. Does nothing if the person is already indexed.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (slotsByPerson.containsKey(person)) {
+            return;
+        }
+
+        int slot = usedSlots.nextClearBit(0);
+        if (slot == persons.length) {
+            persons = Arrays.copyOf(persons, persons.length * 2);
+        }
+        persons[slot] = person;
+        usedSlots.set(slot);
+        slotsByPerson.put(person, slot);
+
+        for (Field field : Field.values()) {
+            Map<String, PostingList> postings = postingsByField.get(field);
+            for (String gram : getGrams(field.values.apply(person))) {
+                postings.computeIfAbsent(gram, unused -> new PostingList()).add(slot);
+            }
+        }
+        for (String allergy : getAllergyKeys(person)) {
+            slotsByAllergy.computeIfAbsent(allergy, unused -> new BitSet()).set(slot);
+        }
+        for (String tag : getTagKeys(person)) {
+            slotsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+        childNameWords.add(person.getChildName(), slot);
+        parentNameWords.add(person.getParentName(), slot);
+    }
+
+    /**
+     * Stops indexing {@code person}. Does nothing if the person is not indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByPerson.remove(person);
+        if (slot == null) {
+            return;
+        }
+
+        for (Field field : Field.values()) {
+            Map<String, PostingList> postings = postingsByField.get(field);
+            for (String gram : getGrams(field.values.apply(person))) {
+                PostingList postingList = postings.get(gram);
+                postingList.remove(slot);
+                if (postingList.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        clearSlot(slotsByAllergy, getAllergyKeys(person), slot);
+        clearSlot(slotsByTag, getTagKeys(person), slot);
+        childNameWords.remove(person.getChildName(), slot);
+        parentNameWords.remove(person.getParentName(), slot);
+        persons[slot] = null;
+        usedSlots.clear(slot);
+    }
+
+    private static void clearSlot(Map<String, BitSet> slotsByKey, Set<String> keys, int slot) {
+        for (String key : keys) {
+            BitSet slots = slotsByKey.get(key);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                slotsByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        slotsByPerson.clear();
+        this.persons = new Person[Math.max(16, persons.size())];
+        usedSlots.clear();
+        postingsByField.values().forEach(Map::clear);
+        slotsByAllergy.clear();
+        slotsByTag.clear();
+        childNameWords = new WordIndex();
+        parentNameWords = new WordIndex();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed persons who may match {@code predicate}.
+     * Every indexed person who matches {@code predicate} is returned, but not every person returned matches it.
+     */
+    public Set<Person> getCandidates(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        BitSet candidateSlots;
+        if (predicate.hasNoKeywords()) {
+            return new HashSet<>();
+        } else if (predicate.hasAnyOfKeywords()) {
+            candidateSlots = new BitSet();
+            addCandidates(candidateSlots, Field.CHILD_NAME, predicate.getChildNameKeywords());
+            addCandidates(candidateSlots, Field.PARENT_NAME, predicate.getParentNameKeywords());
+            addCandidates(candidateSlots, Field.ALLERGY, predicate.getAllergyKeywords());
+            addCandidates(candidateSlots, Field.TAG, predicate.getTagKeywords());
+            for (FuzzyKeyword keyword : predicate.getFuzzyChildNameKeywords()) {
+                childNameWords.addMatches(candidateSlots, keyword);
+            }
+            for (FuzzyKeyword keyword : predicate.getFuzzyParentNameKeywords()) {
+                parentNameWords.addMatches(candidateSlots, keyword);
+            }
+            childNameWords.addPhoneticMatches(candidateSlots, predicate.getChildNamePhoneticKeys());
+            parentNameWords.addPhoneticMatches(candidateSlots, predicate.getParentNamePhoneticKeys());
+        } else {
+            candidateSlots = (BitSet) usedSlots.clone();
+        }
+        applyCategories(candidateSlots, slotsByAllergy, predicate.getRequiredAllergies(),
+                predicate.getExcludedAllergies());
+        applyCategories(candidateSlots, slotsByTag, predicate.getRequiredTags(), predicate.getExcludedTags());
+
+        Set<Person> candidates = new HashSet<>();
+        for (int slot = candidateSlots.nextSetBit(0); slot >= 0; slot = candidateSlots.nextSetBit(slot + 1)) {
+            candidates.add(persons[slot]);
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distance from the fuzzy name keywords of {@code predicate} to the closest word of each indexed
+     * person they match, as measured by the BK-trees of the name words. Persons they do not match are left out.
+     */
+    public Map<Person, Integer> getFuzzyDistances(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Map<Integer, Integer> distancesBySlot = new HashMap<>();
+        for (FuzzyKeyword keyword : predicate.getFuzzyChildNameKeywords()) {
+            childNameWords.addDistances(distancesBySlot, keyword);
+        }
+        for (FuzzyKeyword keyword : predicate.getFuzzyParentNameKeywords()) {
+            parentNameWords.addDistances(distancesBySlot, keyword);
+        }
+
+        Map<Person, Integer> distances = new HashMap<>();
+        distancesBySlot.forEach((slot, distance) -> distances.put(persons[slot], distance));
+        return distances;
+    }
+
+    /**
+     * Adds the slots of the persons whose {@code field} may contain any of {@code keywords} to {@code slots}.
+     */
+    private void addCandidates(BitSet slots, Field field, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (keyword.length() < GRAM_LENGTH) {
+                // No trigram to narrow the search by, so everyone is a candidate.
+                slots.or(usedSlots);
+                return;
+            }
+            int[] matches = intersect(postingsByField.get(field), getGrams(List.of(keyword)));
+            for (int slot : matches) {
+                slots.set(slot);
+            }
+        }
+    }
+
+    /**
+     * Keeps only the slots in {@code slots} that are in the bitmap of every {@code required} key and in the
+     * bitmap of no {@code excluded} key.
+     */
+    private static void applyCategories(BitSet slots, Map<String, BitSet> slotsByKey, Set<String> required,
+                                        Set<String> excluded) {
+        for (String key : required) {
+            BitSet keySlots = slotsByKey.get(key);
+            if (keySlots == null) {
+                slots.clear();
+                return;
+            }
+            slots.and(keySlots);
+        }
+        for (String key : excluded) {
+            BitSet keySlots = slotsByKey.get(key);
+            if (keySlots != null) {
+                slots.andNot(keySlots);
+            }
+        }
+    }
+
+    private static Set<String> getAllergyKeys(Person person) {
+        return person.getAllergyList().stream()
+                .map(allergy -> PersonContainsKeywordsPredicate.toKey(allergy.toString()))
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> getTagKeys(Person person) {
+        return person.getTags().stream()
+                .map(tag -> PersonContainsKeywordsPredicate.toKey(tag.tagName))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the slots that are in the posting lists of all of {@code grams}, starting from the shortest list.
+     */
+    private static int[] intersect(Map<String, PostingList> postings, Set<String> grams) {
+        PostingList[] lists = new PostingList[grams.size()];
+        int i = 0;
+        for (String gram : grams) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                return new int[0];
+            }
+            lists[i++] = postingList;
+        }
+        Arrays.sort(lists, (first, second) -> Integer.compare(first.size, second.size));
+
+        int[] result = Arrays.copyOf(lists[0].slots, lists[0].size);
+        int resultSize = result.length;
+        for (int j = 1; j < lists.length && resultSize > 0; j++) {
+            int kept = 0;
+            for (int k = 0; k < resultSize; k++) {
+                if (lists[j].contains(result[k])) {
+                    result[kept++] = result[k];
+                }
+            }
+            resultSize = kept;
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    /**
+     * Returns the distinct trigrams of the lower-cased {@code values}.
+     */
+    private static Set<String> getGrams(List<String> values) {
+        Set<String> grams = new HashSet<>();
+        for (String value : values) {
+            String lowerCaseValue = value.toLowerCase();
+            for (int start = 0; start + GRAM_LENGTH <= lowerCaseValue.length(); start++) {
+                grams.add(lowerCaseValue.substring(start, start + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * The slots of the persons with each word and each phonetic key in one of their names, and a {@link BkTree}
+     * of those words.
+     */
+    private static class WordIndex {
+        private final BkTree tree = new BkTree();
+        private final Map<String, BitSet> slotsByWord = new HashMap<>();
+        private final Map<String, BitSet> slotsByPhoneticKey = new HashMap<>();
+
+        void add(Name name, int slot) {
+            for (String word : PersonContainsKeywordsPredicate.toWords(name.fullName)) {
+                tree.add(word);
+                slotsByWord.computeIfAbsent(word, unused -> new BitSet()).set(slot);
+            }
+            for (String phoneticKey : name.getPhoneticKeys()) {
+                slotsByPhoneticKey.computeIfAbsent(phoneticKey, unused -> new BitSet()).set(slot);
+            }
+        }
+
+        void remove(Name name, int slot) {
+            clearSlot(slotsByWord, new HashSet<>(PersonContainsKeywordsPredicate.toWords(name.fullName)), slot);
+            clearSlot(slotsByPhoneticKey, name.getPhoneticKeys(), slot);
+        }
+
+        /**
+         * Adds the slots of the persons with any of {@code phoneticKeys} to {@code slots}.
+         */
+        void addPhoneticMatches(BitSet slots, Set<String> phoneticKeys) {
+            for (String phoneticKey : phoneticKeys) {
+                BitSet keySlots = slotsByPhoneticKey.get(phoneticKey);
+                if (keySlots != null) {
+                    slots.or(keySlots);
+                }
+            }
+        }
+
+        /**
+         * Adds the slots of the persons with a word that {@code keyword} matches to {@code slots}.
+         */
+        void addMatches(BitSet slots, FuzzyKeyword keyword) {
+            for (BkTree.Match match : tree.search(keyword.getWord(), keyword.getMaxDistance())) {
+                BitSet wordSlots = slotsByWord.get(match.getWord());
+                if (wordSlots != null) {
+                    slots.or(wordSlots);
+                }
+            }
+        }
+
+        /**
+         * Records the distance from {@code keyword} to each word it matches against the slots of the persons with
+         * that word in {@code distances}, unless a smaller distance is recorded for them already.
+         */
+        void addDistances(Map<Integer, Integer> distances, FuzzyKeyword keyword) {
+            for (BkTree.Match match : tree.search(keyword.getWord(), keyword.getMaxDistance())) {
+                BitSet wordSlots = slotsByWord.getOrDefault(match.getWord(), new BitSet());
+                for (int slot = wordSlots.nextSetBit(0); slot >= 0; slot = wordSlots.nextSetBit(slot + 1)) {
+                    distances.merge(slot, match.getDistance(), Math::min);
+                }
+            }
+        }
+    }
+
+    /**
+     * A growable array of distinct slots, kept in ascending order.
+     */
+    private static class PostingList {
+        private int[] slots = new int[4];
+        private int size = 0;
+
+        void add(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -3,8 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +25,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are answered by a hash index keyed on the same fields as {@code Person#isSamePerson(Person)},
+ * which is kept in sync with the backing list on every mutation. A second index maps {@code Person#getUniqueId()} to
+ * the position of that person in the backing list, so that lookups, replacements and removals of a known person do not
+ * need to scan the list. No two persons in the list may share a unique id. Removing a person still costs time linear
+ * in the number of persons after it, as the backing list keeps the order persons were added in; several persons are
+ * therefore best removed together with {@link #removeAll(Collection)}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,36 +41,57 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> identityIndex = new HashMap<>();
+    private final Map<Integer, Integer> positionIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(identityKeyOf(toCheck));
+    }
+
+    /**
+     * Returns true if the list contains a person with the same unique id as the given argument.
+     */
+    public boolean containsId(Person toCheck) {
+        requireNonNull(toCheck);
+        return positionIndex.containsKey(toCheck.getUniqueId());
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, and no person in the list may have the same unique id.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || containsId(toAdd)) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(identityKeyOf(toAdd), toAdd);
+        positionIndex.put(toAdd.getUniqueId(), internalList.size() - 1);
+    }
+
+    /**
+     * Returns the person with the given {@code uniqueId}, if any.
+     */
+    public Optional<Person> getById(int uniqueId) {
+        Integer position = positionIndex.get(uniqueId);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person identity and the unique id of {@code editedPerson} must not be the same as those of another
+     * existing person in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -64,37 +99,89 @@ public class UniquePersonList implements Iterable<Person> {
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        if (target.getUniqueId() != editedPerson.getUniqueId() && containsId(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        identityIndex.remove(identityKeyOf(replaced));
+        identityIndex.put(identityKeyOf(editedPerson), editedPerson);
+        positionIndex.remove(replaced.getUniqueId());
+        positionIndex.put(editedPerson.getUniqueId(), index);
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     * The persons after it move up one position to keep the list in order, so this takes time linear in their number.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.remove(index);
+        identityIndex.remove(identityKeyOf(removed));
+        positionIndex.remove(removed.getUniqueId());
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getUniqueId(), i);
+        }
+    }
+
+    /**
+     * Removes all the equivalent persons in {@code toRemove} from the list in a single pass.
+     * Every person must exist in the list; if any does not, the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        boolean[] isRemoved = new boolean[internalList.size()];
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            isRemoved[index] = true;
+        }
+
+        List<Person> remaining = new ArrayList<>(internalList.size());
+        for (int i = 0; i < isRemoved.length; i++) {
+            Person person = internalList.get(i);
+            if (isRemoved[i]) {
+                identityIndex.remove(identityKeyOf(person));
+            } else {
+                remaining.add(person);
+            }
+        }
+        internalList.setAll(remaining);
+        rebuildPositionIndex();
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons or persons with the same unique id.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<String, Person> replacementIndex = indexPersons(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        rebuildPositionIndex();
     }
 
     /**
@@ -135,16 +222,42 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code target} in the backing list, or -1 if there is none.
+     * As unique ids are not shared, only the position indexed for the id of {@code target} needs to be checked.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person target) {
+        Integer position = positionIndex.get(target.getUniqueId());
+        return position != null && internalList.get(position).equals(target) ? position : -1;
+    }
+
+    private void rebuildPositionIndex() {
+        positionIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getUniqueId(), i);
+        }
+    }
+
+    /**
+     * Builds the identity index for {@code persons} in a single pass.
+     * Returns null if {@code persons} contains two persons with the same identity or the same unique id.
+     */
+    private static Map<String, Person> indexPersons(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>();
+        Set<Integer> uniqueIds = new HashSet<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(identityKeyOf(person), person) != null || !uniqueIds.add(person.getUniqueId())) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns the key under which {@code person} is stored in the identity index.
+     * Two persons have the same key iff {@code Person#isSamePerson(Person)} holds for them, i.e. they share the same
+     * child and parent names compared case-insensitively.
+     */
+    private static String identityKeyOf(Person person) {
+        return person.getChildName().fullName.toLowerCase() + "\n" + person.getParentName().fullName.toLowerCase();
     }
 }
@@ -0,0 +1,139 @@
+package seedu.address.model.subject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.exceptions.SubjectNotFoundException;
+
+/**
+ * Unmodifiable view of the subject catalogue, enrollments and scores of an address book.
+ * Methods that query the enrollments or scores of a {@code Subject} throw {@link SubjectNotFoundException}
+ * if it is not in the catalogue.
+ */
+public interface ReadOnlySubjectStore {
+
+    /**
+     * Returns the subjects in the catalogue, in catalogue order.
+     */
+    List<Subject> getSubjectList();
+
+    /**
+     * Returns true if {@code subject} is in the catalogue.
+     */
+    boolean hasSubject(Subject subject);
+
+    /**
+     * Returns the subject in the catalogue whose name equals {@code subjectName}, ignoring case.
+     */
+    Optional<Subject> findSubject(String subjectName);
+
+    /**
+     * Returns true if {@code person} is enrolled in {@code subject}.
+     */
+    boolean isEnrolled(Subject subject, Person person);
+
+    /**
+     * Returns the number of students enrolled in {@code subject}.
+     */
+    int getEnrolledCount(Subject subject);
+
+    /**
+     * Returns a read-only live view of the students enrolled in {@code subject}.
+     * The view reflects later enrollments and unenrollments, so it must not be iterated while
+     * the store is being modified.
+     */
+    Set<Person> getStudents(Subject subject);
+
+    /**
+     * Returns the score of {@code person} in {@code subject}.
+     *
+     * @throws IllegalStateException If the person is not enrolled in the subject.
+     */
+    int getScore(Subject subject, Person person);
+
+    /**
+     * Returns a new set of the subjects {@code person} is enrolled in.
+     */
+    Set<Subject> getSubjectsOf(Person person);
+
+    /**
+     * Returns the number of subjects {@code person} is enrolled in.
+     */
+    int getSubjectCount(Person person);
+
+    /**
+     * Returns a map of the subjects {@code person} is enrolled in to their score in each subject.
+     */
+    Map<Subject, Integer> getScoresOf(Person person);
+
+    /**
+     * Returns an unmodifiable snapshot of the scores of every student enrolled in {@code subject}.
+     */
+    Map<Person, Integer> getViewOnlyScores(Subject subject);
+
+    /**
+     * Returns the running statistics of the scores in {@code subject}.
+     * The returned object is a live view that is kept up to date as scores change.
+     */
+    ScoreStats getScoreStats(Subject subject);
+
+    /**
+     * Returns up to {@code k} graded students of {@code subject} with the highest scores, highest first.
+     * Students with tied scores are listed in the order they were graded.
+     */
+    List<Person> getTopScorers(Subject subject, int k);
+
+    /**
+     * Returns up to {@code k} graded students of {@code subject} with the lowest scores, lowest first.
+     * Students with tied scores are listed in the order they were graded.
+     */
+    List<Person> getBottomScorers(Subject subject, int k);
+
+    /**
+     * Returns the graded students of {@code subject} below the {@code percentile}-th percentile, lowest first.
+     * A student is below the percentile if fewer than {@code percentile} percent of the graded students
+     * scored strictly lower than them.
+     */
+    List<Person> getScorersBelowPercentile(Subject subject, int percentile);
+
+    /**
+     * Returns a new set of the students of {@code subject} whose score falls within {@code range}.
+     */
+    Set<Person> getStudentsInRange(Subject subject, ScoreRange range);
+
+    /**
+     * Returns the rank of {@code person} in {@code subject}, where 1 is the highest score.
+     * Students with the same score share a rank.
+     *
+     * @throws IllegalStateException If the person has not been graded in the subject.
+     */
+    int getRank(Subject subject, Person person);
+
+    /**
+     * Returns the percentage of graded students in {@code subject} who scored strictly lower than {@code person},
+     * rounded down.
+     *
+     * @throws IllegalStateException If the person has not been graded in the subject.
+     */
+    int getPercentileRank(Subject subject, Person person);
+
+    /**
+     * Performs {@code action} on every student enrolled in {@code subject} and their score.
+     */
+    void forEachScore(Subject subject, ObjIntConsumer<Person> action);
+
+    /**
+     * Registers a listener that is notified whenever a score in any subject is added, changed or removed.
+     */
+    void addScoreListener(ScoreDict.ScoreChangeListener listener);
+
+    /**
+     * Unregisters a listener added with {@link #addScoreListener(ScoreDict.ScoreChangeListener)}.
+     */
+    void removeScoreListener(ScoreDict.ScoreChangeListener listener);
+
+}
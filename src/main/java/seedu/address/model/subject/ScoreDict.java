@@ -1,8 +1,14 @@
 package seedu.address.model.subject;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.ObjIntConsumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
@@ -11,19 +17,62 @@ import seedu.address.model.person.Person;
 /**
  * Represents a mapping from {@link Person} to their scores in a particular subject.
  * Provides controlled access to add, remove, and query scores.
+ *
+ * Scores are kept in an open-addressing table probed by {@link Person#getUniqueId()}, with the ids in an
+ * {@code int[]} column and the scores in a {@code byte[]} column, so a score costs a few bytes rather than a
+ * boxed map entry. A {@link ScoreStats} and a {@link ScoreRanking} are updated on every change, so summaries
+ * and rankings of the subject are available without a scan. An {@link ObservableMap} copy of the scores is only
+ * built if {@link #getObservableScores()} is called; the UI should register a {@link ScoreChangeListener} instead.
  */
 public class ScoreDict {
-    private final ObservableMap<Person, Integer> scores = FXCollections.observableHashMap();
+    public static final String MESSAGE_SCORE_OUT_OF_RANGE = "Score must be between %1$d and %2$d, but was %3$d.";
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private byte[] values = new byte[INITIAL_CAPACITY];
+    // The person stored in each slot, or null if the slot is empty. Kept so that scores can be handed back per person.
+    private Person[] persons = new Person[INITIAL_CAPACITY];
+    private int size = 0;
+    private final ScoreStats stats = new ScoreStats();
+    private final ScoreRanking ranking = new ScoreRanking(this, INITIAL_CAPACITY);
+
+    private final List<ScoreChangeListener> listeners = new ArrayList<>();
+    private ObservableMap<Person, Integer> observableScores;
 
     /**
      * Adds or updates the score of a person.
      * Made public so storage/deserialization code can directly populate scores.
      *
      * @param person The person whose score is to be set.
-     * @param score  The score to assign to the person.
+     * @param score  The score to assign to the person, from {@link Subject#getDefaultScore()} (ungraded) to
+     *               {@link ScoreStats#MAX_SCORE}.
      */
     public void setScore(Person person, int score) {
-        scores.put(person, score);
+        checkArgument(score >= Subject.getDefaultScore() && score <= ScoreStats.MAX_SCORE,
+                String.format(MESSAGE_SCORE_OUT_OF_RANGE, Subject.getDefaultScore(), ScoreStats.MAX_SCORE, score));
+        int slot = findSlot(person);
+        if (persons[slot] == null) {
+            persons[slot] = person;
+            ids[slot] = person.getUniqueId();
+            size++;
+        } else if (values[slot] == score) {
+            return;
+        } else {
+            stats.remove(values[slot]);
+            ranking.remove(slot, values[slot]);
+        }
+        values[slot] = (byte) score;
+        stats.add(score);
+        ranking.add(slot, score);
+
+        if (size * 4 > persons.length * 3) {
+            resize(persons.length * 2);
+        }
+        if (observableScores != null) {
+            observableScores.put(person, score);
+        }
+        notifyListeners(person);
     }
 
     /**
@@ -33,7 +82,19 @@ public class ScoreDict {
      * @param person The person to remove.
      */
     public void removePerson(Person person) {
-        scores.remove(person);
+        int slot = findSlot(person);
+        if (persons[slot] == null) {
+            return;
+        }
+        stats.remove(values[slot]);
+        ranking.remove(slot, values[slot]);
+        deleteSlot(slot);
+        size--;
+
+        if (observableScores != null) {
+            observableScores.remove(person);
+        }
+        notifyListeners(person);
     }
 
     /**
@@ -43,7 +104,20 @@ public class ScoreDict {
      * @return An {@link Optional} containing the score if present, otherwise empty.
      */
     Optional<Integer> getScore(Person person) {
-        return Optional.ofNullable(scores.get(person));
+        int slot = findSlot(person);
+        return persons[slot] == null ? Optional.empty() : Optional.of((int) values[slot]);
+    }
+
+    /**
+     * Retrieves the score of the given person without allocating.
+     *
+     * @param person The person whose score is to be retrieved.
+     * @param missingValue The value to return if the person has no score.
+     * @return The score of the person, or {@code missingValue} if there is none.
+     */
+    int getScoreOrElse(Person person, int missingValue) {
+        int slot = findSlot(person);
+        return persons[slot] == null ? missingValue : values[slot];
     }
 
     /**
@@ -53,19 +127,178 @@ public class ScoreDict {
      * @return {@code true} if the person has a score, {@code false} otherwise.
      */
     boolean contains(Person person) {
-        return scores.containsKey(person);
+        return persons[findSlot(person)] != null;
+    }
+
+    /**
+     * Returns a person with a score in this dictionary whose unique id is {@code uniqueId}, or null if there is none.
+     */
+    Person getPersonWithId(int uniqueId) {
+        int mask = persons.length - 1;
+        int slot = hash(uniqueId) & mask;
+        while (persons[slot] != null && ids[slot] != uniqueId) {
+            slot = (slot + 1) & mask;
+        }
+        return persons[slot];
+    }
+
+    /**
+     * Returns the number of persons with a score in this dictionary.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the running statistics of the scores in this dictionary.
+     * The returned object is updated in place as scores change.
+     */
+    public ScoreStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Returns the ranking of the graded persons in this dictionary by score.
+     */
+    ScoreRanking getRanking() {
+        return ranking;
+    }
+
+    /**
+     * Returns the person in {@code slot}, for the {@link ScoreRanking} of this dictionary.
+     */
+    Person getPersonInSlot(int slot) {
+        return persons[slot];
+    }
+
+    /**
+     * Performs {@code action} on every person and score in this dictionary, without boxing the scores.
+     */
+    public void forEachScore(ObjIntConsumer<Person> action) {
+        for (int slot = 0; slot < persons.length; slot++) {
+            if (persons[slot] != null) {
+                action.accept(persons[slot], values[slot]);
+            }
+        }
     }
 
     /**
-     * Returns an unmodifiable view of all scores in this dictionary.
+     * Returns an unmodifiable snapshot of all scores in this dictionary.
      *
      * @return A map from {@link Person} to their scores.
      */
     public Map<Person, Integer> getAllScores() {
+        Map<Person, Integer> scores = new HashMap<>();
+        forEachScore(scores::put);
         return Collections.unmodifiableMap(scores);
     }
 
+    /**
+     * Returns an observable map that mirrors the scores in this dictionary.
+     * The map is created on the first call and kept up to date from then on, so callers that only need to be told
+     * about changes should use {@link #addListener(ScoreChangeListener)} instead.
+     */
     public ObservableMap<Person, Integer> getObservableScores() {
-        return scores;
+        if (observableScores == null) {
+            observableScores = FXCollections.observableHashMap();
+            forEachScore(observableScores::put);
+        }
+        return observableScores;
+    }
+
+    /**
+     * Registers a listener that is notified whenever a score is added, changed or removed.
+     */
+    public void addListener(ScoreChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener added with {@link #addListener(ScoreChangeListener)}.
+     */
+    public void removeListener(ScoreChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners(Person person) {
+        for (ScoreChangeListener listener : List.copyOf(listeners)) {
+            listener.onScoreChanged(person);
+        }
+    }
+
+    /**
+     * Returns the slot holding {@code person}, or the empty slot where it would be inserted.
+     * Slots are matched on the unique id first, and only then on {@link Person#equals(Object)}.
+     */
+    private int findSlot(Person person) {
+        int id = person.getUniqueId();
+        int mask = persons.length - 1;
+        int slot = hash(id) & mask;
+        while (persons[slot] != null
+                && (ids[slot] != id || (persons[slot] != person && !persons[slot].equals(person)))) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties {@code slot} and shifts back any later entries of its probe run, so that no tombstones are needed.
+     */
+    private void deleteSlot(int slot) {
+        int mask = persons.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (persons[next] != null) {
+            int home = hash(ids[next]) & mask;
+            // move the entry into the hole unless its home slot lies cyclically in (hole, next]
+            boolean homeBetween = hole <= next ? (hole < home && home <= next) : (hole < home || home <= next);
+            if (!homeBetween) {
+                ranking.move(next, hole, values[next]);
+                persons[hole] = persons[next];
+                ids[hole] = ids[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        persons[hole] = null;
+    }
+
+    /**
+     * Moves every entry into a table of {@code capacity} slots, re-ranking them in their ranked order so that tied
+     * persons keep the order they were graded in.
+     */
+    private void resize(int capacity) {
+        int[] rankedSlots = ranking.getSlotsInOrder();
+        Person[] oldPersons = persons;
+        int[] oldIds = ids;
+        byte[] oldValues = values;
+        persons = new Person[capacity];
+        ids = new int[capacity];
+        values = new byte[capacity];
+        ranking.reset(capacity);
+        for (int oldSlot : rankedSlots) {
+            int slot = findSlot(oldPersons[oldSlot]);
+            persons[slot] = oldPersons[oldSlot];
+            ids[slot] = oldIds[oldSlot];
+            values[slot] = oldValues[oldSlot];
+            ranking.add(slot, values[slot]);
+        }
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Listens for changes to the scores in a {@code ScoreDict}.
+     */
+    @FunctionalInterface
+    public interface ScoreChangeListener {
+        /**
+         * Called after the score of {@code person} has been added, changed or removed.
+         */
+        void onScoreChanged(Person person);
     }
 }
@@ -0,0 +1,78 @@
+package seedu.address.model.subject;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents a range of scores to filter the students of a subject by.
+ * A range either covers the scores from {@code low} to {@code high} inclusive, or matches only the students
+ * who have not been graded yet.
+ * Guarantees: immutable; {@code 0 <= low <= high <= ScoreStats.MAX_SCORE} unless the range is {@link #UNSET}
+ */
+public final class ScoreRange {
+
+    public static final ScoreRange UNSET = new ScoreRange(Subject.getDefaultScore(), Subject.getDefaultScore());
+
+    private final int low;
+    private final int high;
+
+    private ScoreRange(int low, int high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Returns a range covering the scores from {@code low} to {@code high}, inclusive.
+     */
+    public static ScoreRange between(int low, int high) {
+        checkArgument(low >= 0 && low <= high && high <= ScoreStats.MAX_SCORE,
+                "Score range must lie between 0 and " + ScoreStats.MAX_SCORE);
+        return new ScoreRange(low, high);
+    }
+
+    /**
+     * Returns true if this range matches the students who have not been graded.
+     */
+    public boolean isUnset() {
+        return this == UNSET;
+    }
+
+    public int getLow() {
+        return low;
+    }
+
+    public int getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns true if {@code score} falls within this range.
+     */
+    public boolean contains(int score) {
+        return isUnset() ? score < 0 : score >= low && score <= high;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScoreRange)) {
+            return false;
+        }
+
+        ScoreRange otherRange = (ScoreRange) other;
+        return low == otherRange.low && high == otherRange.high;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * low + high;
+    }
+
+    @Override
+    public String toString() {
+        return isUnset() ? "unset" : low + "-" + high;
+    }
+}
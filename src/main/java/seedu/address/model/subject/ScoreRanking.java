@@ -0,0 +1,222 @@
+package seedu.address.model.subject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Ranks the graded students of one subject by score.
+ *
+ * Scores only range from 0 to {@link ScoreStats#MAX_SCORE}, so students are kept in one bucket per score rather
+ * than in a sorted structure. Listing the top or bottom {@code k} students walks the buckets from either end and
+ * costs O(k) plus the fixed number of buckets, and the rank of a score is found by adding up bucket sizes.
+ * Students with tied scores are kept in the order they were graded. Ungraded students are not ranked, but are kept
+ * in a bucket of their own so that they can be listed too.
+ *
+ * The ranking holds no students of its own: each bucket is a doubly linked list of the slots of the
+ * {@link ScoreDict} that owns it, kept in two {@code int} columns alongside the slots. The dictionary tells the
+ * ranking whenever a slot is filled, emptied or moved.
+ */
+class ScoreRanking {
+
+    private static final int NONE = -1;
+    // Bucket 0 holds the ungraded students, and bucket score + 1 the students with that score.
+    private static final int BUCKET_COUNT = ScoreStats.MAX_SCORE + 2;
+
+    private final ScoreDict scores;
+    private final int[] heads = new int[BUCKET_COUNT];
+    private final int[] tails = new int[BUCKET_COUNT];
+    private final int[] bucketSizes = new int[BUCKET_COUNT];
+    // The next and previous slot in the bucket of each slot, or NONE at either end.
+    private int[] nextSlots;
+    private int[] previousSlots;
+    private int size = 0;
+
+    /**
+     * Creates an empty ranking of the slots of {@code scores}, which has {@code capacity} slots.
+     */
+    ScoreRanking(ScoreDict scores, int capacity) {
+        this.scores = scores;
+        reset(capacity);
+    }
+
+    /**
+     * Empties the ranking, for a dictionary that now has {@code capacity} slots.
+     */
+    void reset(int capacity) {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+        Arrays.fill(bucketSizes, 0);
+        nextSlots = new int[capacity];
+        previousSlots = new int[capacity];
+        size = 0;
+    }
+
+    /**
+     * Ranks the student in {@code slot} last among those with {@code score}, or records them as ungraded if the
+     * score is negative.
+     */
+    void add(int slot, int score) {
+        int bucket = bucketOf(score);
+        previousSlots[slot] = tails[bucket];
+        nextSlots[slot] = NONE;
+        if (tails[bucket] == NONE) {
+            heads[bucket] = slot;
+        } else {
+            nextSlots[tails[bucket]] = slot;
+        }
+        tails[bucket] = slot;
+        bucketSizes[bucket]++;
+        if (score >= 0) {
+            size++;
+        }
+    }
+
+    /**
+     * Stops ranking the student in {@code slot}, who was added with {@code score}.
+     */
+    void remove(int slot, int score) {
+        int bucket = bucketOf(score);
+        link(bucket, previousSlots[slot], nextSlots[slot]);
+        bucketSizes[bucket]--;
+        if (score >= 0) {
+            size--;
+        }
+    }
+
+    /**
+     * Moves the student with {@code score} from slot {@code from} to slot {@code to}, keeping their place.
+     */
+    void move(int from, int to, int score) {
+        int bucket = bucketOf(score);
+        int previous = previousSlots[from];
+        int next = nextSlots[from];
+        previousSlots[to] = previous;
+        nextSlots[to] = next;
+        link(bucket, previous, to);
+        link(bucket, to, next);
+    }
+
+    /**
+     * Returns every slot in the ranking, ungraded students first and then by score, lowest first, with tied
+     * students in the order they were graded.
+     */
+    int[] getSlotsInOrder() {
+        int[] slots = new int[scores.size()];
+        int count = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            for (int slot = heads[bucket]; slot != NONE; slot = nextSlots[slot]) {
+                slots[count++] = slot;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the number of ranked students.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code k} students with the highest scores, highest first.
+     */
+    List<Person> getTop(int k) {
+        List<Person> top = new ArrayList<>(Math.min(k, size));
+        for (int score = ScoreStats.MAX_SCORE; score >= 0 && top.size() < k; score--) {
+            addFromBucket(top, score, k);
+        }
+        return top;
+    }
+
+    /**
+     * Returns up to {@code k} students with the lowest scores, lowest first.
+     */
+    List<Person> getBottom(int k) {
+        List<Person> bottom = new ArrayList<>(Math.min(k, size));
+        for (int score = 0; score <= ScoreStats.MAX_SCORE && bottom.size() < k; score++) {
+            addFromBucket(bottom, score, k);
+        }
+        return bottom;
+    }
+
+    /**
+     * Returns the students whose score is below the {@code percentile}-th percentile, lowest first.
+     * A student is below the percentile if fewer than {@code percentile} percent of the ranked students
+     * scored strictly lower than them.
+     */
+    List<Person> getBelowPercentile(int percentile) {
+        List<Person> below = new ArrayList<>();
+        for (int score = 0; score <= ScoreStats.MAX_SCORE; score++) {
+            if ((long) below.size() * 100 >= (long) percentile * size) {
+                break;
+            }
+            addFromBucket(below, score, Integer.MAX_VALUE);
+        }
+        return below;
+    }
+
+    /**
+     * Returns the students whose score falls within {@code range}, lowest first.
+     */
+    Set<Person> getInRange(ScoreRange range) {
+        List<Person> inRange = new ArrayList<>();
+        if (range.isUnset()) {
+            addFromBucket(inRange, Subject.getDefaultScore(), Integer.MAX_VALUE);
+        } else {
+            for (int score = range.getLow(); score <= range.getHigh(); score++) {
+                addFromBucket(inRange, score, Integer.MAX_VALUE);
+            }
+        }
+        return new LinkedHashSet<>(inRange);
+    }
+
+    /**
+     * Returns the number of ranked students who scored strictly higher than {@code score}.
+     */
+    int countAbove(int score) {
+        int count = 0;
+        for (int higher = score + 1; higher <= ScoreStats.MAX_SCORE; higher++) {
+            count += bucketSizes[bucketOf(higher)];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of ranked students who scored strictly lower than {@code score}.
+     */
+    int countBelow(int score) {
+        return size - countAbove(score) - bucketSizes[bucketOf(score)];
+    }
+
+    private void addFromBucket(List<Person> result, int score, int limit) {
+        for (int slot = heads[bucketOf(score)]; slot != NONE && result.size() < limit; slot = nextSlots[slot]) {
+            result.add(scores.getPersonInSlot(slot));
+        }
+    }
+
+    /**
+     * Links {@code previous} to {@code next} in {@code bucket}, either of which may be NONE.
+     */
+    private void link(int bucket, int previous, int next) {
+        if (previous == NONE) {
+            heads[bucket] = next;
+        } else {
+            nextSlots[previous] = next;
+        }
+        if (next == NONE) {
+            tails[bucket] = previous;
+        } else {
+            previousSlots[next] = previous;
+        }
+    }
+
+    private static int bucketOf(int score) {
+        return score < 0 ? 0 : score + 1;
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.model.subject;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+/**
+ * Running statistics of the scores in one subject.
+ *
+ * The statistics are kept up to date by the {@link ScoreDict} of the subject as scores are added, changed and
+ * removed, so reading them never iterates over the students. Scores from 0 to {@link #MAX_SCORE} are counted in a
+ * histogram with one bucket per score; a negative score means the student has not been graded yet.
+ */
+public class ScoreStats {
+    public static final int MAX_SCORE = 100;
+
+    private final int[] histogram = new int[MAX_SCORE + 1];
+    private int gradedCount = 0;
+    private int ungradedCount = 0;
+    private long sum = 0;
+    // Lowest and highest graded scores, only meaningful while gradedCount > 0.
+    private int min = MAX_SCORE;
+    private int max = 0;
+
+    /**
+     * Records a new score.
+     */
+    void add(int score) {
+        if (score < 0) {
+            ungradedCount++;
+            return;
+        }
+        assert score <= MAX_SCORE : "Score must not exceed " + MAX_SCORE;
+
+        if (gradedCount == 0) {
+            min = score;
+            max = score;
+        } else {
+            min = Math.min(min, score);
+            max = Math.max(max, score);
+        }
+        histogram[score]++;
+        gradedCount++;
+        sum += score;
+    }
+
+    /**
+     * Forgets a score previously recorded with {@link #add(int)}.
+     */
+    void remove(int score) {
+        if (score < 0) {
+            assert ungradedCount > 0;
+            ungradedCount--;
+            return;
+        }
+        assert histogram[score] > 0 : "Removing a score that was never added";
+
+        histogram[score]--;
+        gradedCount--;
+        sum -= score;
+        if (gradedCount == 0 || histogram[score] > 0) {
+            return;
+        }
+        // The histogram has a fixed number of buckets, so moving past an emptied bucket is a bounded scan.
+        if (score == min) {
+            while (histogram[min] == 0) {
+                min++;
+            }
+        }
+        if (score == max) {
+            while (histogram[max] == 0) {
+                max--;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of students with a score, graded or not.
+     */
+    public int getCount() {
+        return gradedCount + ungradedCount;
+    }
+
+    /**
+     * Returns the number of students who have been graded.
+     */
+    public int getGradedCount() {
+        return gradedCount;
+    }
+
+    /**
+     * Returns the number of students who have not been graded yet.
+     */
+    public int getUngradedCount() {
+        return ungradedCount;
+    }
+
+    /**
+     * Returns the sum of the graded scores.
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the mean of the graded scores, or an empty {@code OptionalDouble} if no one has been graded.
+     */
+    public OptionalDouble getAverage() {
+        return gradedCount == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) sum / gradedCount);
+    }
+
+    /**
+     * Returns the lowest graded score, or an empty {@code OptionalInt} if no one has been graded.
+     */
+    public OptionalInt getMin() {
+        return gradedCount == 0 ? OptionalInt.empty() : OptionalInt.of(min);
+    }
+
+    /**
+     * Returns the highest graded score, or an empty {@code OptionalInt} if no one has been graded.
+     */
+    public OptionalInt getMax() {
+        return gradedCount == 0 ? OptionalInt.empty() : OptionalInt.of(max);
+    }
+
+    /**
+     * Returns the number of students graded exactly {@code score}.
+     */
+    public int getCountOf(int score) {
+        checkArgument(score >= 0 && score <= MAX_SCORE, "Score must be between 0 and " + MAX_SCORE);
+        return histogram[score];
+    }
+
+    /**
+     * Returns the number of students graded between {@code low} and {@code high}, inclusive.
+     */
+    public int getCountBetween(int low, int high) {
+        checkArgument(low >= 0 && low <= high && high <= MAX_SCORE,
+                "Range must lie between 0 and " + MAX_SCORE);
+        int count = 0;
+        for (int score = low; score <= high; score++) {
+            count += histogram[score];
+        }
+        return count;
+    }
+}
@@ -1,148 +1,107 @@
 package seedu.address.model.subject;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import seedu.address.model.person.Person;
+import java.util.List;
+import java.util.Locale;
 
 /**
- * Represents a fixed set of subjects (Math, English, Science).
- * Each subject maintains a list of enrolled students and their associated scores.
- * Subjects are singletons by nature of the enum.
+ * Represents a subject in the subject catalogue of an address book.
+ * Subject names are compared case-insensitively, so {@code new Subject("math")} equals {@link #MATH}.
+ * A subject only identifies a course; the subjects on offer, the students enrolled in them and their scores
+ * are kept per address book in a {@link SubjectStore}.
+ * Guarantees: immutable; name is valid as declared in {@link #isValidSubjectName(String)}
  */
-public enum Subject {
-    MATH,
-    ENGLISH,
-    SCIENCE;
+public final class Subject {
 
     public static final String MESSAGE_CONSTRAINTS =
-            "Subject string should not be empty, and it should be one of the registered subjects "
-                    + "MATH, ENGLISH, SCIENCE";
+            "Subject names should only contain alphanumeric characters and spaces, and it should not be blank";
+
+    /*
+     * The first character of the subject name must not be a whitespace,
+     * otherwise " " (a blank string) becomes a valid input.
+     */
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+
+    public static final Subject MATH = new Subject("MATH");
+    public static final Subject ENGLISH = new Subject("ENGLISH");
+    public static final Subject SCIENCE = new Subject("SCIENCE");
+
+    private static final List<Subject> DEFAULT_SUBJECTS = List.of(MATH, ENGLISH, SCIENCE);
     private static final int DEFAULT_SCORE = -1;
 
-    private final ScoreDict scoreDict = new ScoreDict();
-    private final Set<Person> students = new HashSet<>();
+    public final String subjectName;
+    private final String key;
+
+    /**
+     * Constructs a {@code Subject}.
+     *
+     * @param subjectName A valid subject name.
+     */
+    public Subject(String subjectName) {
+        requireNonNull(subjectName);
+        checkArgument(isValidSubjectName(subjectName), MESSAGE_CONSTRAINTS);
+        this.subjectName = subjectName;
+        this.key = toKey(subjectName);
+    }
 
     public static int getDefaultScore() {
         return DEFAULT_SCORE;
     }
 
     /**
-     * Gets the correct subject based on string, case insensitive
-     * @param name string of subject name
-     * @return the subject enum
+     * Returns true if a given string is a valid subject name.
      */
-    public static Subject fromString(String name) {
-        for (Subject subject : Subject.values()) {
-            if (subject.name().equalsIgnoreCase(name)) {
-                return subject;
-            }
-        }
-        throw new IllegalArgumentException("No subject found for name: " + name);
+    public static boolean isValidSubjectName(String test) {
+        return test.matches(VALIDATION_REGEX);
     }
 
     /**
-     * Checks whether the given name corresponds to a valid {@link Subject}.
-     * The comparison is case-insensitive.
+     * Returns the subjects a new address book starts with.
      *
-     * @param name The name of the subject to check.
-     * @return {@code true} if the name matches an existing subject; {@code false} otherwise.
+     * @return A list of the default subjects.
      */
-    public static boolean contains(String name) {
-        try {
-            fromString(name);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+    public static List<Subject> getDefaultSubjects() {
+        return DEFAULT_SUBJECTS;
     }
 
     /**
-     * Enrolls a person in this subject.
-     * Called internally when a person enrolls in a subject.
-     * If the person does not already have a score, a default score of -1 is assigned.
-     *
-     * @param person The person to enroll.
+     * Returns the case-insensitive lookup key of a subject name.
      */
-    public Person enrollPerson(Person person) {
-        students.add(person);
-        if (!scoreDict.contains(person)) {
-            scoreDict.setScore(person, DEFAULT_SCORE);
-        }
-
-        return person;
+    static String toKey(String subjectName) {
+        return subjectName.toLowerCase(Locale.ROOT);
     }
 
     /**
-     * Unenrolls a person from this subject, removing them from the score dictionary.
-     *
-     * @param person The person to unenroll.
+     * Returns the case-insensitive lookup key of this subject.
      */
-    public Person unenrollPerson(Person person) {
-        students.remove(person);
-        scoreDict.removePerson(person);
-
-        return person;
+    String getKey() {
+        return key;
     }
 
-    /**
-     * Sets the score of a student in this subject.
-     *
-     * @param person The student whose score is to be set.
-     * @param score The score to assign.
-     * @throws IllegalStateException If the student is not enrolled in this subject.
-     */
-    public void setScore(Person person, int score) {
-        if (!students.contains(person)) {
-            throw new IllegalStateException(
-                    person.getChildName() + " is not enrolled in " + name());
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
         }
-        assert (score == DEFAULT_SCORE || (score >= 0 && score <= 100))
-                : "Score must be -1 (unset) or between 0 and 100 inclusive.";
-        scoreDict.setScore(person, score);
-    }
 
-    /**
-     * Retrieves the score of a student in this subject.
-     *
-     * @param person The student whose score is to be retrieved.
-     * @return The student's score.
-     * @throws IllegalStateException If the student is not enrolled or has no score.
-     */
-    public int getScore(Person person) {
-        return scoreDict.getScore(person).orElseThrow(() ->
-                new IllegalStateException(person.getChildName() + " has no score for " + name()));
-    }
+        // instanceof handles nulls
+        if (!(other instanceof Subject)) {
+            return false;
+        }
 
-    /**
-     * Returns an unmodifiable set of students enrolled in this subject.
-     *
-     * @return A set of enrolled students.
-     */
-    public Set<Person> getStudents() {
-        return Set.copyOf(students);
+        Subject otherSubject = (Subject) other;
+        return key.equals(otherSubject.key);
     }
 
-    /**
-     * Returns the score dictionary for this subject.
-     *
-     * @return The {@link ScoreDict} associated with this subject.
-     */
-    public ScoreDict getScoreDict() {
-        return scoreDict;
+    @Override
+    public int hashCode() {
+        return key.hashCode();
     }
 
     @Override
     public String toString() {
-        return this.name();
-    }
-    /**
-     * Returns a list of all defined subjects.
-     *
-     * @return A list of all subjects.
-     */
-    public static List<Subject> getAllSubjects() {
-        return List.of(Subject.values());
+        return subjectName;
     }
 }
@@ -0,0 +1,542 @@
+package seedu.address.model.subject;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.exceptions.DuplicateSubjectException;
+import seedu.address.model.subject.exceptions.SubjectNotFoundException;
+
+/**
+ * Holds the subject catalogue of a single address book, the students enrolled in each subject and their scores.
+ *
+ * Every subject in the catalogue is given a small ordinal, and subjects are looked up by their lower-cased name
+ * in a hash map, so resolving a subject does not depend on the size of the catalogue. The students of each subject
+ * are kept as a {@link BitSet} over their unique ids, and are resolved back to persons through the scores of the
+ * subject, in which every enrolled student has an entry. A reverse index from each enrolled person to a
+ * {@code BitSet} of the ordinals of the subjects they take is maintained alongside. The ordinal of a retired
+ * subject is reused by the next subject added.
+ */
+public class SubjectStore implements ReadOnlySubjectStore {
+
+    private static final int NO_SCORE = Integer.MIN_VALUE;
+
+    // Catalogue entries by ordinal. A retired subject leaves a null entry until its ordinal is reused.
+    private final List<SubjectEntry> entries = new ArrayList<>();
+    private final Map<String, Integer> ordinalsByKey = new HashMap<>();
+    private final BitSet freeOrdinals = new BitSet();
+    private final Map<Person, BitSet> subjectsByPerson = new HashMap<>();
+    private final List<ScoreDict.ScoreChangeListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates a {@code SubjectStore} offering the default subjects, with no students enrolled.
+     */
+    public SubjectStore() {
+        for (Subject subject : Subject.getDefaultSubjects()) {
+            addSubject(subject);
+        }
+    }
+
+    /**
+     * Creates a {@code SubjectStore} with the subjects, enrollments and scores in {@code toBeCopied}.
+     */
+    public SubjectStore(ReadOnlySubjectStore toBeCopied) {
+        this();
+        resetData(toBeCopied);
+    }
+
+    /**
+     * Replaces the catalogue, enrollments and scores in this store with those in {@code newData}.
+     */
+    public void resetData(ReadOnlySubjectStore newData) {
+        requireNonNull(newData);
+
+        setSubjects(newData.getSubjectList());
+        for (Subject subject : newData.getSubjectList()) {
+            newData.forEachScore(subject, (person, score) -> {
+                enrollPerson(subject, person);
+                setScore(subject, person, score);
+            });
+        }
+    }
+
+    //// catalogue operations
+
+    /**
+     * Replaces the catalogue with {@code subjects}, unenrolling every student from the current subjects.
+     *
+     * @throws DuplicateSubjectException If {@code subjects} contains two subjects with the same name, ignoring case.
+     */
+    public void setSubjects(List<Subject> subjects) {
+        requireAllNonNull(subjects);
+        if (subjects.stream().map(Subject::getKey).distinct().count() != subjects.size()) {
+            throw new DuplicateSubjectException();
+        }
+
+        for (Subject subject : getSubjectList()) {
+            retireSubject(subject);
+        }
+        entries.clear();
+        freeOrdinals.clear();
+        for (Subject subject : subjects) {
+            addSubject(subject);
+        }
+    }
+
+    /**
+     * Adds {@code subject} to the catalogue.
+     *
+     * @throws DuplicateSubjectException If a subject with the same name, ignoring case, is already in the catalogue.
+     */
+    public void addSubject(Subject subject) {
+        requireNonNull(subject);
+        if (ordinalsByKey.containsKey(subject.getKey())) {
+            throw new DuplicateSubjectException();
+        }
+
+        int ordinal = freeOrdinals.isEmpty() ? entries.size() : freeOrdinals.nextSetBit(0);
+        SubjectEntry entry = new SubjectEntry(subject, ordinal);
+        entry.scores.addListener(this::notifyListeners);
+        if (ordinal == entries.size()) {
+            entries.add(entry);
+        } else {
+            entries.set(ordinal, entry);
+            freeOrdinals.clear(ordinal);
+        }
+        ordinalsByKey.put(subject.getKey(), ordinal);
+    }
+
+    /**
+     * Renames {@code target} to {@code renamedSubject}, keeping its enrollments and scores.
+     *
+     * @throws SubjectNotFoundException If {@code target} is not in the catalogue.
+     * @throws DuplicateSubjectException If another subject in the catalogue is already named {@code renamedSubject}.
+     */
+    public void renameSubject(Subject target, Subject renamedSubject) {
+        requireAllNonNull(target, renamedSubject);
+        SubjectEntry entry = getEntry(target);
+        Integer existingOrdinal = ordinalsByKey.get(renamedSubject.getKey());
+        if (existingOrdinal != null && existingOrdinal != entry.ordinal) {
+            throw new DuplicateSubjectException();
+        }
+
+        ordinalsByKey.remove(entry.subject.getKey());
+        ordinalsByKey.put(renamedSubject.getKey(), entry.ordinal);
+        entry.subject = renamedSubject;
+        for (Person student : entry.getStudentList()) {
+            notifyListeners(student);
+        }
+    }
+
+    /**
+     * Removes {@code subject} from the catalogue, unenrolling every student enrolled in it.
+     *
+     * @throws SubjectNotFoundException If {@code subject} is not in the catalogue.
+     */
+    public void retireSubject(Subject subject) {
+        requireNonNull(subject);
+        SubjectEntry entry = getEntry(subject);
+        for (Person student : entry.getStudentList()) {
+            unenrollPerson(entry, student);
+        }
+
+        ordinalsByKey.remove(entry.subject.getKey());
+        entries.set(entry.ordinal, null);
+        freeOrdinals.set(entry.ordinal);
+    }
+
+    @Override
+    public List<Subject> getSubjectList() {
+        List<Subject> subjects = new ArrayList<>(ordinalsByKey.size());
+        for (SubjectEntry entry : entries) {
+            if (entry != null) {
+                subjects.add(entry.subject);
+            }
+        }
+        return Collections.unmodifiableList(subjects);
+    }
+
+    @Override
+    public boolean hasSubject(Subject subject) {
+        requireNonNull(subject);
+        return ordinalsByKey.containsKey(subject.getKey());
+    }
+
+    @Override
+    public Optional<Subject> findSubject(String subjectName) {
+        requireNonNull(subjectName);
+        Integer ordinal = ordinalsByKey.get(Subject.toKey(subjectName));
+        return ordinal == null ? Optional.empty() : Optional.of(entries.get(ordinal).subject);
+    }
+
+    //// enrollment operations
+
+    /**
+     * Enrolls {@code person} in {@code subject}.
+     * If the person does not already have a score in the subject, the default score of -1 is assigned.
+     */
+    public void enrollPerson(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        SubjectEntry entry = getEntry(subject);
+
+        if (!entry.isEnrolled(person)) {
+            entry.studentIds.set(person.getUniqueId());
+            entry.scores.setScore(person, Subject.getDefaultScore());
+            subjectsByPerson.computeIfAbsent(person, unused -> new BitSet()).set(entry.ordinal);
+        }
+    }
+
+    /**
+     * Unenrolls {@code person} from {@code subject}, removing their score in it.
+     * Does nothing if the person is not enrolled in the subject.
+     */
+    public void unenrollPerson(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        unenrollPerson(getEntry(subject), person);
+    }
+
+    private void unenrollPerson(SubjectEntry entry, Person person) {
+        if (!entry.isEnrolled(person)) {
+            return;
+        }
+        entry.scores.removePerson(person);
+        if (entry.scores.getPersonWithId(person.getUniqueId()) == null) {
+            entry.studentIds.clear(person.getUniqueId());
+        }
+        BitSet ordinals = subjectsByPerson.get(person);
+        ordinals.clear(entry.ordinal);
+        if (ordinals.isEmpty()) {
+            subjectsByPerson.remove(person);
+        }
+    }
+
+    /**
+     * Unenrolls {@code person} from every subject they are enrolled in.
+     */
+    public void removePerson(Person person) {
+        requireNonNull(person);
+
+        BitSet ordinals = subjectsByPerson.get(person);
+        if (ordinals == null) {
+            return;
+        }
+        ordinals = (BitSet) ordinals.clone();
+        for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+            unenrollPerson(entries.get(ordinal), person);
+        }
+    }
+
+    /**
+     * Moves the enrollments and scores of {@code target} over to {@code editedPerson}.
+     */
+    public void replacePerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        for (Map.Entry<Subject, Integer> entry : getScoresOf(target).entrySet()) {
+            unenrollPerson(entry.getKey(), target);
+            enrollPerson(entry.getKey(), editedPerson);
+            setScore(entry.getKey(), editedPerson, entry.getValue());
+        }
+    }
+
+    /**
+     * Sets the score of {@code person} in {@code subject}.
+     *
+     * @throws IllegalStateException If the person is not enrolled in the subject.
+     */
+    public void setScore(Subject subject, Person person, int score) {
+        requireAllNonNull(subject, person);
+        SubjectEntry entry = getEntry(subject);
+
+        if (!entry.isEnrolled(person)) {
+            throw new IllegalStateException(person.getChildName() + " is not enrolled in " + entry.subject);
+        }
+        assert (score == Subject.getDefaultScore() || (score >= 0 && score <= 100))
+                : "Score must be -1 (unset) or between 0 and 100 inclusive.";
+        entry.scores.setScore(person, score);
+    }
+
+    @Override
+    public boolean isEnrolled(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        return getEntry(subject).isEnrolled(person);
+    }
+
+    @Override
+    public int getEnrolledCount(Subject subject) {
+        requireNonNull(subject);
+        // every enrolled student has a score, if only the default one
+        return getEntry(subject).scores.size();
+    }
+
+    @Override
+    public Set<Person> getStudents(Subject subject) {
+        requireNonNull(subject);
+        return getEntry(subject).studentsView;
+    }
+
+    @Override
+    public int getScore(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        SubjectEntry entry = getEntry(subject);
+
+        int score = entry.scores.getScoreOrElse(person, NO_SCORE);
+        if (score == NO_SCORE) {
+            throw new IllegalStateException(person.getChildName() + " has no score for " + entry.subject);
+        }
+        return score;
+    }
+
+    @Override
+    public Set<Subject> getSubjectsOf(Person person) {
+        requireNonNull(person);
+
+        Set<Subject> subjects = new LinkedHashSet<>();
+        BitSet ordinals = subjectsByPerson.get(person);
+        if (ordinals != null) {
+            ordinals.stream().forEach(ordinal -> subjects.add(entries.get(ordinal).subject));
+        }
+        return subjects;
+    }
+
+    @Override
+    public int getSubjectCount(Person person) {
+        requireNonNull(person);
+        BitSet ordinals = subjectsByPerson.get(person);
+        return ordinals == null ? 0 : ordinals.cardinality();
+    }
+
+    @Override
+    public Map<Subject, Integer> getScoresOf(Person person) {
+        requireNonNull(person);
+
+        Map<Subject, Integer> scores = new LinkedHashMap<>();
+        BitSet ordinals = subjectsByPerson.get(person);
+        if (ordinals != null) {
+            ordinals.stream().forEach(ordinal -> {
+                SubjectEntry entry = entries.get(ordinal);
+                scores.put(entry.subject, entry.scores.getScoreOrElse(person, Subject.getDefaultScore()));
+            });
+        }
+        return scores;
+    }
+
+    @Override
+    public Map<Person, Integer> getViewOnlyScores(Subject subject) {
+        requireNonNull(subject);
+        return getEntry(subject).scores.getAllScores();
+    }
+
+    @Override
+    public ScoreStats getScoreStats(Subject subject) {
+        requireNonNull(subject);
+        return getEntry(subject).scores.getStats();
+    }
+
+    @Override
+    public List<Person> getTopScorers(Subject subject, int k) {
+        requireNonNull(subject);
+        checkArgument(k >= 0, "k must not be negative");
+        return getEntry(subject).scores.getRanking().getTop(k);
+    }
+
+    @Override
+    public List<Person> getBottomScorers(Subject subject, int k) {
+        requireNonNull(subject);
+        checkArgument(k >= 0, "k must not be negative");
+        return getEntry(subject).scores.getRanking().getBottom(k);
+    }
+
+    @Override
+    public List<Person> getScorersBelowPercentile(Subject subject, int percentile) {
+        requireNonNull(subject);
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        return getEntry(subject).scores.getRanking().getBelowPercentile(percentile);
+    }
+
+    @Override
+    public Set<Person> getStudentsInRange(Subject subject, ScoreRange range) {
+        requireAllNonNull(subject, range);
+        return getEntry(subject).scores.getRanking().getInRange(range);
+    }
+
+    @Override
+    public int getRank(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        return getEntry(subject).scores.getRanking().countAbove(getGradedScore(subject, person)) + 1;
+    }
+
+    @Override
+    public int getPercentileRank(Subject subject, Person person) {
+        requireAllNonNull(subject, person);
+        ScoreRanking ranking = getEntry(subject).scores.getRanking();
+        return (int) ((long) ranking.countBelow(getGradedScore(subject, person)) * 100 / ranking.size());
+    }
+
+    private int getGradedScore(Subject subject, Person person) {
+        int score = getScore(subject, person);
+        if (score < 0) {
+            throw new IllegalStateException(person.getChildName() + " has not been graded in " + subject);
+        }
+        return score;
+    }
+
+    @Override
+    public void forEachScore(Subject subject, ObjIntConsumer<Person> action) {
+        requireAllNonNull(subject, action);
+        getEntry(subject).scores.forEachScore(action);
+    }
+
+    /**
+     * Returns the score dictionary backing {@code subject}.
+     */
+    ScoreDict getScoreDict(Subject subject) {
+        return getEntry(subject).scores;
+    }
+
+    private SubjectEntry getEntry(Subject subject) {
+        Integer ordinal = ordinalsByKey.get(subject.getKey());
+        if (ordinal == null) {
+            throw new SubjectNotFoundException();
+        }
+        return entries.get(ordinal);
+    }
+
+    @Override
+    public void addScoreListener(ScoreDict.ScoreChangeListener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeScoreListener(ScoreDict.ScoreChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners(Person person) {
+        for (ScoreDict.ScoreChangeListener listener : List.copyOf(listeners)) {
+            listener.onScoreChanged(person);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SubjectStore)) {
+            return false;
+        }
+
+        SubjectStore otherStore = (SubjectStore) other;
+        List<Subject> subjects = getSubjectList();
+        if (!subjects.equals(otherStore.getSubjectList())) {
+            return false;
+        }
+        for (Subject subject : subjects) {
+            SubjectEntry entry = getEntry(subject);
+            SubjectEntry otherEntry = otherStore.getEntry(subject);
+            if (!entry.studentIds.equals(otherEntry.studentIds)
+                    || !entry.scores.getAllScores().equals(otherEntry.scores.getAllScores())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (SubjectEntry entry : entries) {
+            if (entry != null) {
+                hash = 31 * hash + (entry.subject.hashCode() ^ entry.studentIds.hashCode());
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * The students enrolled in one subject of the catalogue and their scores.
+     */
+    private static class SubjectEntry {
+        private final int ordinal;
+        // The unique ids of the enrolled students, each of whom has an entry in the scores.
+        private final BitSet studentIds = new BitSet();
+        private final ScoreDict scores = new ScoreDict();
+        private final Set<Person> studentsView = new StudentSet();
+        private Subject subject;
+
+        SubjectEntry(Subject subject, int ordinal) {
+            this.subject = subject;
+            this.ordinal = ordinal;
+        }
+
+        boolean isEnrolled(Person person) {
+            return studentIds.get(person.getUniqueId()) && scores.contains(person);
+        }
+
+        /**
+         * Returns a copy of the enrolled students, which may be iterated while they are unenrolled.
+         */
+        List<Person> getStudentList() {
+            List<Person> students = new ArrayList<>(scores.size());
+            scores.forEachScore((student, unused) -> students.add(student));
+            return students;
+        }
+
+        /**
+         * A read-only live view of the enrolled students, in the order of their unique ids.
+         */
+        private class StudentSet extends AbstractSet<Person> {
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof Person && isEnrolled((Person) o);
+            }
+
+            @Override
+            public int size() {
+                return scores.size();
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return new Iterator<>() {
+                    private int nextId = studentIds.nextSetBit(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return nextId >= 0;
+                    }
+
+                    @Override
+                    public Person next() {
+                        if (nextId < 0) {
+                            throw new NoSuchElementException();
+                        }
+                        Person student = scores.getPersonWithId(nextId);
+                        nextId = studentIds.nextSetBit(nextId + 1);
+                        return student;
+                    }
+                };
+            }
+        }
+    }
+}
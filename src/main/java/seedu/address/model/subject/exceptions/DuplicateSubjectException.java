@@ -0,0 +1,11 @@
+package seedu.address.model.subject.exceptions;
+
+/**
+ * Signals that the operation will result in duplicate Subjects (Subjects are considered duplicates if their names
+ * are equal, ignoring case).
+ */
+public class DuplicateSubjectException extends RuntimeException {
+    public DuplicateSubjectException() {
+        super("Operation would result in duplicate subjects");
+    }
+}
@@ -0,0 +1,6 @@
+package seedu.address.model.subject.exceptions;
+
+/**
+ * Signals that the operation is unable to find the specified subject in the subject catalogue.
+ */
+public class SubjectNotFoundException extends RuntimeException {}
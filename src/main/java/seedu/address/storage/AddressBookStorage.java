@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +44,21 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns true if the address book should be saved whole with {@link #saveAddressBook(ReadOnlyAddressBook)},
+     * rather than as {@code changes}, the next time it is saved.
+     * Safe to call while another thread is saving.
+     * @param changes the changes to be saved. Cannot be null.
+     */
+    boolean isSnapshotDue(List<AddressBookChange> changes);
+
+    /**
+     * Saves {@code changes}, the changes made to the address book since it was last read or saved, in the order they
+     * were made. Writes nothing and returns false if the changes cannot be saved on their own, in which case the
+     * address book must be saved whole instead.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    boolean saveAddressBookChanges(List<AddressBookChange> changes) throws IOException;
+
 }
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the changes made to an address book to an {@code AddressBookStorage} on a background thread, a short while
+ * after they are handed over.
+ *
+ * The first changes handed over start a countdown of the save delay. Any handed over before the countdown ends are
+ * added to them, so a burst of changes is written at once, and no change waits longer than the delay to be written.
+ * Only the changes are kept. When the storage reports a snapshot as due, or a write could not save the changes on
+ * their own, the caller is asked for a copy of the whole address book on its own thread, at the next hand-over or
+ * flush, and the copy replaces the changes waiting to be written.
+ * A failed write is kept until {@link #takeError()} is called, so that it can be reported.
+ */
+public class AsyncAddressBookSaver {
+
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final long saveDelayMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Held for the whole of each write, so that a flush also waits for a write already under way.
+    private final Object writeLock = new Object();
+    // A copy of the whole address book to write before the pending changes, or null if there is none.
+    private ReadOnlyAddressBook pendingSnapshot;
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    // Whether changes may have gone unwritten, so that only a copy of the whole address book can be written next.
+    private boolean isSnapshotNeeded;
+    // Whether a write is waiting, which may be a retry of a failed write with no new changes.
+    private boolean hasPending;
+    private ScheduledFuture<?> scheduledWrite;
+    private IOException error;
+
+    /**
+     * Creates a saver that writes the changes handed to it to {@code storage} {@code saveDelayMillis} milliseconds
+     * after it is first handed changes.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage, long saveDelayMillis) {
+        requireNonNull(storage);
+        checkArgument(saveDelayMillis >= 0, "Save delay must not be negative");
+        this.storage = storage;
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Writes {@code changes} once the save delay is up, together with any handed over before then.
+     * If a snapshot is due, {@code snapshotSupplier} is called on the calling thread for a copy of the address book
+     * as it is with {@code changes} made, which is written instead of the changes waiting to be written.
+     * If {@code changes} is empty, a write is still made, so that a failed write can be retried.
+     */
+    public synchronized void save(List<AddressBookChange> changes,
+            Supplier<? extends ReadOnlyAddressBook> snapshotSupplier) {
+        requireAllNonNull(changes, snapshotSupplier);
+        pendingChanges.addAll(changes);
+        if (isSnapshotNeeded || storage.isSnapshotDue(pendingChanges)) {
+            takeSnapshot(snapshotSupplier);
+        }
+        hasPending = true;
+        if (scheduledWrite == null) {
+            scheduledWrite = executor.schedule(this::writePending, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the changes waiting to be saved, if any, on the calling thread, and waits for any write under way
+     * to finish. If changes may have gone unwritten, {@code snapshotSupplier} is called for a copy of the address
+     * book as it is now, which is written instead.
+     *
+     * @throws IOException if this or an earlier write failed and has not been taken yet.
+     */
+    public void flush(Supplier<? extends ReadOnlyAddressBook> snapshotSupplier) throws IOException {
+        requireNonNull(snapshotSupplier);
+        synchronized (this) {
+            if (isSnapshotNeeded) {
+                takeSnapshot(snapshotSupplier);
+                hasPending = true;
+            }
+        }
+        writePending();
+        Optional<IOException> failure = takeError();
+        if (failure.isPresent()) {
+            throw failure.get();
+        }
+    }
+
+    private synchronized void takeSnapshot(Supplier<? extends ReadOnlyAddressBook> snapshotSupplier) {
+        // The copy already has the changes waiting to be written made.
+        pendingSnapshot = requireNonNull(snapshotSupplier.get());
+        pendingChanges.clear();
+        isSnapshotNeeded = false;
+    }
+
+    /**
+     * Returns the error of the last failed write, if it has not been taken yet.
+     */
+    public synchronized Optional<IOException> takeError() {
+        Optional<IOException> failure = Optional.ofNullable(error);
+        error = null;
+        return failure;
+    }
+
+    /**
+     * Returns true if changes are waiting to be written.
+     */
+    public synchronized boolean hasPending() {
+        return hasPending;
+    }
+
+    private void writePending() {
+        synchronized (writeLock) {
+            boolean isPending;
+            ReadOnlyAddressBook snapshot;
+            List<AddressBookChange> changes;
+            synchronized (this) {
+                isPending = hasPending;
+                snapshot = pendingSnapshot;
+                changes = new ArrayList<>(pendingChanges);
+                pendingSnapshot = null;
+                pendingChanges.clear();
+                hasPending = false;
+                if (scheduledWrite != null) {
+                    scheduledWrite.cancel(false);
+                    scheduledWrite = null;
+                }
+            }
+            if (!isPending) {
+                return;
+            }
+
+            try {
+                if (snapshot != null) {
+                    storage.saveAddressBook(snapshot);
+                }
+                if (!changes.isEmpty() && !storage.saveAddressBookChanges(changes)) {
+                    logger.fine("Changes could not be saved on their own; a snapshot will be written instead");
+                    synchronized (this) {
+                        isSnapshotNeeded = true;
+                    }
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+                synchronized (this) {
+                    error = e;
+                    isSnapshotNeeded = true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Allergy;
+import seedu.address.model.person.AllergyList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.subject.ReadOnlySubjectStore;
+import seedu.address.model.subject.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes a compact binary copy of a JSON snapshot of an address book, which loads much faster than the
+ * JSON it copies.
+ *
+ * The copy is only a cache: it records the size and last modified time of the JSON snapshot it was made from, and
+ * is ignored if the JSON snapshot has changed since, if it is of another format version, or if its checksum does
+ * not match. Every distinct string is stored once in a string table that the rest of the file refers to by index,
+ * and scores are stored as fixed-width columns, so the file is read through a {@link MappedByteBuffer} without
+ * parsing, and each distinct value is validated and converted into the model's type only once.
+ *
+ * The format, all big-endian: a header of the magic number, the format version, the size and last modified time
+ * of the JSON snapshot and the sequence number of the last journal entry the copy includes; the string table;
+ * the subject catalogue; the persons; the scores in each subject; and a CRC-32 of everything before it.
+ *
+ * Person records are positional: they are written in the order of the person list and read back into that order,
+ * with no index by unique id, so a person's place in the file is its place in the list. The copy is always read
+ * whole, and lookups by unique id are answered by the person list once it is loaded, so an index in the file would
+ * never be read. The unique id is only stored as a field of the record, and the scores refer to persons by child
+ * name, as the JSON snapshot does.
+ */
+class BinaryAddressBookSnapshot {
+
+    public static final int MAGIC = 0x50434142; // "PCAB"
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8;
+    private static final int CHECKSUM_SIZE = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookSnapshot.class);
+
+    private BinaryAddressBookSnapshot() {}
+
+    /**
+     * Writes {@code addressBook}, which includes the journal entries up to {@code lastChange}, to {@code filePath}
+     * as a binary copy of the JSON snapshot at {@code jsonFilePath}, replacing any existing file.
+     * {@code addressBook} must hold what the JSON snapshot and the journal entries up to {@code lastChange} hold.
+     *
+     * @throws IOException if there was any problem reading the JSON snapshot's attributes or writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, long lastChange, Path jsonFilePath, Path filePath)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(jsonFilePath);
+        requireNonNull(filePath);
+        BasicFileAttributes jsonAttributes = Files.readAttributes(jsonFilePath, BasicFileAttributes.class);
+
+        List<Person> persons = addressBook.getPersonList();
+        ReadOnlySubjectStore subjectStore = addressBook.getSubjectStore();
+        List<String> subjectNames = subjectStore.getSubjectList().stream()
+                .map(subject -> subject.subjectName)
+                .collect(Collectors.toList());
+        Map<String, Map<String, Integer>> scores = new LinkedHashMap<>();
+        for (Subject subject : subjectStore.getSubjectList()) {
+            subjectStore.forEachScore(subject, (person, score) -> scores
+                    .computeIfAbsent(subject.subjectName, unused -> new LinkedHashMap<>())
+                    .put(person.getChildName().toString(), score));
+        }
+
+        StringTable strings = new StringTable();
+        for (Person person : persons) {
+            strings.intern(person.getChildName().toString());
+            strings.intern(person.getParentName().toString());
+            strings.intern(person.getParentPhone().value);
+            strings.intern(person.getParentEmail().value);
+            strings.intern(person.getAddress().value);
+            person.getAllergies().getAllergyList().forEach(allergy -> strings.intern(allergy.toString()));
+            person.getTags().forEach(tag -> strings.intern(tag.tagName));
+        }
+        subjectNames.forEach(strings::intern);
+        scores.forEach((subjectName, subjectScores) -> {
+            strings.intern(subjectName);
+            subjectScores.keySet().forEach(strings::intern);
+        });
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            CRC32 checksum = new CRC32();
+            DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, checksum));
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeLong(jsonAttributes.size());
+            data.writeLong(jsonAttributes.lastModifiedTime().toMillis());
+            data.writeLong(lastChange);
+
+            data.writeInt(strings.size());
+            for (String string : strings.values()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+
+            data.writeInt(subjectNames.size());
+            for (String subjectName : subjectNames) {
+                data.writeInt(strings.indexOf(subjectName));
+            }
+
+            data.writeInt(persons.size());
+            for (Person person : persons) {
+                data.writeInt(strings.indexOf(person.getChildName().toString()));
+                data.writeInt(strings.indexOf(person.getParentName().toString()));
+                data.writeInt(strings.indexOf(person.getParentPhone().value));
+                data.writeInt(strings.indexOf(person.getParentEmail().value));
+                data.writeInt(strings.indexOf(person.getAddress().value));
+                data.writeInt(person.getUniqueId());
+                Set<Allergy> allergies = person.getAllergies().getAllergyList();
+                data.writeInt(allergies.size());
+                for (Allergy allergy : allergies) {
+                    data.writeInt(strings.indexOf(allergy.toString()));
+                }
+                data.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    data.writeInt(strings.indexOf(tag.tagName));
+                }
+            }
+
+            data.writeInt(scores.size());
+            for (Map.Entry<String, Map<String, Integer>> entry : scores.entrySet()) {
+                data.writeInt(strings.indexOf(entry.getKey()));
+                data.writeInt(entry.getValue().size());
+                for (String childName : entry.getValue().keySet()) {
+                    data.writeInt(strings.indexOf(childName));
+                }
+                for (int score : entry.getValue().values()) {
+                    data.writeInt(score);
+                }
+            }
+
+            data.flush();
+            new DataOutputStream(out).writeInt((int) checksum.getValue());
+        });
+    }
+
+    /**
+     * Reads the binary copy at {@code filePath} of the JSON snapshot at {@code jsonFilePath}.
+     * Returns an empty {@code Optional} if there is no copy, or if it is not an up-to-date, intact copy in the
+     * current format, in which case the JSON snapshot should be read instead.
+     *
+     * @return a reader holding what the JSON snapshot holds, which journal entries can be applied to.
+     */
+    public static Optional<JsonAddressBookReader> read(Path filePath, Path jsonFilePath) {
+        requireNonNull(filePath);
+        requireNonNull(jsonFilePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + CHECKSUM_SIZE || size > Integer.MAX_VALUE) {
+                return reject(filePath, "it is not a binary snapshot");
+            }
+
+            // The header is checked before the file is mapped, so that a stale copy is never mapped.
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is filled
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                return reject(filePath, "it is not a binary snapshot");
+            }
+            if (header.getInt() != FORMAT_VERSION) {
+                return reject(filePath, "it is of another format version");
+            }
+            BasicFileAttributes jsonAttributes = Files.readAttributes(jsonFilePath, BasicFileAttributes.class);
+            if (header.getLong() != jsonAttributes.size()
+                    || header.getLong() != jsonAttributes.lastModifiedTime().toMillis()) {
+                return reject(filePath, jsonFilePath + " has changed since it was written");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.slice(0, (int) size - CHECKSUM_SIZE));
+            if (buffer.getInt((int) size - CHECKSUM_SIZE) != (int) checksum.getValue()) {
+                return reject(filePath, "its checksum does not match");
+            }
+            buffer.position(HEADER_SIZE - 8).limit((int) size - CHECKSUM_SIZE);
+            JsonAddressBookReader reader = new Decoder(buffer).decode();
+            logger.info("Read the binary snapshot " + filePath);
+            return Optional.of(reader);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | IllegalValueException | IllegalArgumentException | IndexOutOfBoundsException
+                 | BufferUnderflowException e) {
+            return reject(filePath, e.toString());
+        }
+    }
+
+    private static Optional<JsonAddressBookReader> reject(Path filePath, String reason) {
+        logger.info("Ignoring the binary snapshot " + filePath + " as " + reason);
+        return Optional.empty();
+    }
+
+    /**
+     * Assigns each distinct string an index in the order they are first seen.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new LinkedHashMap<>();
+
+        void intern(String string) {
+            indexes.putIfAbsent(string, indexes.size());
+        }
+
+        int indexOf(String string) {
+            return indexes.get(string);
+        }
+
+        int size() {
+            return indexes.size();
+        }
+
+        Set<String> values() {
+            return indexes.keySet();
+        }
+    }
+
+    /**
+     * Decodes the body of a binary snapshot into a {@code JsonAddressBookReader}.
+     * Strings are only decoded, and values only converted into the model's types, when first used.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private int[] stringOffsets;
+        private String[] strings;
+        private Name[] names;
+        private Phone[] phones;
+        private Email[] emails;
+        private Address[] addresses;
+        private Allergy[] allergies;
+        private Tag[] tags;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        JsonAddressBookReader decode() throws IllegalValueException {
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            reader.setLastChange(buffer.getLong());
+
+            int stringCount = buffer.getInt();
+            stringOffsets = new int[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                stringOffsets[i] = buffer.position();
+                int length = buffer.getInt();
+                buffer.position(buffer.position() + length);
+            }
+            strings = new String[stringCount];
+            names = new Name[stringCount];
+            phones = new Phone[stringCount];
+            emails = new Email[stringCount];
+            addresses = new Address[stringCount];
+            allergies = new Allergy[stringCount];
+            tags = new Tag[stringCount];
+
+            List<String> subjectNames = new ArrayList<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                subjectNames.add(string(buffer.getInt()));
+            }
+            reader.setSubjectNames(subjectNames);
+
+            int personCount = buffer.getInt();
+            for (int i = 0; i < personCount; i++) {
+                Name childName = value(buffer.getInt(), names, Name::new);
+                Name parentName = value(buffer.getInt(), names, Name::new);
+                Phone phone = value(buffer.getInt(), phones, Phone::new);
+                Email email = value(buffer.getInt(), emails, Email::new);
+                Address address = value(buffer.getInt(), addresses, Address::new);
+                int uniqueId = buffer.getInt();
+                Set<Allergy> personAllergies = new HashSet<>();
+                for (int j = buffer.getInt(); j > 0; j--) {
+                    personAllergies.add(value(buffer.getInt(), allergies, Allergy::new));
+                }
+                Set<Tag> personTags = new HashSet<>();
+                for (int j = buffer.getInt(); j > 0; j--) {
+                    personTags.add(value(buffer.getInt(), tags, Tag::new));
+                }
+                reader.addPerson(new Person(childName, parentName, phone, email, new AllergyList(personAllergies),
+                        address, personTags, uniqueId));
+            }
+
+            int scoredSubjectCount = buffer.getInt();
+            for (int i = 0; i < scoredSubjectCount; i++) {
+                String subjectName = string(buffer.getInt());
+                int entryCount = buffer.getInt();
+                int scoresOffset = buffer.position() + entryCount * Integer.BYTES;
+                for (int j = 0; j < entryCount; j++) {
+                    String childName = string(buffer.getInt(buffer.position() + j * Integer.BYTES));
+                    int score = buffer.getInt(scoresOffset + j * Integer.BYTES);
+                    reader.addScore(subjectName, new JsonAdaptedScoreEntry(childName, score));
+                }
+                buffer.position(scoresOffset + entryCount * Integer.BYTES);
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Unexpected data after the scores");
+            }
+            return reader;
+        }
+
+        private String string(int index) {
+            if (strings[index] == null) {
+                int offset = stringOffsets[index];
+                byte[] bytes = new byte[buffer.getInt(offset)];
+                buffer.get(offset + Integer.BYTES, bytes);
+                strings[index] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return strings[index];
+        }
+
+        /**
+         * Returns the value made by {@code factory} from the string at {@code index}, making it only the first time.
+         */
+        private <T> T value(int index, T[] cache, Function<String, T> factory) {
+            if (cache[index] == null) {
+                cache[index] = factory.apply(string(index));
+            }
+            return cache[index];
+        }
+    }
+}
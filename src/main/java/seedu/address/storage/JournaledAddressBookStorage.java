@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Saving the changes made since the last save appends them to the journal, one line per save, so it costs the size
+ * of the changes rather than of the address book. Saving a whole address book writes a new snapshot and empties the
+ * journal. A snapshot is due once the journal holds {@code compactionThreshold} entries, or if the changes reset the
+ * address book or the journal cannot be appended to, as before the first read or save and after a failed save.
+ * Changes are still appended past the threshold until the caller saves a snapshot. Reading replays the journal on top
+ * of the snapshot.
+ *
+ * Every journal entry is numbered, and the snapshot records the number of the last entry it includes, so entries
+ * left in the journal by a save interrupted between writing a snapshot and emptying the journal are skipped.
+ * An entry cut short by a crash can only be the last one, and is dropped.
+ *
+ * If enabled, a binary copy of the snapshot is kept alongside it, and read instead of the snapshot as long as the
+ * snapshot has not changed since the copy was made. The copy is made whenever a snapshot is written or read.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String BINARY_SNAPSHOT_FILE_SUFFIX = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final boolean isBinarySnapshotEnabled;
+    // False if changes cannot be saved until a snapshot is, as the journal may not hold everything saved so far.
+    // Volatile, along with journalSize, so that isSnapshotDue need not wait for a save under way.
+    private volatile boolean isJournalUsable = false;
+    private long lastChange = 0;
+    private volatile int journalSize = 0;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that writes a new snapshot once its journal holds {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Creates a storage that writes a new snapshot once its journal holds {@code compactionThreshold} entries, and
+     * keeps a binary copy of the snapshot if {@code isBinarySnapshotEnabled}.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold, boolean isBinarySnapshotEnabled) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive");
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isBinarySnapshotEnabled = isBinarySnapshotEnabled;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the binary copy kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getBinarySnapshotFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BINARY_SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        boolean usesBinarySnapshot = isBinarySnapshotEnabled && filePath.equals(this.filePath);
+        Optional<JsonAddressBookReader> binarySnapshot = usesBinarySnapshot && Files.exists(filePath)
+                ? BinaryAddressBookSnapshot.read(getBinarySnapshotFilePath(filePath), filePath)
+                : Optional.empty();
+        JsonAddressBookReader reader = binarySnapshot.orElseGet(JsonAddressBookReader::new);
+        ReadOnlyAddressBook addressBook;
+        boolean isJournalCutShort = false;
+        int replayed = 0;
+        try {
+            if (binarySnapshot.isEmpty() && Files.exists(filePath)) {
+                reader.read(filePath);
+            }
+            List<String> lines = Files.exists(journalFilePath)
+                    ? Files.readAllLines(journalFilePath, StandardCharsets.UTF_8)
+                    : List.of();
+            for (int i = 0; i < lines.size(); i++) {
+                if (lines.get(i).isBlank()) {
+                    continue;
+                }
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    logger.warning("Dropping the last entry of " + journalFilePath + ", which was cut short");
+                    isJournalCutShort = true;
+                    break;
+                }
+                if (entry.getSequenceNumber() > reader.getLastChange()) {
+                    reader.apply(entry);
+                    replayed++;
+                }
+            }
+            addressBook = reader.toModelType();
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + " or its journal: " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        logger.info("Replayed " + replayed + " journal entries from " + journalFilePath);
+        if (usesBinarySnapshot && binarySnapshot.isEmpty() && Files.exists(filePath)) {
+            writeBinarySnapshot(addressBook, reader.getLastChange());
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // A journal that was cut short cannot be appended to, so the next save writes a snapshot.
+            isJournalUsable = !isJournalCutShort;
+            lastChange = reader.getLastChange();
+            journalSize = replayed;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Writes a snapshot and empties the journal if {@code filePath} is the file path of this storage; only writes a
+     * snapshot otherwise.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            JsonAddressBookWriter.write(addressBook, 0, filePath);
+            return;
+        }
+        compact(addressBook);
+    }
+
+    @Override
+    public boolean isSnapshotDue(List<AddressBookChange> changes) {
+        requireNonNull(changes);
+        return !isJournalUsable || journalSize >= compactionThreshold || hasReset(changes);
+    }
+
+    /**
+     * Appends {@code changes} to the journal as one entry, unless the journal cannot be appended to or
+     * {@code changes} reset the address book.
+     */
+    @Override
+    public synchronized boolean saveAddressBookChanges(List<AddressBookChange> changes) throws IOException {
+        requireNonNull(changes);
+
+        if (!isJournalUsable || hasReset(changes)) {
+            return false;
+        }
+        if (changes.isEmpty()) {
+            return true;
+        }
+
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.fromModelType(lastChange + 1, changes);
+        Path journalFilePath = getJournalFilePath(filePath);
+        String line = JsonUtil.toCompactJsonString(entry) + System.lineSeparator();
+        try {
+            FileUtil.createParentDirsOfFile(journalFilePath);
+            Files.write(journalFilePath, line.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // The journal may now end in part of this entry, so nothing more is appended until a snapshot is written.
+            isJournalUsable = false;
+            throw e;
+        }
+        lastChange = entry.getSequenceNumber();
+        journalSize++;
+        return true;
+    }
+
+    private static boolean hasReset(List<AddressBookChange> changes) {
+        return changes.stream().anyMatch(change -> change.getType() == AddressBookChange.Type.RESET);
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot, and then empties the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        isJournalUsable = false;
+        JsonAddressBookWriter.write(addressBook, lastChange, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        logger.fine("Compacted " + journalSize + " journal entries into " + filePath);
+        isJournalUsable = true;
+        journalSize = 0;
+        if (isBinarySnapshotEnabled) {
+            writeBinarySnapshot(addressBook, lastChange);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook}, which includes the journal entries up to {@code lastChange}, as the binary copy of
+     * the snapshot. The copy is only a cache of the snapshot, so failing to write it is logged rather than thrown.
+     */
+    private void writeBinarySnapshot(ReadOnlyAddressBook addressBook, long lastChange) {
+        Path binaryFilePath = getBinarySnapshotFilePath(filePath);
+        try {
+            BinaryAddressBookSnapshot.write(addressBook, lastChange, filePath, binaryFilePath);
+        } catch (IOException e) {
+            logger.warning("Error writing the binary snapshot " + binaryFilePath + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.Type;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}, as kept in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ *
+ * Persons that are replaced or removed are referred to by unique id, and persons that are enrolled, unenrolled or
+ * scored by child name, as in the scores of a snapshot. Only the fields the type of change uses are written.
+ * A change that resets the address book cannot be journaled, as it is not smaller than a snapshot.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedAddressBookChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journaled change's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journaled change has an unknown type: %s";
+
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final Integer uniqueId;
+    private final String childName;
+    private final String subject;
+    private final String renamedSubject;
+    private final Integer score;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("type") String type,
+                                        @JsonProperty("person") JsonAdaptedPerson person,
+                                        @JsonProperty("uniqueId") Integer uniqueId,
+                                        @JsonProperty("childName") String childName,
+                                        @JsonProperty("subject") String subject,
+                                        @JsonProperty("renamedSubject") String renamedSubject,
+                                        @JsonProperty("score") Integer score) {
+        this.type = type;
+        this.person = person;
+        this.uniqueId = uniqueId;
+        this.childName = childName;
+        this.subject = subject;
+        this.renamedSubject = renamedSubject;
+        this.score = score;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     * {@code source} must not reset the address book.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        checkArgument(source.getType() != Type.RESET, "A reset of the address book cannot be journaled");
+        type = source.getType().name();
+        switch (source.getType()) {
+        case ADD_PERSON:
+            person = new JsonAdaptedPerson(source.getPerson());
+            uniqueId = null;
+            childName = null;
+            break;
+        case SET_PERSON:
+            person = new JsonAdaptedPerson(source.getEditedPerson());
+            uniqueId = source.getPerson().getUniqueId();
+            childName = null;
+            break;
+        case REMOVE_PERSON:
+            person = null;
+            uniqueId = source.getPerson().getUniqueId();
+            childName = null;
+            break;
+        case ENROLL:
+        case UNENROLL:
+        case SET_SCORE:
+            person = null;
+            uniqueId = null;
+            childName = source.getPerson().getChildName().toString();
+            break;
+        default:
+            person = null;
+            uniqueId = null;
+            childName = null;
+        }
+        subject = source.getSubject() == null ? null : source.getSubject().subjectName;
+        renamedSubject = source.getRenamedSubject() == null ? null : source.getRenamedSubject().subjectName;
+        score = source.getType() == Type.SET_SCORE ? source.getScore() : null;
+    }
+
+    /**
+     * Returns the type of this change.
+     *
+     * @throws IllegalValueException if the type is missing, unknown or a reset.
+     */
+    public Type getType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        try {
+            Type modelType = Type.valueOf(type);
+            if (modelType != Type.RESET) {
+                return modelType;
+            }
+        } catch (IllegalArgumentException e) {
+            // reported below
+        }
+        throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+    }
+
+    /**
+     * Returns the person added, or the person replacing the one with {@link #getUniqueId()}.
+     *
+     * @throws IllegalValueException if it is missing.
+     */
+    public JsonAdaptedPerson getPerson() throws IllegalValueException {
+        return require(person, "person");
+    }
+
+    /**
+     * Returns the unique id of the person replaced or removed.
+     *
+     * @throws IllegalValueException if it is missing.
+     */
+    public int getUniqueId() throws IllegalValueException {
+        return require(uniqueId, "uniqueId");
+    }
+
+    /**
+     * Returns the child name of the person enrolled, unenrolled or scored.
+     *
+     * @throws IllegalValueException if it is missing.
+     */
+    public String getChildName() throws IllegalValueException {
+        return require(childName, "childName");
+    }
+
+    /**
+     * Returns the name of the subject changed.
+     *
+     * @throws IllegalValueException if it is missing.
+     */
+    public String getSubject() throws IllegalValueException {
+        return require(subject, "subject");
+    }
+
+    /**
+     * Returns the new name of the subject renamed.
+     *
+     * @throws IllegalValueException if it is missing.
+     */
+    public String getRenamedSubject() throws IllegalValueException {
+        return require(renamedSubject, "renamedSubject");
+    }
+
+    /**
+     * Returns the score set.
+     *
+     * @throws IllegalValueException if it is missing.
+     */
+    public int getScore() throws IllegalValueException {
+        return require(score, "score");
+    }
+
+    private static <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
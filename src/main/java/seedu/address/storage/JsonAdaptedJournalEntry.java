@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.AddressBookChange;
+
+/**
+ * Jackson-friendly version of an entry in the journal of a {@link JournaledAddressBookStorage}: the changes made to
+ * an address book between two saves, in the order they were made.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final long sequenceNumber;
+    private final List<JsonAdaptedAddressBookChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("sequenceNumber") long sequenceNumber,
+                                   @JsonProperty("changes") List<JsonAdaptedAddressBookChange> changes) {
+        this.sequenceNumber = sequenceNumber;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts the given {@code changes}, none of which may reset the address book, into this class for Jackson use.
+     *
+     * @param sequenceNumber the position of this entry in the journal.
+     */
+    public static JsonAdaptedJournalEntry fromModelType(long sequenceNumber, List<AddressBookChange> changes) {
+        List<JsonAdaptedAddressBookChange> adaptedChanges = new ArrayList<>();
+        for (AddressBookChange change : changes) {
+            adaptedChanges.add(new JsonAdaptedAddressBookChange(change));
+        }
+        return new JsonAdaptedJournalEntry(sequenceNumber, adaptedChanges);
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public List<JsonAdaptedAddressBookChange> getChanges() {
+        return changes;
+    }
+}
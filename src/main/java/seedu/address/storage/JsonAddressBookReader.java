@@ -0,0 +1,336 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Gathers the persons, subjects and scores of an address book, and converts them into the model's
+ * {@code AddressBook} once all of them are known.
+ *
+ * A JSON data file is read as a stream of tokens, and each person is converted into the model's {@code Person} as
+ * soon as it is read, so the whole file is never held in memory, in text or as Jackson-friendly objects.
+ * Journal entries can be applied to what has been read before it is converted. Persons are kept by unique id, so
+ * the changes in an entry find the persons they refer to in constant time.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Data file does not contain an address book.";
+    public static final String MESSAGE_CHANGE_OUT_OF_RANGE = "Journal entry %d changes persons that do not exist.";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // The persons gathered so far, in order, by unique id.
+    private final Map<Integer, Person> persons = new LinkedHashMap<>();
+    // True if two of the persons gathered share a unique id, in which case only the last of them is kept.
+    private boolean hasDuplicateIds = false;
+    // Null if the data predates the subject catalogue, in which case the default subjects are used.
+    private List<String> subjectNames;
+    // The score of each child, by child name, in each subject, by subject name.
+    private final Map<String, Map<String, Integer>> scores = new LinkedHashMap<>();
+    // The sequence number of the last journal entry included, or 0 if none is.
+    private long lastChange = 0;
+
+    /**
+     * Reads the address book in the JSON data file at {@code filePath}, in the format written for a
+     * {@link JsonSerializableAddressBook}.
+     *
+     * @throws IOException if the file could not be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        try (InputStream in = new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ)), BUFFER_SIZE);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (fieldName) {
+                case "persons":
+                    expect(parser, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        addPerson(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+                    }
+                    break;
+                case "subjects":
+                    subjectNames = parser.readValueAs(new TypeReference<List<String>>() {});
+                    break;
+                case "subjectScores":
+                    expect(parser, JsonToken.START_OBJECT);
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String subjectName = parser.getCurrentName();
+                        if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                            continue;
+                        }
+                        expect(parser, JsonToken.START_ARRAY);
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            addScore(subjectName, parser.readValueAs(JsonAdaptedScoreEntry.class));
+                        }
+                    }
+                    break;
+                case "lastChange":
+                    lastChange = parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IllegalValueException {
+        if (parser.getCurrentToken() != token) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+    }
+
+    /**
+     * Adds {@code person} after the persons gathered so far.
+     */
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        if (persons.put(person.getUniqueId(), person) != null) {
+            hasDuplicateIds = true;
+        }
+    }
+
+    /**
+     * Sets the names in the subject catalogue. If never set, the default subjects are used.
+     */
+    public void setSubjectNames(List<String> subjectNames) {
+        this.subjectNames = subjectNames == null ? null : new ArrayList<>(subjectNames);
+    }
+
+    /**
+     * Adds the score in {@code entry} to the subject named {@code subjectName}, replacing any score of the same
+     * child in it.
+     *
+     * @throws IllegalValueException if {@code entry} is missing a field or its score is out of range.
+     */
+    public void addScore(String subjectName, JsonAdaptedScoreEntry entry) throws IllegalValueException {
+        entry.validate();
+        scores.computeIfAbsent(subjectName, unused -> new LinkedHashMap<>())
+                .put(entry.getPersonName(), entry.getScore());
+    }
+
+    /**
+     * Returns the sequence number of the last journal entry included in what has been gathered, or 0 if none is.
+     */
+    public long getLastChange() {
+        return lastChange;
+    }
+
+    public void setLastChange(long lastChange) {
+        this.lastChange = lastChange;
+    }
+
+    /**
+     * Applies the changes in the journal entry {@code entry} to what has been gathered, in order.
+     *
+     * @throws IllegalValueException if a change refers to persons that do not exist, or contains invalid persons or
+     *     scores.
+     */
+    public void apply(JsonAdaptedJournalEntry entry) throws IllegalValueException {
+        for (JsonAdaptedAddressBookChange change : entry.getChanges()) {
+            switch (change.getType()) {
+            case ADD_PERSON:
+                addPerson(change.getPerson().toModelType());
+                break;
+            case SET_PERSON:
+                setPerson(getPerson(change.getUniqueId(), entry), change.getPerson().toModelType());
+                break;
+            case REMOVE_PERSON:
+                removePerson(getPerson(change.getUniqueId(), entry));
+                break;
+            case ADD_SUBJECT:
+                getSubjectNames().add(change.getSubject());
+                break;
+            case RENAME_SUBJECT:
+                renameSubject(change.getSubject(), change.getRenamedSubject());
+                break;
+            case RETIRE_SUBJECT:
+                getSubjectNames().remove(change.getSubject());
+                scores.remove(change.getSubject());
+                break;
+            case ENROLL:
+                scores.computeIfAbsent(change.getSubject(), unused -> new LinkedHashMap<>())
+                        .putIfAbsent(change.getChildName(), Subject.getDefaultScore());
+                break;
+            case UNENROLL:
+                unenroll(change.getSubject(), change.getChildName());
+                break;
+            case SET_SCORE:
+                addScore(change.getSubject(), new JsonAdaptedScoreEntry(change.getChildName(), change.getScore()));
+                break;
+            default:
+                throw new AssertionError("Unknown change type: " + change.getType());
+            }
+        }
+        lastChange = entry.getSequenceNumber();
+    }
+
+    private Person getPerson(int uniqueId, JsonAdaptedJournalEntry entry) throws IllegalValueException {
+        Person person = persons.get(uniqueId);
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_CHANGE_OUT_OF_RANGE, entry.getSequenceNumber()));
+        }
+        return person;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in place, keeping the scores of {@code target}.
+     */
+    private void setPerson(Person target, Person editedPerson) {
+        if (target.getUniqueId() == editedPerson.getUniqueId()) {
+            persons.put(target.getUniqueId(), editedPerson);
+        } else {
+            List<Person> reordered = new ArrayList<>(persons.values());
+            reordered.set(reordered.indexOf(target), editedPerson);
+            persons.clear();
+            reordered.forEach(this::addPerson);
+        }
+
+        String childName = target.getChildName().toString();
+        String editedChildName = editedPerson.getChildName().toString();
+        if (childName.equals(editedChildName)) {
+            return;
+        }
+        for (Map<String, Integer> subjectScores : scores.values()) {
+            Integer score = subjectScores.remove(childName);
+            if (score != null) {
+                subjectScores.put(editedChildName, score);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code target} along with their scores.
+     */
+    private void removePerson(Person target) {
+        persons.remove(target.getUniqueId());
+        String childName = target.getChildName().toString();
+        for (String subjectName : new ArrayList<>(scores.keySet())) {
+            unenroll(subjectName, childName);
+        }
+    }
+
+    private void renameSubject(String subjectName, String renamedSubjectName) {
+        List<String> names = getSubjectNames();
+        int index = names.indexOf(subjectName);
+        if (index >= 0) {
+            names.set(index, renamedSubjectName);
+        }
+        Map<String, Integer> subjectScores = scores.remove(subjectName);
+        if (subjectScores != null) {
+            scores.put(renamedSubjectName, subjectScores);
+        }
+    }
+
+    private void unenroll(String subjectName, String childName) {
+        Map<String, Integer> subjectScores = scores.get(subjectName);
+        if (subjectScores == null) {
+            return;
+        }
+        subjectScores.remove(childName);
+        if (subjectScores.isEmpty()) {
+            scores.remove(subjectName);
+        }
+    }
+
+    /**
+     * Returns the names in the subject catalogue, which are the default subjects if they were never set.
+     */
+    private List<String> getSubjectNames() {
+        if (subjectNames == null) {
+            subjectNames = Subject.getDefaultSubjects().stream()
+                    .map(subject -> subject.subjectName)
+                    .collect(Collectors.toList());
+        }
+        return subjectNames;
+    }
+
+    /**
+     * Converts what has been gathered into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType() throws IllegalValueException {
+        if (hasDuplicateIds) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(new ArrayList<>(persons.values()));
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+
+        if (subjectNames != null) {
+            List<Subject> modelSubjects = new ArrayList<>();
+            for (String subjectName : subjectNames) {
+                if (subjectName == null || !Subject.isValidSubjectName(subjectName)) {
+                    throw new IllegalValueException(Subject.MESSAGE_CONSTRAINTS);
+                }
+                Subject subject = new Subject(subjectName);
+                if (modelSubjects.contains(subject)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_SUBJECT);
+                }
+                modelSubjects.add(subject);
+            }
+            addressBook.setSubjects(modelSubjects);
+        }
+
+        // Build a quick lookup by child name to resolve score entries
+        Map<String, Person> nameToPerson = new HashMap<>();
+        for (Person p : persons.values()) {
+            nameToPerson.put(p.getChildName().toString(), p);
+        }
+
+        for (Map.Entry<String, Map<String, Integer>> entry : scores.entrySet()) {
+            String subjectName = entry.getKey();
+            Subject subject = addressBook.getSubjectStore().findSubject(subjectName)
+                    .orElseThrow(() -> new IllegalValueException("Unknown subject: " + subjectName));
+
+            for (Map.Entry<String, Integer> score : entry.getValue().entrySet()) {
+                Person person = nameToPerson.get(score.getKey());
+                // this check is necessary in case the person referred to in scores does not exist in the address book
+                if (person == null) {
+                    throw new IllegalValueException("Unknown person in scores: " + score.getKey());
+                }
+                addressBook.enrollPerson(subject, person);
+                addressBook.setScore(subject, person, score.getValue());
+            }
+        }
+        return addressBook;
+    }
+}
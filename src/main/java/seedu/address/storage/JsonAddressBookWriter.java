@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.ReadOnlySubjectStore;
+import seedu.address.model.subject.Subject;
+
+/**
+ * Writes an address book to a JSON data file as a stream of tokens, in the same format, byte for byte, as
+ * serializing a {@link JsonSerializableAddressBook} of it.
+ *
+ * Only one person or score entry is held as a Jackson-friendly object at a time, and the JSON text is never held in
+ * memory as a whole. The data file is replaced atomically, so it is never left half written.
+ */
+class JsonAddressBookWriter {
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook}, which includes the journal entries up to {@code lastChange}, to the JSON data file
+     * at {@code filePath}, replacing any existing file.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, long lastChange, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            JsonGenerator generator = JsonUtil.createGenerator(out);
+            writeAddressBook(generator, addressBook, lastChange);
+            generator.flush();
+        });
+    }
+
+    private static void writeAddressBook(JsonGenerator generator, ReadOnlyAddressBook addressBook, long lastChange)
+            throws IOException {
+        generator.writeStartObject();
+
+        generator.writeFieldName("persons");
+        generator.writeStartArray();
+        for (Person person : addressBook.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+
+        ReadOnlySubjectStore subjectStore = addressBook.getSubjectStore();
+        generator.writeFieldName("subjects");
+        generator.writeStartArray();
+        for (Subject subject : subjectStore.getSubjectList()) {
+            generator.writeString(subject.subjectName);
+        }
+        generator.writeEndArray();
+
+        // Subjects are written in the order JsonSerializableAddressBook's map of scores by subject name keeps them.
+        Map<String, Subject> subjectsWithScores = new HashMap<>();
+        for (Subject subject : subjectStore.getSubjectList()) {
+            if (subjectStore.getEnrolledCount(subject) > 0) {
+                subjectsWithScores.put(subject.subjectName, subject);
+            }
+        }
+        generator.writeFieldName("subjectScores");
+        generator.writeStartObject();
+        for (Map.Entry<String, Subject> entry : subjectsWithScores.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            generator.writeStartArray();
+            try {
+                subjectStore.forEachScore(entry.getValue(), (person, score) -> {
+                    assert score >= -1 && score <= 100 : "score should be validated in model before serialization";
+                    try {
+                        generator.writeObject(new JsonAdaptedScoreEntry(person, score));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+
+        generator.writeNumberField("lastChange", lastChange);
+        generator.writeEndObject();
+    }
+}
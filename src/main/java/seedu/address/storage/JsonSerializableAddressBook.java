@@ -13,9 +13,8 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.person.Person;
+import seedu.address.model.subject.ReadOnlySubjectStore;
 import seedu.address.model.subject.Subject;
-import seedu.address.model.subject.SubjectRegistry;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,23 +23,32 @@ import seedu.address.model.subject.SubjectRegistry;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_SUBJECT = "Subjects list contains duplicate subject(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    // Null if the file predates the subject catalogue, in which case the default subjects are used.
+    private final List<String> subjects;
     private final Map<String, List<JsonAdaptedScoreEntry>> subjectScores = new HashMap<>();
+    // The sequence number of the last journal entry included, or 0 if none is.
+    private final long lastChange;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, subjects and scores.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                       @JsonProperty("subjects") List<String> subjects,
                                        @JsonProperty("subjectScores") Map<String,
-                                               List<JsonAdaptedScoreEntry>> subjectScores) {
+                                               List<JsonAdaptedScoreEntry>> subjectScores,
+                                       @JsonProperty("lastChange") Long lastChange) {
         if (persons != null) {
             this.persons.addAll(persons);
         }
+        this.subjects = subjects == null ? null : new ArrayList<>(subjects);
         if (subjectScores != null) {
             this.subjectScores.putAll(subjectScores);
         }
+        this.lastChange = lastChange == null ? 0 : lastChange;
     }
 
     /**
@@ -49,22 +57,37 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook}, which includes the journal entries up to {@code lastChange},
+     * into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long lastChange) {
+        this.lastChange = lastChange;
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
 
-        // Populate subjectScores map from model Subjects. Only serialize explicit (non-negative) scores.
-        for (Subject subject : Subject.values()) {
-            Map<Person, Integer> scores = SubjectRegistry.getViewOnlyScores(subject);
-            if (scores == null || scores.isEmpty()) {
+        // Populate the subject catalogue and subjectScores map from the subject store of the source address book.
+        ReadOnlySubjectStore subjectStore = source.getSubjectStore();
+        subjects = new ArrayList<>();
+        for (Subject subject : subjectStore.getSubjectList()) {
+            subjects.add(subject.subjectName);
+        }
+        for (Subject subject : subjectStore.getSubjectList()) {
+            int enrolledCount = subjectStore.getEnrolledCount(subject);
+            if (enrolledCount == 0) {
                 continue;
             }
-            List<JsonAdaptedScoreEntry> entries = new ArrayList<>();
-            for (Map.Entry<Person, Integer> e : scores.entrySet()) {
-                Integer sc = e.getValue();
-                assert sc != null && sc >= -1 && sc <= 100 : "score should be validated in model before serialization";
-                entries.add(new JsonAdaptedScoreEntry(e.getKey(), sc));
-            }
+            List<JsonAdaptedScoreEntry> entries = new ArrayList<>(enrolledCount);
+            subjectStore.forEachScore(subject, (person, sc) -> {
+                assert sc >= -1 && sc <= 100 : "score should be validated in model before serialization";
+                entries.add(new JsonAdaptedScoreEntry(person, sc));
+            });
             if (!entries.isEmpty()) {
-                this.subjectScores.put(subject.name(), entries);
+                this.subjectScores.put(subject.subjectName, entries);
             }
         }
     }
@@ -75,43 +98,16 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        JsonAddressBookReader reader = new JsonAddressBookReader();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-
-        // Build a quick lookup by child name to resolve score entries
-        Map<String, Person> nameToPerson = new HashMap<>();
-        for (Person p : addressBook.getPersonList()) {
-            nameToPerson.put(p.getChildName().toString(), p);
+            reader.addPerson(jsonAdaptedPerson.toModelType());
         }
-
-        // Convert subject score DTOs into model Subjects
+        reader.setSubjectNames(subjects);
         for (Map.Entry<String, List<JsonAdaptedScoreEntry>> entry : subjectScores.entrySet()) {
-            String subjectName = entry.getKey();
-            Subject subject;
-            try {
-                subject = Subject.valueOf(subjectName);
-            } catch (IllegalArgumentException ex) {
-                throw new IllegalValueException("Unknown subject: " + subjectName);
-            }
-
             for (JsonAdaptedScoreEntry dto : entry.getValue()) {
-                dto.validate();
-                Person person = nameToPerson.get(dto.getPersonName());
-                // this check is necessary in case the person referred to in scores does not exist in the address book
-                if (person == null) {
-                    throw new IllegalValueException("Unknown person in scores: " + dto.getPersonName());
-                }
-                subject.enrollPerson(person);
-                Integer sc = dto.getScore();
-                subject.setScore(person, sc);
+                reader.addScore(entry.getKey(), dto);
             }
         }
-        return addressBook;
+        return reader.toModelType();
     }
 }
@@ -1,34 +1,131 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
+import seedu.address.logic.FindPreview;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ *
+ * While a {@code find} command is being typed, the person list is filtered to what it would list. The preview is
+ * only worked out once typing pauses, on a background thread, and a preview that is overtaken by further typing is
+ * cancelled rather than shown. Once the text is no longer a {@code find} command, the person list goes back to
+ * what it showed before the preview.
+ *
+ * Pressing Tab completes the command word or the value being typed, and pressing it again moves on to the next
+ * completion.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
+    // One thread is enough, since every preview but the newest is cancelled.
+    private static final ExecutorService PREVIEW_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "find-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private final CommandExecutor commandExecutor;
+    private final FindPreviewSupplier findPreviewSupplier;
+    private final CommandCompleter commandCompleter;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
+    private FindPreview pendingPreview;
+    private List<String> completions = List.of();
+    private int completionIndex = 0;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, {@code FindPreviewSupplier} and
+     * {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, FindPreviewSupplier findPreviewSupplier,
+                      CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.findPreviewSupplier = findPreviewSupplier;
+        this.commandCompleter = commandCompleter;
+        // Tab would otherwise move the focus out of the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleTabPressed();
+                event.consume();
+            }
+        });
+        previewDelay.setOnFinished(unused -> startPreview());
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box,
+        // and restarts the wait before previewing it.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            cancelPreview();
+            previewDelay.playFromStart();
+        });
+    }
+
+    /**
+     * Completes the command typed so far, or replaces the completion just made with the next one.
+     */
+    private void handleTabPressed() {
+        String commandText = commandTextField.getText();
+        if (!completions.isEmpty() && commandText.equals(completions.get(completionIndex))) {
+            completionIndex = (completionIndex + 1) % completions.size();
+        } else {
+            completions = commandCompleter.complete(commandText);
+            completionIndex = 0;
+        }
+        if (completions.isEmpty()) {
+            return;
+        }
+        commandTextField.setText(completions.get(completionIndex));
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
+    /**
+     * Starts working out the preview of the command typed so far, if it is a {@code find} command.
+     */
+    private void startPreview() {
+        cancelPreview();
+        Optional<FindPreview> preview = findPreviewSupplier.previewFind(commandTextField.getText());
+        if (preview.isEmpty()) {
+            return;
+        }
+
+        FindPreview newPreview = preview.get();
+        Task<Void> task = new Task<>() {
+            @Override
+            protected Void call() {
+                newPreview.computeMatches();
+                return null;
+            }
+        };
+        task.setOnSucceeded(unused -> newPreview.apply());
+        pendingPreview = newPreview;
+        PREVIEW_EXECUTOR.execute(task);
+    }
+
+    private void cancelPreview() {
+        if (pendingPreview != null) {
+            pendingPreview.cancel();
+            pendingPreview = null;
+        }
     }
 
     /**
@@ -41,6 +138,9 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        previewDelay.stop();
+        cancelPreview();
+
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -82,4 +182,30 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can preview {@code find} commands.
+     */
+    @FunctionalInterface
+    public interface FindPreviewSupplier {
+        /**
+         * Returns a preview of the persons the command would list, if it is a {@code find} command.
+         *
+         * @see seedu.address.logic.Logic#previewFind(String)
+         */
+        Optional<FindPreview> previewFind(String commandText);
+    }
+
+    /**
+     * Represents a function that can complete commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the ways the command can be completed, each as the whole completed command.
+         *
+         * @see seedu.address.logic.Logic#complete(String)
+         */
+        List<String> complete(String commandText);
+    }
+
 }
@@ -115,7 +115,8 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(),
+                logic.getAddressBook().getSubjectStore());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -124,7 +125,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewFind, logic::complete);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         getPrimaryStage().setTitle("ParentConnect");
@@ -186,6 +187,10 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getPendingFeedback().ifPresent(pending -> pending.thenAccept(feedback -> {
+                logger.info("Result: " + feedback);
+                resultDisplay.setFeedbackToUser(feedback);
+            }));
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -3,15 +3,14 @@ package seedu.address.ui;
 import java.util.Comparator;
 
 import javafx.application.Platform;
-import javafx.collections.MapChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
-import seedu.address.model.subject.Subject;
-import seedu.address.model.subject.SubjectRegistry;
+import seedu.address.model.subject.ReadOnlySubjectStore;
+import seedu.address.model.subject.ScoreDict;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -51,14 +50,17 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane subjects;
 
-    private final MapChangeListener<Person, Integer> scoreListener;
+    private final ReadOnlySubjectStore subjectStore;
+    private final ScoreDict.ScoreChangeListener scoreListener;
 
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * The subjects and scores of the person are read from {@code subjectStore}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, ReadOnlySubjectStore subjectStore) {
         super(FXML);
         this.person = person;
+        this.subjectStore = subjectStore;
         id.setText(displayedIndex + ". ");
         name.setText(person.getChildName().fullName);
         parent.setText("Parent: " + person.getParentName().fullName);
@@ -71,34 +73,30 @@ public class PersonCard extends UiPart<Region> {
         person.getAllergyList().stream()
                 .sorted(Comparator.comparing(al -> al.toString()))
                 .forEach(al -> allergies.getChildren().add(new Label(al.toString())));
-        SubjectRegistry.getSubjectsOf(person).stream().sorted(Comparator.comparing(Object::toString))
+        subjectStore.getSubjectsOf(person).stream().sorted(Comparator.comparing(Object::toString))
                 .forEach(subject -> {
-                    int score = subject.getScore(person);
+                    int score = subjectStore.getScore(subject, person);
                     subjects.getChildren().add(new Label(subject + " | " + (score == -1 ? "N/A" : score)));
                 });
-        scoreListener = change -> {
-            if ((change.wasAdded() || change.wasRemoved()) && change.getKey().equals(person)) {
+        scoreListener = changedPerson -> {
+            if (changedPerson.equals(person)) {
                 Platform.runLater(() -> {
                     subjects.getChildren().clear();
-                    SubjectRegistry.getSubjectsOf(person).stream().sorted(Comparator.comparing(Object::toString))
+                    subjectStore.getSubjectsOf(person).stream().sorted(Comparator.comparing(Object::toString))
                             .forEach(subject -> {
-                                int score = subject.getScore(person);
+                                int score = subjectStore.getScore(subject, person);
                                 subjects.getChildren().add(new Label(subject + " | " + (score == -1 ? "N/A" : score)));
                             });
                 });
             }
         };
-        for (Subject s : Subject.values()) {
-            s.getScoreDict().getObservableScores().addListener(scoreListener);
-        }
+        subjectStore.addScoreListener(scoreListener);
     }
 
     /**
      * Detach listeners when this card is disposed.
      */
     public void dispose() {
-        for (Subject s : Subject.values()) {
-            s.getScoreDict().getObservableScores().removeListener(scoreListener);
-        }
+        subjectStore.removeScoreListener(scoreListener);
     }
 }
@@ -3,7 +3,6 @@ package seedu.address.ui;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
-import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -11,7 +10,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
-import seedu.address.model.subject.Subject;
+import seedu.address.model.subject.ReadOnlySubjectStore;
 
 /**
  * Panel containing the list of persons.
@@ -23,19 +22,19 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    private final ReadOnlySubjectStore subjectStore;
+
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, showing the subjects and scores
+     * held in {@code subjectStore}.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, ReadOnlySubjectStore subjectStore) {
         super(FXML);
+        this.subjectStore = subjectStore;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
 
-        for (Subject s : Subject.values()) {
-            s.getScoreDict().getObservableScores().addListener((MapChangeListener<Person, Integer>) change -> {
-                Platform.runLater(() -> personListView.refresh());
-            });
-        }
+        subjectStore.addScoreListener(unused -> Platform.runLater(() -> personListView.refresh()));
     }
 
     /**
@@ -50,7 +49,7 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                setGraphic(new PersonCard(person, getIndex() + 1, subjectStore).getRoot());
             }
         }
     }
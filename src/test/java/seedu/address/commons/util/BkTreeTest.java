@@ -0,0 +1,74 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private BkTree tree;
+
+    @BeforeEach
+    public void setUp() {
+        tree = new BkTree();
+        for (String word : List.of("john", "joan", "jon", "johnson", "alice", "alicia", "bob", "john")) {
+            tree.add(word);
+        }
+    }
+
+    @Test
+    public void add_duplicateWord_ignored() {
+        assertEquals(7, tree.size());
+    }
+
+    @Test
+    public void search_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> tree.search(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> tree.search("john", -1));
+    }
+
+    @Test
+    public void search_emptyTree_noMatches() {
+        assertEquals(List.of(), new BkTree().search("john", 3));
+    }
+
+    @Test
+    public void search_withinDistance_closestFirst() {
+        List<BkTree.Match> matches = tree.search("jonhson", 1);
+        assertEquals(List.of("johnson"), getWords(matches));
+        assertEquals(1, matches.get(0).getDistance());
+
+        matches = tree.search("john", 1);
+        assertEquals("john", matches.get(0).getWord());
+        assertEquals(0, matches.get(0).getDistance());
+        assertEquals(List.of("joan", "jon"), getWords(matches.subList(1, matches.size())).stream().sorted()
+                .collect(Collectors.toList()));
+
+        assertEquals(List.of(), tree.search("zzz", 2));
+    }
+
+    @Test
+    public void search_sameAsBruteForce() {
+        List<String> words = List.of("john", "joan", "jon", "johnson", "alice", "alicia", "bob");
+        for (String query : List.of("jhon", "alise", "bbo", "jo", "x")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                int max = maxDistance;
+                List<String> expected = words.stream()
+                        .filter(word -> StringUtil.getEditDistance(query, word) <= max)
+                        .sorted().collect(Collectors.toList());
+                List<String> actual = getWords(tree.search(query, maxDistance)).stream().sorted()
+                        .collect(Collectors.toList());
+                assertEquals(expected, actual, query + " " + maxDistance);
+            }
+        }
+    }
+
+    private static List<String> getWords(List<BkTree.Match> matches) {
+        return matches.stream().map(BkTree.Match::getWord).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void matches_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(List.of("a")).matches(null));
+    }
+
+    @Test
+    public void matches_noKeywords_returnsFalse() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of());
+        assertFalse(matcher.matches(""));
+        assertFalse(matcher.matches("Alice"));
+    }
+
+    @Test
+    public void matches_emptyKeyword_returnsTrue() {
+        assertTrue(new KeywordMatcher(List.of("")).matches(""));
+        assertTrue(new KeywordMatcher(List.of("zzz", "")).matches("Alice"));
+    }
+
+    @Test
+    public void matches_ignoresCase() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("aLiCe"));
+        assertTrue(matcher.matches("ALICE Pauline"));
+        assertTrue(matcher.matches("malice"));
+        assertFalse(matcher.matches("Alic e"));
+    }
+
+    @Test
+    public void matches_overlappingKeywords_foundThroughFailureLinks() {
+        // "she" fails over to "he", and "hers" needs the match found inside "ushers"
+        KeywordMatcher matcher = new KeywordMatcher(List.of("he", "she", "his", "hers"));
+        assertTrue(matcher.matches("ushers"));
+        assertTrue(matcher.matches("xxshe"));
+        assertTrue(matcher.matches("ahis"));
+        assertFalse(matcher.matches("shi"));
+        assertFalse(matcher.matches("s h e"));
+
+        KeywordMatcher nested = new KeywordMatcher(List.of("abcd", "bc"));
+        assertTrue(nested.matches("abce"));
+        assertFalse(nested.matches("abd"));
+    }
+
+    @Test
+    public void matches_sameResultAsContains() {
+        List<String> keywords = List.of("Li", "david", "ell", "Élodie", "[adh");
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+        for (String text : List.of("Davidson", "Elliana", "Bob", "ÉLODIE", "[ADHD]", "", "Alex Yeoh", "li")) {
+            boolean expected = keywords.stream()
+                    .anyMatch(keyword -> text.toLowerCase().contains(keyword.toLowerCase()));
+            assertEquals(expected, matcher.matches(text), text);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new PrefixTrie();
+        for (String word : List.of("Benson Meier", "Ben", "benjamin", "Alice", "Bob", "ben")) {
+            trie.add(word);
+        }
+    }
+
+    @Test
+    public void getCompletions_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> trie.getCompletions(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> trie.getCompletions("b", -1));
+    }
+
+    @Test
+    public void getCompletions_prefix_sortedIgnoringCase() {
+        assertEquals(List.of("Ben", "benjamin", "Benson Meier"), trie.getCompletions("BEN", 10));
+        assertEquals(List.of("Alice", "Ben", "benjamin", "Benson Meier", "Bob"), trie.getCompletions("", 10));
+        assertEquals(List.of(), trie.getCompletions("c", 10));
+    }
+
+    @Test
+    public void getCompletions_limit_truncated() {
+        assertEquals(List.of("Ben", "benjamin"), trie.getCompletions("b", 2));
+        assertEquals(List.of(), trie.getCompletions("b", 0));
+    }
+
+    @Test
+    public void add_differentCase_keptOnce() {
+        assertEquals(5, trie.size());
+    }
+
+    @Test
+    public void remove_addedTwice_keptUntilRemovedTwice() {
+        trie.remove("BEN");
+        assertEquals(List.of("Ben", "benjamin", "Benson Meier"), trie.getCompletions("ben", 10));
+        trie.remove("ben");
+        assertEquals(List.of("benjamin", "Benson Meier"), trie.getCompletions("ben", 10));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    public void remove_missingWord_ignored() {
+        trie.remove("Benjamins");
+        trie.remove("Be");
+        trie.remove("Carl");
+        assertEquals(5, trie.size());
+        assertEquals(List.of("benjamin"), trie.getCompletions("benj", 10));
+    }
+
+    @Test
+    public void remove_lastWordOfBranch_branchPruned() {
+        trie.remove("Bob");
+        assertEquals(List.of(), trie.getCompletions("bo", 10));
+        trie.add("bobby");
+        assertEquals(List.of("bobby"), trie.getCompletions("bo", 10));
+    }
+}
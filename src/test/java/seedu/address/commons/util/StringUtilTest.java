@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,44 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+        assertEquals(0, StringUtil.getEditDistance("john", "john"));
+        assertEquals(1, StringUtil.getEditDistance("john", "jonh")); // swap
+        assertEquals(1, StringUtil.getEditDistance("john", "joan")); // substitution
+        assertEquals(1, StringUtil.getEditDistance("john", "jon")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("jon", "john")); // insertion
+        assertEquals(2, StringUtil.getEditDistance("ca", "abc")); // swap, then insertion between
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+    }
+
+    //---------------- Tests for getSoundex --------------------------------------
+
+    @Test
+    public void getSoundex_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getSoundex(null));
+    }
+
+    @Test
+    public void getSoundex_validInputs_correctResult() {
+        assertEquals("", StringUtil.getSoundex("'-"));
+        assertEquals("R163", StringUtil.getSoundex("Robert"));
+        assertEquals("R163", StringUtil.getSoundex("rupert"));
+        assertEquals("R150", StringUtil.getSoundex("Rubin"));
+        assertEquals("A261", StringUtil.getSoundex("Ashcraft")); // h does not separate s and c
+        assertEquals("T522", StringUtil.getSoundex("Tymczak")); // vowels separate c and z
+        assertEquals("P236", StringUtil.getSoundex("Pfister")); // f has the same digit as the first letter
+        assertEquals("L000", StringUtil.getSoundex("Lee")); // padded with zeros
+        assertEquals("O256", StringUtil.getSoundex("O'Connor")); // punctuation ignored
+    }
 }
@@ -0,0 +1,62 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class AutocompleterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Autocompleter autocompleter = new Autocompleter(model);
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals(List.of("find"), autocompleter.complete("fi"));
+        assertEquals(List.of("  renamesubject", "  retiresubject"), autocompleter.complete("  re"));
+        assertEquals(List.of(), autocompleter.complete("xyz"));
+        assertEquals(List.of(), autocompleter.complete(""));
+    }
+
+    @Test
+    public void complete_personValues() {
+        assertEquals(List.of("find c/Benson Meier"), autocompleter.complete("find c/ben"));
+        assertEquals(List.of("find c/alice b/Bensons Dad"), autocompleter.complete("find c/alice b/Bens"));
+        assertEquals(List.of("find r/Milk"), autocompleter.complete("find r/mi"));
+        assertEquals(List.of("find r/+Milk"), autocompleter.complete("find r/+mi"));
+        assertEquals(List.of(), autocompleter.complete("find c/zzz"));
+    }
+
+    @Test
+    public void complete_prefixWithoutValues_noCompletions() {
+        assertEquals(List.of(), autocompleter.complete("add p/9"));
+        assertEquals(List.of(), autocompleter.complete("delete 1"));
+    }
+
+    @Test
+    public void complete_personsChanged_valuesUpdated() {
+        model.addPerson(new PersonBuilder().withChildName("Zara Lim").withTags("Prefect").withUniqueId(1000).build());
+        assertEquals(List.of("find c/Zara Lim"), autocompleter.complete("find c/z"));
+        assertEquals(List.of("find t/-Prefect"), autocompleter.complete("find t/-pre"));
+
+        model.deletePerson(BENSON);
+        assertEquals(List.of(), autocompleter.complete("find c/ben"));
+        assertEquals(List.of(), autocompleter.complete("find r/mi"));
+    }
+
+    @Test
+    public void complete_subjectsChanged_subjectsUpdated() {
+        assertEquals(List.of("top s/MATH"), autocompleter.complete("top s/ma"));
+        model.addSubject(new Subject("Malay"));
+        assertEquals(List.of("top s/Malay", "top s/MATH"), autocompleter.complete("top s/ma"));
+    }
+}
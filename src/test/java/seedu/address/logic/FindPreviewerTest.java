@@ -0,0 +1,101 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class FindPreviewerTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final FindPreviewer previewer = new FindPreviewer(model, new AddressBookParser());
+
+    @Test
+    public void preview_notKeywordFind_returnsEmpty() {
+        assertTrue(previewer.preview("list").isEmpty());
+        assertTrue(previewer.preview("find").isEmpty());
+        assertTrue(previewer.preview("find c/").isEmpty());
+        assertTrue(previewer.preview("find s/Math g/>50").isEmpty());
+    }
+
+    @Test
+    public void apply_computedPreview_filtersPersonList() {
+        FindPreview preview = previewer.preview("find c/Me").get();
+        preview.computeMatches();
+        assertTrue(preview.apply());
+        assertEquals(List.of(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+
+        // refined from the last preview
+        FindPreview refined = previewer.preview("find c/Mei").get();
+        refined.computeMatches();
+        assertTrue(refined.apply());
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void apply_cancelledPreview_notApplied() {
+        FindPreview preview = previewer.preview("find c/Me").get();
+        preview.cancel();
+        preview.computeMatches();
+        assertFalse(preview.apply());
+        assertEquals(model.getAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void apply_notComputed_notApplied() {
+        assertFalse(previewer.preview("find c/Me").get().apply());
+    }
+
+    @Test
+    public void apply_personsChanged_notApplied() {
+        FindPreview preview = previewer.preview("find c/Me").get();
+        preview.computeMatches();
+        model.addPerson(new PersonBuilder().withChildName("Zed Meier").withUniqueId(100).build());
+        assertFalse(preview.apply());
+    }
+
+    @Test
+    public void preview_notFindAfterPreviewShown_filterBeforePreviewRestored() {
+        model.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(CARL));
+        FindPreview preview = previewer.preview("find c/Me").get();
+        preview.computeMatches();
+        assertTrue(preview.apply());
+        FindPreview refined = previewer.preview("find c/Mei").get();
+        refined.computeMatches();
+        assertTrue(refined.apply());
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+
+        // the text rewritten into another command
+        assertTrue(previewer.preview("delete 1").isEmpty());
+        assertEquals(List.of(ALICE, CARL), model.getFilteredPersonList());
+
+        // the text cleared after another preview
+        preview = previewer.preview("find c/Me").get();
+        preview.computeMatches();
+        assertTrue(preview.apply());
+        assertTrue(previewer.preview("").isEmpty());
+        assertEquals(List.of(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void endPreview_noPreviewShown_filterUnchanged() {
+        model.updateFilteredPersonList(BENSON::equals);
+        previewer.endPreview();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -9,7 +11,10 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY_PARENT;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY_PARENT;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
@@ -20,10 +25,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -72,17 +79,59 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_afterFindPreview_indexesReferToListBeforePreview() throws Exception {
+        model.setAddressBook(getTypicalAddressBook());
+        FindPreview preview = logic.previewFind("find c/Me").get();
+        preview.computeMatches();
+        assertTrue(preview.apply());
+        assertEquals(BENSON, model.getFilteredPersonList().get(0));
+
+        logic.execute("delete 1");
+        assertFalse(model.hasPerson(ALICE));
+        assertTrue(model.hasPerson(BENSON));
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_throwsCommandException() throws Exception {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
+    public void flush_storageThrowsAdException_throwsCommandException() throws Exception {
         assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandChangesNothing_notSaved() throws Exception {
+        CountingAddressBookStorage addressBookStorage =
+                new CountingAddressBookStorage(temporaryFolder.resolve("parentconnect.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), Long.MAX_VALUE);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(0, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_burstOfChanges_savedOnce() throws Exception {
+        CountingAddressBookStorage addressBookStorage =
+                new CountingAddressBookStorage(temporaryFolder.resolve("parentconnect.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), Long.MAX_VALUE);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + NAME_DESC_AMY_PARENT + PHONE_DESC_AMY_PARENT
+                + EMAIL_DESC_AMY_PARENT + ADDRESS_DESC_AMY);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(0, addressBookStorage.saveCount);
+
+        logic.flush();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(new AddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -142,12 +191,14 @@ public class LogicManagerTest {
     }
 
     /**
-     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component, which is
+     * reported when the change that failed to save is flushed.
      *
      * @param e the exception to be thrown by the Storage component
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage)
+            throws CommandException, ParseException {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -168,8 +219,8 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
-        // Triggers the saveAddressBook method by executing an add command
+        logic = new LogicManager(model, storage, Long.MAX_VALUE);
+        // Triggers the saveAddressBook method by executing an add command and flushing it
         String addCommand =
                 AddCommand.COMMAND_WORD
                         + NAME_DESC_AMY
@@ -180,6 +231,25 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+        assertThrows(CommandException.class, expectedMessage, logic::flush);
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts how many times it has saved.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount = 0;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
     }
 }
@@ -10,7 +10,11 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +24,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -135,21 +140,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<AddressBookChange> takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getPersonById(int uniqueId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deletePersonById(int uniqueId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(List<Person> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersonById(int uniqueId, Person editedPerson) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -160,6 +190,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setFilterPublisher(Executor publisher) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletableFuture<Integer> updateFilteredPersonListInBackground(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshFilteredPersonListOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasSubject(Subject subject) {
             // Default stub: no subjects available
@@ -171,6 +226,71 @@ public class AddCommandTest {
             // Default stub: return empty subject list
             return List.of();
         }
+
+        @Override
+        public Optional<Subject> findSubject(String subjectName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addSubject(Subject subject) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void renameSubject(Subject target, Subject renamedSubject) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void retireSubject(Subject subject) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isEnrolled(Subject subject, Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void enrollPerson(Subject subject, Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unenrollPerson(Subject subject, Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setScore(Subject subject, Person person, int score) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getTopScorers(Subject subject, int k) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getBottomScorers(Subject subject, int k) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getScorersBelowPercentile(Subject subject, int percentile) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getRank(Subject subject, Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getPercentileRank(Subject subject, Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class AddSubjectCommandTest {
+    private static final Subject PHYSICS = new Subject("Physics");
+    private static final Subject CHEMISTRY = new Subject("Chemistry");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullSubjectList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddSubjectCommand(null));
+    }
+
+    @Test
+    public void execute_newSubjects_success() {
+        AddSubjectCommand command = new AddSubjectCommand(List.of(PHYSICS, CHEMISTRY));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.addSubject(PHYSICS);
+        expectedModel.addSubject(CHEMISTRY);
+        String expectedMessage = String.format(AddSubjectCommand.MESSAGE_SUCCESS, "Physics, Chemistry");
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertTrue(model.hasSubject(new Subject("PHYSICS")));
+    }
+
+    @Test
+    public void execute_subjectAlreadyInCatalogue_throwsCommandException() {
+        AddSubjectCommand command = new AddSubjectCommand(List.of(PHYSICS, new Subject("math")));
+
+        assertCommandFailure(command, model, String.format(AddSubjectCommand.MESSAGE_DUPLICATE_SUBJECT, "math"));
+        assertFalse(model.hasSubject(PHYSICS));
+    }
+
+    @Test
+    public void equals() {
+        AddSubjectCommand addPhysicsCommand = new AddSubjectCommand(List.of(PHYSICS));
+        AddSubjectCommand addChemistryCommand = new AddSubjectCommand(List.of(CHEMISTRY));
+
+        // same object -> returns true
+        assertTrue(addPhysicsCommand.equals(addPhysicsCommand));
+
+        // same values -> returns true
+        assertTrue(addPhysicsCommand.equals(new AddSubjectCommand(List.of(new Subject("physics")))));
+
+        // different types -> returns false
+        assertFalse(addPhysicsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(addPhysicsCommand.equals(null));
+
+        // different subjects -> returns false
+        assertFalse(addPhysicsCommand.equals(addChemistryCommand));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.BottomCommand.MESSAGE_SUCCESS;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.ScorersCommand.MESSAGE_SCORER;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class BottomCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_gradedChildren_listsLowestFirst() {
+        model.enrollPerson(Subject.ENGLISH, ALICE);
+        model.enrollPerson(Subject.ENGLISH, BENSON);
+        model.enrollPerson(Subject.ENGLISH, CARL);
+        model.setScore(Subject.ENGLISH, ALICE, 75);
+        model.setScore(Subject.ENGLISH, BENSON, 40);
+        model.setScore(Subject.ENGLISH, CARL, 90);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(BENSON));
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, "ENGLISH")
+                + String.format(MESSAGE_SCORER, 3, Messages.formatShort(BENSON), 40)
+                + String.format(MESSAGE_SCORER, 2, Messages.formatShort(ALICE), 75);
+
+        assertCommandSuccess(new BottomCommand(2, Subject.ENGLISH), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        assertCommandFailure(new BottomCommand(3, new Subject("Physics")), model,
+                String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics"));
+    }
+
+    @Test
+    public void equals() {
+        BottomCommand bottomCommand = new BottomCommand(3, Subject.MATH);
+
+        // same object -> returns true
+        assertTrue(bottomCommand.equals(bottomCommand));
+
+        // same values -> returns true
+        assertTrue(bottomCommand.equals(new BottomCommand(3, Subject.MATH)));
+
+        // different types -> returns false
+        assertFalse(bottomCommand.equals(new TopCommand(3, Subject.MATH)));
+
+        // null -> returns false
+        assertFalse(bottomCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(bottomCommand.equals(new BottomCommand(4, Subject.MATH)));
+    }
+}
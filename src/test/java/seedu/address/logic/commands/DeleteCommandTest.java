@@ -19,7 +19,6 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.subject.Subject;
-import seedu.address.testutil.SubjectTestUtil;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -113,14 +112,11 @@ public class DeleteCommandTest {
 
     @Test
     public void execute_deleteAlsoUnenrollsFromSubjects() {
-        // Reset subjects to avoid interference from other tests
-        SubjectTestUtil.resetSubjects();
-
         Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
 
         // Enroll and set a score
-        Subject.MATH.enrollPerson(personToDelete);
-        Subject.MATH.setScore(personToDelete, 85);
+        model.enrollPerson(Subject.MATH, personToDelete);
+        model.setScore(Subject.MATH, personToDelete, 85);
 
         DeleteCommand deleteCommand = new DeleteCommand(new Index[] {INDEX_FIRST_PERSON});
 
@@ -133,10 +129,7 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
 
         // After deletion, subject should no longer contain the person
-        assertFalse(Subject.MATH.getStudents().contains(personToDelete));
-
-        // Clean up subjects
-        SubjectTestUtil.resetSubjects();
+        assertFalse(model.isEnrolled(Subject.MATH, personToDelete));
     }
 
     /**
@@ -31,7 +31,6 @@ import seedu.address.model.person.Person;
 import seedu.address.model.subject.Subject;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
-import seedu.address.testutil.SubjectTestUtil;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for EditCommand.
@@ -193,14 +192,11 @@ public class EditCommandTest {
 
     @Test
     public void execute_editPreservesSubjectEnrollmentAndScore() {
-        // Ensure clean subject state for this test
-        SubjectTestUtil.resetSubjects();
-
         Person original = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
 
         // Enroll original person and set score
-        Subject.MATH.enrollPerson(original);
-        Subject.MATH.setScore(original, 75);
+        model.enrollPerson(Subject.MATH, original);
+        model.setScore(Subject.MATH, original, 75);
 
         // Prepare edited person (change child's name)
         Person editedPerson = new PersonBuilder(original).withChildName("Edited Name").build();
@@ -216,11 +212,9 @@ public class EditCommandTest {
         assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
 
         // Verify subject enrollment transferred and score preserved
-        assertTrue(Subject.MATH.getStudents().contains(editedPerson));
-        assertEquals(75, Subject.MATH.getScore(editedPerson));
-
-        // Clean up subjects to avoid polluting other tests
-        SubjectTestUtil.resetSubjects();
+        assertTrue(model.isEnrolled(Subject.MATH, editedPerson));
+        assertFalse(model.isEnrolled(Subject.MATH, original));
+        assertEquals(75, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, editedPerson));
     }
 
 }
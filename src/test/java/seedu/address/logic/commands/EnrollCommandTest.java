@@ -15,7 +15,6 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -29,21 +28,13 @@ import seedu.address.model.subject.Subject;
 public class EnrollCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
-    @AfterEach
-    public void cleanUp() {
-        for (Subject subject : Subject.values()) {
-            subject.getStudents().forEach(person -> subject.unenrollPerson(person));
-        }
-    }
-
     public void setupTypical() {
-        cleanUp();
-        Subject.MATH.enrollPerson(ALICE);
-        Subject.MATH.enrollPerson(BENSON);
-        Subject.SCIENCE.enrollPerson(ALICE);
-        Subject.MATH.setScore(BENSON, 100);
-        Subject.MATH.setScore(ALICE, 75);
-        Subject.SCIENCE.setScore(ALICE, 80);
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.SCIENCE, ALICE);
+        model.setScore(Subject.MATH, BENSON, 100);
+        model.setScore(Subject.MATH, ALICE, 75);
+        model.setScore(Subject.SCIENCE, ALICE, 80);
     }
 
     @Test
@@ -64,8 +55,8 @@ public class EnrollCommandTest {
         Model expectedModel = model;
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertTrue(Subject.MATH.getStudents().contains(person));
-        assertEquals(-1, Subject.MATH.getScore(person));
+        assertTrue(model.isEnrolled(Subject.MATH, person));
+        assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, person));
     }
 
     @Test
@@ -98,8 +89,8 @@ public class EnrollCommandTest {
         // Verify that each student is enrolled and initialized correctly
         for (Index index : indexes) {
             Person person = model.getFilteredPersonList().get(index.getZeroBased());
-            assertTrue(Subject.MATH.getStudents().contains(person));
-            assertEquals(-1, Subject.MATH.getScore(person));
+            assertTrue(model.isEnrolled(Subject.MATH, person));
+            assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, person));
         }
     }
 
@@ -134,8 +125,8 @@ public class EnrollCommandTest {
 
         // Verify that each student is enrolled and initialized correctly
         for (Person person : personList) {
-            assertTrue(Subject.MATH.getStudents().contains(person));
-            assertEquals(-1, Subject.MATH.getScore(person));
+            assertTrue(model.isEnrolled(Subject.MATH, person));
+            assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, person));
         }
     }
 
@@ -162,10 +153,10 @@ public class EnrollCommandTest {
         expectedMessage += MESSAGE_DONE;
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertTrue(Subject.MATH.getStudents().contains(person));
-        assertTrue(Subject.SCIENCE.getStudents().contains(person));
-        assertEquals(-1, Subject.MATH.getScore(person));
-        assertEquals(-1, Subject.SCIENCE.getScore(person));
+        assertTrue(model.isEnrolled(Subject.MATH, person));
+        assertTrue(model.isEnrolled(Subject.SCIENCE, person));
+        assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, person));
+        assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.SCIENCE, person));
     }
 
     @Test
@@ -202,10 +193,10 @@ public class EnrollCommandTest {
         // Verify that each student is enrolled and initialized correctly
         for (Index index : indexes) {
             Person person = model.getFilteredPersonList().get(index.getZeroBased());
-            assertTrue(Subject.MATH.getStudents().contains(person));
-            assertTrue(Subject.SCIENCE.getStudents().contains(person));
-            assertEquals(-1, Subject.MATH.getScore(person));
-            assertEquals(-1, Subject.SCIENCE.getScore(person));
+            assertTrue(model.isEnrolled(Subject.MATH, person));
+            assertTrue(model.isEnrolled(Subject.SCIENCE, person));
+            assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, person));
+            assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.SCIENCE, person));
         }
     }
 
@@ -244,10 +235,10 @@ public class EnrollCommandTest {
 
         // Verify that each student is enrolled and initialized correctly
         for (Person person : personList) {
-            assertTrue(Subject.MATH.getStudents().contains(person));
-            assertEquals(-1, Subject.MATH.getScore(person));
-            assertTrue(Subject.SCIENCE.getStudents().contains(person));
-            assertEquals(-1, Subject.SCIENCE.getScore(person));
+            assertTrue(model.isEnrolled(Subject.MATH, person));
+            assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, person));
+            assertTrue(model.isEnrolled(Subject.SCIENCE, person));
+            assertEquals(-1, model.getAddressBook().getSubjectStore().getScore(Subject.SCIENCE, person));
         }
     }
 
@@ -283,13 +274,22 @@ public class EnrollCommandTest {
         expectedMessage += MESSAGE_DONE;
 
         assertCommandSuccess(command, model, expectedMessage, model);
-        assertEquals(2, Subject.MATH.getStudents().size());
-        assertEquals(2, Subject.SCIENCE.getStudents().size());
-        assertTrue(Subject.MATH.getStudents().contains(ALICE));
-        assertTrue(Subject.MATH.getStudents().contains(BENSON));
-        assertTrue(Subject.SCIENCE.getStudents().contains(ALICE));
-        assertTrue(Subject.SCIENCE.getStudents().contains(ALICE));
-        assertTrue(Subject.SCIENCE.getScore(ALICE) == 80);
-        assertTrue(Subject.SCIENCE.getScore(BENSON) == -1);
+        assertEquals(2, model.getAddressBook().getSubjectStore().getEnrolledCount(Subject.MATH));
+        assertEquals(2, model.getAddressBook().getSubjectStore().getEnrolledCount(Subject.SCIENCE));
+        assertTrue(model.isEnrolled(Subject.MATH, ALICE));
+        assertTrue(model.isEnrolled(Subject.MATH, BENSON));
+        assertTrue(model.isEnrolled(Subject.SCIENCE, ALICE));
+        assertTrue(model.isEnrolled(Subject.SCIENCE, ALICE));
+        assertTrue(model.getAddressBook().getSubjectStore().getScore(Subject.SCIENCE, ALICE) == 80);
+        assertTrue(model.getAddressBook().getSubjectStore().getScore(Subject.SCIENCE, BENSON) == -1);
+    }
+
+    @Test
+    public void subjectNotInCatalogue() {
+        Index[] indexes = new Index[] { Index.fromOneBased(1) };
+        EnrollCommand command = new EnrollCommand(indexes, false, List.of(new Subject("Physics")));
+
+        String expectedMessage = String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics");
+        assertCommandFailure(command, model, expectedMessage);
     }
 }
@@ -4,11 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CHILDNAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENTNAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
@@ -22,12 +24,15 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.subject.ScoreRange;
+import seedu.address.model.subject.Subject;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -69,6 +74,17 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // same score filter -> returns true
+        FindCommand findMathCommand = new FindCommand(firstPredicate, Subject.MATH, ScoreRange.between(80, 100));
+        assertTrue(findMathCommand.equals(
+                new FindCommand(firstPredicate, new Subject("math"), ScoreRange.between(80, 100))));
+
+        // different score filter -> returns false
+        assertFalse(findMathCommand.equals(findFirstCommand));
+        assertFalse(findMathCommand.equals(new FindCommand(firstPredicate, Subject.MATH, ScoreRange.UNSET)));
+        assertFalse(findMathCommand.equals(
+                new FindCommand(firstPredicate, Subject.SCIENCE, ScoreRange.between(80, 100))));
     }
 
     @Test
@@ -132,6 +148,96 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON, DANIEL, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyChildName_personsWithTyposFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonContainsKeywordsPredicate predicate = preparePredicate(" c/~Meir");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzyChildName_closestMatchesFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonContainsKeywordsPredicate predicate = preparePredicate(" c/~Kunz");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FIONA, CARL), model.getFilteredPersonList());
+
+        // a later sort replaces the ranking
+        model.sortFilteredPersonList(Model.COMPARATOR_ORDER_ADDED);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneticAndSubstringParentName_bothMatched() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonContainsKeywordsPredicate predicate = preparePredicate(" b/?Carlz Fionas");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_requiredAndExcludedAllergies_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        PersonContainsKeywordsPredicate predicate = preparePredicate(" c/Meier r/-Eggs");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+
+        expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        predicate = preparePredicate(" r/+milk +SHELLFISH");
+        command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_scoreRange_gradedPersonsFound() {
+        enrollMathStudents();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(preparePredicate(""), Subject.MATH, ScoreRange.between(60, 100));
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(CARL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unsetScoreRange_ungradedPersonsFound() {
+        enrollMathStudents();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(preparePredicate(""), Subject.MATH, ScoreRange.UNSET);
+        expectedModel.updateFilteredPersonList(person -> person.equals(DANIEL));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_scoreRangeAndKeywords_bothMustMatch() {
+        enrollMathStudents();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(preparePredicate(" c/Meier"), Subject.MATH, ScoreRange.between(0, 100));
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        Subject physics = new Subject("Physics");
+        FindCommand command = new FindCommand(preparePredicate(""), physics, ScoreRange.between(0, 100));
+        assertCommandFailure(command, model, String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, physics));
+    }
 
     @Test
     public void toStringMethod() {
@@ -146,6 +252,19 @@ public class FindCommandTest {
         assertEquals(expected, findCommand.toString());
     }
 
+    /**
+     * Enrolls ALICE, BENSON, CARL and DANIEL in MATH, grading all but DANIEL.
+     */
+    private void enrollMathStudents() {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.MATH, CARL);
+        model.enrollPerson(Subject.MATH, DANIEL);
+        model.setScore(Subject.MATH, ALICE, 85);
+        model.setScore(Subject.MATH, BENSON, 40);
+        model.setScore(Subject.MATH, CARL, 60);
+    }
+
     /**
      * Parses {@code userInput} into a {@code PersonContainsKeywordsPredicate}.
      */
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.PercentileCommand.MESSAGE_SUCCESS;
+import static seedu.address.logic.commands.ScorersCommand.MESSAGE_SCORER;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class PercentileCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_gradedChildren_listsChildrenBelowPercentile() {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.MATH, CARL);
+        model.enrollPerson(Subject.MATH, DANIEL);
+        model.setScore(Subject.MATH, ALICE, 30);
+        model.setScore(Subject.MATH, BENSON, 60);
+        model.setScore(Subject.MATH, CARL, 90);
+        model.setScore(Subject.MATH, DANIEL, 80);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(BENSON));
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, 50, "MATH")
+                + String.format(MESSAGE_SCORER, 4, Messages.formatShort(ALICE), 30)
+                + String.format(MESSAGE_SCORER, 3, Messages.formatShort(BENSON), 60);
+
+        assertCommandSuccess(new PercentileCommand(50, Subject.MATH), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noGradedChildren_listUnchanged() {
+        model.enrollPerson(Subject.MATH, ALICE);
+
+        assertCommandSuccess(new PercentileCommand(10, Subject.MATH), model,
+                String.format(Messages.MESSAGE_NO_GRADED_CHILDREN, "MATH"), model);
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        assertCommandFailure(new PercentileCommand(10, new Subject("Physics")), model,
+                String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics"));
+    }
+
+    @Test
+    public void equals() {
+        PercentileCommand percentileCommand = new PercentileCommand(10, Subject.MATH);
+
+        // same object -> returns true
+        assertTrue(percentileCommand.equals(percentileCommand));
+
+        // same values -> returns true
+        assertTrue(percentileCommand.equals(new PercentileCommand(10, Subject.MATH)));
+
+        // different types -> returns false
+        assertFalse(percentileCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(percentileCommand.equals(null));
+
+        // different percentile -> returns false
+        assertFalse(percentileCommand.equals(new PercentileCommand(20, Subject.MATH)));
+    }
+}
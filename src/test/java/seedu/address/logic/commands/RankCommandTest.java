@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.RankCommand.MESSAGE_NOT_ENROLLED;
+import static seedu.address.logic.commands.RankCommand.MESSAGE_NOT_GRADED;
+import static seedu.address.logic.commands.RankCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class RankCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.MATH, CARL);
+        model.setScore(Subject.MATH, ALICE, 75);
+        model.setScore(Subject.MATH, BENSON, 100);
+    }
+
+    @Test
+    public void execute_gradedChild_showsRank() {
+        String expectedMessage = String.format(MESSAGE_SUCCESS, Messages.formatShort(ALICE), 2, 2, "MATH", 75, 0);
+
+        assertCommandSuccess(new RankCommand(INDEX_FIRST_PERSON, Subject.MATH), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_ungradedChild_throwsCommandException() {
+        assertCommandFailure(new RankCommand(INDEX_THIRD_PERSON, Subject.MATH), model,
+                String.format(MESSAGE_NOT_GRADED, Messages.formatShort(CARL), "MATH"));
+    }
+
+    @Test
+    public void execute_notEnrolledChild_throwsCommandException() {
+        assertCommandFailure(new RankCommand(INDEX_SECOND_PERSON, Subject.SCIENCE), model,
+                String.format(MESSAGE_NOT_ENROLLED, Messages.formatShort(BENSON), "SCIENCE"));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+
+        assertCommandFailure(new RankCommand(outOfBoundIndex, Subject.MATH), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        assertCommandFailure(new RankCommand(INDEX_FIRST_PERSON, new Subject("Physics")), model,
+                String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics"));
+    }
+
+    @Test
+    public void equals() {
+        RankCommand rankCommand = new RankCommand(INDEX_FIRST_PERSON, Subject.MATH);
+
+        // same object -> returns true
+        assertTrue(rankCommand.equals(rankCommand));
+
+        // same values -> returns true
+        assertTrue(rankCommand.equals(new RankCommand(INDEX_FIRST_PERSON, Subject.MATH)));
+
+        // different types -> returns false
+        assertFalse(rankCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(rankCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(rankCommand.equals(new RankCommand(INDEX_SECOND_PERSON, Subject.MATH)));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class RenameSubjectCommandTest {
+    private static final Subject MATHEMATICS = new Subject("Mathematics");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_enrolledSubject_enrollmentsAndScoresKept() {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.setScore(Subject.MATH, ALICE, 80);
+        RenameSubjectCommand command = new RenameSubjectCommand(new Subject("math"), MATHEMATICS);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.renameSubject(Subject.MATH, MATHEMATICS);
+        String expectedMessage = String.format(RenameSubjectCommand.MESSAGE_SUCCESS, "MATH", "Mathematics");
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertFalse(model.hasSubject(Subject.MATH));
+        assertTrue(model.isEnrolled(MATHEMATICS, ALICE));
+        assertEquals(80, model.getAddressBook().getSubjectStore().getScore(MATHEMATICS, ALICE));
+    }
+
+    @Test
+    public void execute_changeOfCase_success() {
+        RenameSubjectCommand command = new RenameSubjectCommand(Subject.MATH, new Subject("Math"));
+
+        String expectedMessage = String.format(RenameSubjectCommand.MESSAGE_SUCCESS, "MATH", "Math");
+
+        assertCommandSuccess(command, model, expectedMessage, model);
+        assertEquals("Math", model.findSubject("math").get().subjectName);
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        RenameSubjectCommand command = new RenameSubjectCommand(new Subject("Physics"), MATHEMATICS);
+
+        assertCommandFailure(command, model, String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics"));
+    }
+
+    @Test
+    public void execute_nameTaken_throwsCommandException() {
+        RenameSubjectCommand command = new RenameSubjectCommand(Subject.MATH, new Subject("science"));
+
+        assertCommandFailure(command, model, String.format(AddSubjectCommand.MESSAGE_DUPLICATE_SUBJECT, "science"));
+    }
+
+    @Test
+    public void equals() {
+        RenameSubjectCommand renameCommand = new RenameSubjectCommand(Subject.MATH, MATHEMATICS);
+
+        // same object -> returns true
+        assertTrue(renameCommand.equals(renameCommand));
+
+        // same values -> returns true
+        assertTrue(renameCommand.equals(new RenameSubjectCommand(Subject.MATH, new Subject("Mathematics"))));
+
+        // different types -> returns false
+        assertFalse(renameCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(renameCommand.equals(null));
+
+        // different target -> returns false
+        assertFalse(renameCommand.equals(new RenameSubjectCommand(Subject.SCIENCE, MATHEMATICS)));
+
+        // new name differs only in case -> returns false
+        assertFalse(renameCommand.equals(new RenameSubjectCommand(Subject.MATH, new Subject("MATHEMATICS"))));
+    }
+}
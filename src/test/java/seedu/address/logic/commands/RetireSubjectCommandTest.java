@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.RetireSubjectCommand.MESSAGE_DONE;
+import static seedu.address.logic.commands.RetireSubjectCommand.MESSAGE_RETIRE_SUBJECT_SUCCESS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class RetireSubjectCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_enrolledSubjects_studentsUnenrolled() {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.SCIENCE, ALICE);
+        RetireSubjectCommand command = new RetireSubjectCommand(List.of(new Subject("math"), Subject.ENGLISH));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.retireSubject(Subject.MATH);
+        expectedModel.retireSubject(Subject.ENGLISH);
+        String expectedMessage = String.format(MESSAGE_RETIRE_SUBJECT_SUCCESS, "MATH", 2)
+                + String.format(MESSAGE_RETIRE_SUBJECT_SUCCESS, "ENGLISH", 0)
+                + MESSAGE_DONE;
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertFalse(model.hasSubject(Subject.MATH));
+        assertTrue(model.isEnrolled(Subject.SCIENCE, ALICE));
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        RetireSubjectCommand command = new RetireSubjectCommand(List.of(Subject.MATH, new Subject("Physics")));
+
+        assertCommandFailure(command, model, String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics"));
+        assertTrue(model.hasSubject(Subject.MATH));
+    }
+
+    @Test
+    public void equals() {
+        RetireSubjectCommand retireMathCommand = new RetireSubjectCommand(List.of(Subject.MATH));
+        RetireSubjectCommand retireScienceCommand = new RetireSubjectCommand(List.of(Subject.SCIENCE));
+
+        // same object -> returns true
+        assertTrue(retireMathCommand.equals(retireMathCommand));
+
+        // same values -> returns true
+        assertTrue(retireMathCommand.equals(new RetireSubjectCommand(List.of(new Subject("Math")))));
+
+        // different types -> returns false
+        assertFalse(retireMathCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(retireMathCommand.equals(null));
+
+        // different subjects -> returns false
+        assertFalse(retireMathCommand.equals(retireScienceCommand));
+    }
+}
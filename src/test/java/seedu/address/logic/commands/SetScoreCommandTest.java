@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.SetScoreCommand.MESSAGE_DONE;
 import static seedu.address.logic.commands.SetScoreCommand.MESSAGE_SET_SCORE_SUCCESS;
@@ -10,7 +11,6 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -23,21 +23,13 @@ import seedu.address.model.subject.Subject;
 public class SetScoreCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
-    @AfterEach
-    public void cleanUp() {
-        for (Subject subject : Subject.values()) {
-            subject.getStudents().forEach(person -> subject.unenrollPerson(person));
-        }
-    }
-
     public void setupTypical() {
-        cleanUp();
-        Subject.MATH.enrollPerson(ALICE);
-        Subject.MATH.enrollPerson(BENSON);
-        Subject.SCIENCE.enrollPerson(ALICE);
-        Subject.MATH.setScore(BENSON, 100);
-        Subject.MATH.setScore(ALICE, 75);
-        Subject.SCIENCE.setScore(ALICE, 80);
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.SCIENCE, ALICE);
+        model.setScore(Subject.MATH, BENSON, 100);
+        model.setScore(Subject.MATH, ALICE, 75);
+        model.setScore(Subject.SCIENCE, ALICE, 80);
     }
 
     @Test
@@ -53,7 +45,7 @@ public class SetScoreCommandTest {
         expectedMessage += MESSAGE_DONE;
 
         assertCommandSuccess(command, model, expectedMessage, model);
-        assertEquals(60, Subject.MATH.getScore(ALICE));
+        assertEquals(60, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, ALICE));
     }
 
     @Test
@@ -75,8 +67,8 @@ public class SetScoreCommandTest {
         expectedMessage += MESSAGE_DONE;
 
         assertCommandSuccess(command, model, expectedMessage, model);
-        assertEquals(60, Subject.MATH.getScore(ALICE));
-        assertEquals(60, Subject.MATH.getScore(BENSON));
+        assertEquals(60, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, ALICE));
+        assertEquals(60, model.getAddressBook().getSubjectStore().getScore(Subject.MATH, BENSON));
     }
 
     @Test
@@ -93,6 +85,15 @@ public class SetScoreCommandTest {
         expectedMessage += MESSAGE_DONE;
 
         assertCommandSuccess(command, model, expectedMessage, model);
-        assertFalse(Subject.MATH.getStudents().contains(ALICE));
+        assertFalse(model.isEnrolled(Subject.MATH, ALICE));
+    }
+
+    @Test
+    public void subjectNotInCatalogue() {
+        Index[] indexes = new Index[] { Index.fromOneBased(1) };
+        SetScoreCommand command = new SetScoreCommand(indexes, false, new Subject("Physics"), 50);
+
+        String expectedMessage = String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics");
+        assertCommandFailure(command, model, expectedMessage);
     }
 }
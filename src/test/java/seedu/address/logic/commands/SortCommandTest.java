@@ -0,0 +1,149 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.SortCommand.MESSAGE_SUCCESS;
+import static seedu.address.logic.commands.SortCommand.MESSAGE_UNSORTED;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_childName_sortedAlphabetically() throws Exception {
+        CommandResult result = new SortCommand(SortField.CHILD).execute(model);
+
+        assertEquals(String.format(MESSAGE_SUCCESS, "child name"), result.getFeedbackToUser());
+        assertEquals(List.of(ALICE, AMY, BENSON, BOB, CARL, DANIEL, ELLE, FIONA, GEORGE),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_parentName_sortedAlphabetically() throws Exception {
+        model.updateFilteredPersonList(person -> !person.equals(GEORGE));
+        new SortCommand(SortField.PARENT).execute(model);
+
+        assertEquals(List.of(AMY, BENSON, BOB, CARL, DANIEL, ELLE, FIONA, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personAddedAfterSorting_keptInPlace() throws Exception {
+        new SortCommand(SortField.CHILD).execute(model);
+        Person bella = new PersonBuilder().withChildName("Bella Tan").withUniqueId(1000).build();
+        model.addPerson(bella);
+
+        assertEquals(List.of(ALICE, AMY, bella, BENSON, BOB, CARL, DANIEL, ELLE, FIONA, GEORGE),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_score_highestFirstThenUngradedThenNotEnrolled() throws Exception {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, CARL);
+        model.enrollPerson(Subject.MATH, DANIEL);
+        model.setScore(Subject.MATH, ALICE, 60);
+        model.setScore(Subject.MATH, DANIEL, 90);
+        model.updateFilteredPersonList(person -> List.of(ALICE, BENSON, CARL, DANIEL).contains(person));
+
+        CommandResult result = new SortCommand(new Subject("math")).execute(model);
+
+        assertEquals(String.format(MESSAGE_SUCCESS, "score in MATH"), result.getFeedbackToUser());
+        assertEquals(List.of(DANIEL, ALICE, CARL, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_scoreChangedAfterSorting_resortedOnRefresh() throws Exception {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.setScore(Subject.MATH, ALICE, 60);
+        model.updateFilteredPersonList(person -> List.of(ALICE, BENSON, CARL).contains(person));
+        new SortCommand(Subject.MATH).execute(model);
+
+        model.enrollPerson(Subject.MATH, CARL);
+        model.setScore(Subject.MATH, CARL, 80);
+        assertEquals(List.of(ALICE, BENSON, CARL), model.getFilteredPersonList());
+
+        model.refreshFilteredPersonListOrder();
+        assertEquals(List.of(CARL, ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        Subject subject = new Subject("Art");
+        assertCommandFailure(new SortCommand(subject), model,
+                String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, subject));
+    }
+
+    @Test
+    public void execute_subjects_mostFirst() throws Exception {
+        model.enrollPerson(Subject.MATH, CARL);
+        model.enrollPerson(Subject.SCIENCE, CARL);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.updateFilteredPersonList(person -> List.of(ALICE, BENSON, CARL).contains(person));
+
+        new SortCommand(SortField.SUBJECTS).execute(model);
+
+        assertEquals(List.of(CARL, BENSON, ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_none_orderAddedRestored() throws Exception {
+        new SortCommand(SortField.CHILD).execute(model);
+        CommandResult result = new SortCommand(SortField.NONE).execute(model);
+
+        assertEquals(MESSAGE_UNSORTED, result.getFeedbackToUser());
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByChild = new SortCommand(SortField.CHILD);
+        SortCommand sortByMath = new SortCommand(Subject.MATH);
+
+        // same values -> returns true
+        assertTrue(sortByChild.equals(new SortCommand(SortField.CHILD)));
+        assertTrue(sortByMath.equals(new SortCommand(new Subject("math"))));
+
+        // same object -> returns true
+        assertTrue(sortByChild.equals(sortByChild));
+
+        // null -> returns false
+        assertFalse(sortByChild.equals(null));
+
+        // different values -> returns false
+        assertFalse(sortByChild.equals(new SortCommand(SortField.PARENT)));
+        assertFalse(sortByMath.equals(new SortCommand(Subject.SCIENCE)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(SortCommand.class.getCanonicalName() + "{field=child}",
+                new SortCommand(SortField.CHILD).toString());
+        assertEquals(SortCommand.class.getCanonicalName() + "{field=score, subject=" + Subject.MATH + "}",
+                new SortCommand(Subject.MATH).toString());
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.StatsCommand.MESSAGE_DISTRIBUTION;
+import static seedu.address.logic.commands.StatsCommand.MESSAGE_NO_SCORES;
+import static seedu.address.logic.commands.StatsCommand.MESSAGE_SCORES;
+import static seedu.address.logic.commands.StatsCommand.MESSAGE_SUMMARY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_gradedStudents_showsStatistics() {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.MATH, CARL);
+        model.setScore(Subject.MATH, ALICE, 75);
+        model.setScore(Subject.MATH, BENSON, 100);
+
+        String expectedMessage = String.format(MESSAGE_SUMMARY, "MATH", 3, 2, 1)
+                + String.format(MESSAGE_SCORES, 87.5, 75, 100)
+                + String.format(MESSAGE_DISTRIBUTION, "0-9: 0, 10-19: 0, 20-29: 0, 30-39: 0, 40-49: 0, "
+                        + "50-59: 0, 60-69: 0, 70-79: 1, 80-89: 0, 90-100: 1");
+
+        assertCommandSuccess(new StatsCommand(new Subject("math")), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_noGradedStudents_showsCountsOnly() {
+        model.enrollPerson(Subject.ENGLISH, ALICE);
+
+        String expectedMessage = String.format(MESSAGE_SUMMARY, "ENGLISH", 1, 0, 1) + MESSAGE_NO_SCORES;
+
+        assertCommandSuccess(new StatsCommand(Subject.ENGLISH), model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        assertCommandFailure(new StatsCommand(new Subject("Physics")), model,
+                String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics"));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand mathStatsCommand = new StatsCommand(Subject.MATH);
+
+        // same object -> returns true
+        assertTrue(mathStatsCommand.equals(mathStatsCommand));
+
+        // same values -> returns true
+        assertTrue(mathStatsCommand.equals(new StatsCommand(new Subject("math"))));
+
+        // different types -> returns false
+        assertFalse(mathStatsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(mathStatsCommand.equals(null));
+
+        // different subject -> returns false
+        assertFalse(mathStatsCommand.equals(new StatsCommand(Subject.SCIENCE)));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.ScorersCommand.MESSAGE_SCORER;
+import static seedu.address.logic.commands.TopCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class TopCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.MATH, CARL);
+        model.setScore(Subject.MATH, ALICE, 75);
+        model.setScore(Subject.MATH, BENSON, 100);
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_gradedChildren_listsHighestFirst() {
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, "MATH")
+                + String.format(MESSAGE_SCORER, 1, Messages.formatShort(BENSON), 100)
+                + String.format(MESSAGE_SCORER, 2, Messages.formatShort(ALICE), 75);
+        expectedModel.updateFilteredPersonList(person -> person.equals(ALICE) || person.equals(BENSON));
+
+        assertCommandSuccess(new TopCommand(5, new Subject("math")), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fewerRequested_listsOnlyThatMany() {
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 1, "MATH")
+                + String.format(MESSAGE_SCORER, 1, Messages.formatShort(BENSON), 100);
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON));
+
+        assertCommandSuccess(new TopCommand(1, Subject.MATH), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noGradedChildren_listUnchanged() {
+        String expectedMessage = String.format(Messages.MESSAGE_NO_GRADED_CHILDREN, "SCIENCE");
+
+        assertCommandSuccess(new TopCommand(3, Subject.SCIENCE), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownSubject_throwsCommandException() {
+        assertCommandFailure(new TopCommand(3, new Subject("Physics")), model,
+                String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics"));
+    }
+
+    @Test
+    public void equals() {
+        TopCommand topCommand = new TopCommand(3, Subject.MATH);
+
+        // same object -> returns true
+        assertTrue(topCommand.equals(topCommand));
+
+        // same values -> returns true
+        assertTrue(topCommand.equals(new TopCommand(3, new Subject("math"))));
+
+        // different types -> returns false
+        assertFalse(topCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(topCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(topCommand.equals(new TopCommand(4, Subject.MATH)));
+
+        // different subject -> returns false
+        assertFalse(topCommand.equals(new TopCommand(3, Subject.SCIENCE)));
+    }
+}
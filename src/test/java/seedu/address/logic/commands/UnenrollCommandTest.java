@@ -15,7 +15,6 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -29,21 +28,13 @@ import seedu.address.model.subject.Subject;
 public class UnenrollCommandTest {
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
-    @AfterEach
-    public void cleanUp() {
-        for (Subject subject : Subject.values()) {
-            subject.getStudents().forEach(person -> subject.unenrollPerson(person));
-        }
-    }
-
     public void setupTypical() {
-        cleanUp();
-        Subject.MATH.enrollPerson(ALICE);
-        Subject.MATH.enrollPerson(BENSON);
-        Subject.SCIENCE.enrollPerson(ALICE);
-        Subject.MATH.setScore(BENSON, 100);
-        Subject.MATH.setScore(ALICE, 75);
-        Subject.SCIENCE.setScore(ALICE, 80);
+        model.enrollPerson(Subject.MATH, ALICE);
+        model.enrollPerson(Subject.MATH, BENSON);
+        model.enrollPerson(Subject.SCIENCE, ALICE);
+        model.setScore(Subject.MATH, BENSON, 100);
+        model.setScore(Subject.MATH, ALICE, 75);
+        model.setScore(Subject.SCIENCE, ALICE, 80);
     }
 
     @Test
@@ -67,7 +58,7 @@ public class UnenrollCommandTest {
         Model expectedModel = model;
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertFalse(Subject.MATH.getStudents().contains(person));
+        assertFalse(model.isEnrolled(Subject.MATH, person));
     }
 
     @Test
@@ -100,7 +91,7 @@ public class UnenrollCommandTest {
         // Verify that each student is unenrolled
         for (Index index : indexes) {
             Person person = model.getFilteredPersonList().get(index.getZeroBased());
-            assertFalse(Subject.MATH.getStudents().contains(person));
+            assertFalse(model.isEnrolled(Subject.MATH, person));
         }
     }
 
@@ -143,7 +134,7 @@ public class UnenrollCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
 
         for (Person person : personList) {
-            assertFalse(Subject.MATH.getStudents().contains(person));
+            assertFalse(model.isEnrolled(Subject.MATH, person));
         }
     }
 
@@ -171,8 +162,8 @@ public class UnenrollCommandTest {
         Model expectedModel = model;
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertFalse(Subject.MATH.getStudents().contains(person));
-        assertFalse(Subject.SCIENCE.getStudents().contains(person));
+        assertFalse(model.isEnrolled(Subject.MATH, person));
+        assertFalse(model.isEnrolled(Subject.SCIENCE, person));
     }
 
     @Test
@@ -208,8 +199,8 @@ public class UnenrollCommandTest {
 
         for (Index index : indexes) {
             Person person = model.getFilteredPersonList().get(index.getZeroBased());
-            assertFalse(Subject.MATH.getStudents().contains(person));
-            assertFalse(Subject.SCIENCE.getStudents().contains(person));
+            assertFalse(model.isEnrolled(Subject.MATH, person));
+            assertFalse(model.isEnrolled(Subject.SCIENCE, person));
         }
     }
 
@@ -258,8 +249,8 @@ public class UnenrollCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
 
         for (Person person : personList) {
-            assertFalse(Subject.MATH.getStudents().contains(person));
-            assertFalse(Subject.SCIENCE.getStudents().contains(person));
+            assertFalse(model.isEnrolled(Subject.MATH, person));
+            assertFalse(model.isEnrolled(Subject.SCIENCE, person));
         }
     }
 
@@ -279,7 +270,7 @@ public class UnenrollCommandTest {
     @Test
     public void notEnrolledStudent() {
         setupTypical();
-        Subject.MATH.unenrollPerson(ALICE); // make sure ALICE is not in MATH
+        model.unenrollPerson(Subject.MATH, ALICE); // make sure ALICE is not in MATH
         Index[] indexes = new Index[] {
                 Index.fromOneBased(1)
         };
@@ -290,6 +281,15 @@ public class UnenrollCommandTest {
 
         String expectedMessage = MESSAGE_NO_PERSON_UNENROLLED; // no one actually unenrolled
         assertCommandSuccess(command, model, expectedMessage, model);
-        assertFalse(Subject.MATH.getStudents().contains(ALICE));
+        assertFalse(model.isEnrolled(Subject.MATH, ALICE));
+    }
+
+    @Test
+    public void subjectNotInCatalogue() {
+        Index[] indexes = new Index[] { Index.fromOneBased(1) };
+        UnenrollCommand command = new UnenrollCommand(indexes, false, List.of(new Subject("Physics")));
+
+        String expectedMessage = String.format(Messages.MESSAGE_UNKNOWN_SUBJECT, "Physics");
+        assertCommandFailure(command, model, expectedMessage);
     }
 }
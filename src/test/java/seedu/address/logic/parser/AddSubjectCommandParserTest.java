@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT_DESC;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddSubjectCommand;
+import seedu.address.model.subject.Subject;
+
+public class AddSubjectCommandParserTest {
+    private AddSubjectCommandParser parser = new AddSubjectCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsAddSubjectCommand() {
+        assertParseSuccess(parser, " s/Physics s/ Chemistry ",
+                new AddSubjectCommand(List.of(new Subject("Physics"), new Subject("Chemistry"))));
+    }
+
+    @Test
+    public void parse_missingSubject_throwsParseException() {
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSubjectCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "physics",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddSubjectCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidSubject_throwsParseException() {
+        assertParseFailure(parser, INVALID_SUBJECT_DESC, Subject.MESSAGE_CONSTRAINTS);
+    }
+}
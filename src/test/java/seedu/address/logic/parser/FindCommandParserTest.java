@@ -6,6 +6,8 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_PREFIX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALLERGY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CHILDNAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PARENTNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCORE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -18,6 +20,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.subject.ScoreRange;
+import seedu.address.model.subject.Subject;
 
 
 public class FindCommandParserTest {
@@ -110,4 +114,40 @@ public class FindCommandParserTest {
         );
     }
 
+    @Test
+    public void parse_scoreRange_returnsFindCommand() {
+        PersonContainsKeywordsPredicate noKeywords = new PersonContainsKeywordsPredicate(Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        assertParseSuccess(parser, " s/math g/>=80",
+                new FindCommand(noKeywords, Subject.MATH, ScoreRange.between(80, 100)));
+        assertParseSuccess(parser, " s/Science g/unset",
+                new FindCommand(noKeywords, Subject.SCIENCE, ScoreRange.UNSET));
+
+        PersonContainsKeywordsPredicate aliceKeyword = new PersonContainsKeywordsPredicate(
+                Collections.singletonList("Alice"), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList());
+        assertParseSuccess(parser, " c/Alice s/math g/50-70",
+                new FindCommand(aliceKeyword, Subject.MATH, ScoreRange.between(50, 70)));
+    }
+
+    @Test
+    public void parse_incompleteScoreFilter_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " s/math", expectedMessage);
+        assertParseFailure(parser, " c/Alice g/>=80", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidScoreRange_throwsParseException() {
+        assertParseFailure(parser, " s/math g/70-50", ParserUtil.MESSAGE_INVALID_SCORE_RANGE);
+        assertParseFailure(parser, " s/math g/>100", ParserUtil.MESSAGE_INVALID_SCORE_RANGE);
+    }
+
+    @Test
+    public void parse_repeatedScoreFilter_failure() {
+        assertParseFailure(parser, " s/math s/science g/>=80",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SUBJECT));
+        assertParseFailure(parser, " s/math g/>=80 g/<50",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SCORE));
+    }
 }
@@ -23,6 +23,7 @@ import seedu.address.model.person.AllergyList;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.subject.ScoreRange;
 import seedu.address.model.subject.Subject;
 import seedu.address.model.tag.Tag;
 
@@ -208,14 +209,21 @@ public class ParserUtilTest {
 
     @Test
     public void parseSubject_validSubject_success() throws Exception {
-        // Assume "Math" is a valid subject registered in Subject.contains()
         Subject subject = ParserUtil.parseSubject("  Math  ");
         assertEquals(Subject.MATH, subject);
+        assertEquals("Math", subject.subjectName);
+    }
+
+    @Test
+    public void parseSubject_subjectNotInDefaultCatalogue_success() throws Exception {
+        // whether the subject is in the catalogue is checked when the command is executed
+        assertEquals(new Subject("Physics"), ParserUtil.parseSubject("Physics"));
     }
 
     @Test
     public void parseSubject_invalidSubject_throwsParseException() {
-        assertThrows(ParseException.class, () -> ParserUtil.parseSubject("InvalidSubject"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseSubject("Invalid*Subject"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseSubject("   "));
     }
 
     @Test
@@ -235,7 +243,7 @@ public class ParserUtilTest {
 
     @Test
     public void parseSubjects_invalidSubject_throwsParseException() {
-        List<String> input = Arrays.asList("Math", "UnknownSubject");
+        List<String> input = Arrays.asList("Math", "Unknown#Subject");
         assertThrows(ParseException.class, () -> ParserUtil.parseSubjects(input));
     }
 
@@ -265,6 +273,54 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseScore(null));
     }
 
+    @Test
+    public void parseScoreRange_valid_success() throws Exception {
+        assertEquals(ScoreRange.between(80, 100), ParserUtil.parseScoreRange(">=80"));
+        assertEquals(ScoreRange.between(81, 100), ParserUtil.parseScoreRange("> 80"));
+        assertEquals(ScoreRange.between(0, 49), ParserUtil.parseScoreRange(" <50 "));
+        assertEquals(ScoreRange.between(0, 50), ParserUtil.parseScoreRange("<=50"));
+        assertEquals(ScoreRange.between(75, 75), ParserUtil.parseScoreRange("=75"));
+        assertEquals(ScoreRange.between(75, 75), ParserUtil.parseScoreRange("75"));
+        assertEquals(ScoreRange.between(50, 70), ParserUtil.parseScoreRange("50 - 70"));
+        assertEquals(ScoreRange.UNSET, ParserUtil.parseScoreRange("UNSET"));
+    }
+
+    @Test
+    public void parseScoreRange_invalid_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseScoreRange(">100"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseScoreRange("<0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseScoreRange("70-50"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseScoreRange(">=101"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseScoreRange("=>50"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseScoreRange(""));
+    }
+
+    @Test
+    public void parseCount_valid_success() throws Exception {
+        assertEquals(1, ParserUtil.parseCount("1"));
+        assertEquals(20, ParserUtil.parseCount(" 20 "));
+    }
+
+    @Test
+    public void parseCount_invalid_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount("-3"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseCount("ten"));
+    }
+
+    @Test
+    public void parsePercentile_valid_success() throws Exception {
+        assertEquals(1, ParserUtil.parsePercentile("1"));
+        assertEquals(100, ParserUtil.parsePercentile(" 100 "));
+    }
+
+    @Test
+    public void parsePercentile_invalid_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentile("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentile("101"));
+        assertThrows(ParseException.class, () -> ParserUtil.parsePercentile("1.5"));
+    }
+
     // ======== ALLERGY TESTS ========
 
     @Test
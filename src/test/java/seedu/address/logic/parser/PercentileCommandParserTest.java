@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_2_DESC;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_PERCENTILE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.PercentileCommand;
+import seedu.address.model.subject.Subject;
+
+public class PercentileCommandParserTest {
+    private PercentileCommandParser parser = new PercentileCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsPercentileCommand() {
+        assertParseSuccess(parser, " 10" + VALID_SUBJECT_2_DESC, new PercentileCommand(10, Subject.SCIENCE));
+    }
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PercentileCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, VALID_SUBJECT_2_DESC, expectedMessage);
+        assertParseFailure(parser, "10", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, "101" + VALID_SUBJECT_2_DESC, MESSAGE_INVALID_PERCENTILE);
+        assertParseFailure(parser, "10" + INVALID_SUBJECT_DESC, Subject.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_DESC;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.model.subject.Subject;
+
+public class RankCommandParserTest {
+    private RankCommandParser parser = new RankCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRankCommand() {
+        assertParseSuccess(parser, " 2" + VALID_SUBJECT_DESC, new RankCommand(INDEX_SECOND_PERSON, Subject.MATH));
+    }
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, VALID_SUBJECT_DESC, expectedMessage);
+        assertParseFailure(parser, "2", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, "all" + VALID_SUBJECT_DESC, MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, "2" + INVALID_SUBJECT_DESC, Subject.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_2_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RenameSubjectCommand;
+import seedu.address.model.subject.Subject;
+
+public class RenameSubjectCommandParserTest {
+    private static final String NEW_NAME_DESC = " " + PREFIX_NEW_SUBJECT + "General Science";
+
+    private RenameSubjectCommandParser parser = new RenameSubjectCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRenameSubjectCommand() {
+        assertParseSuccess(parser, VALID_SUBJECT_2_DESC + NEW_NAME_DESC,
+                new RenameSubjectCommand(Subject.SCIENCE, new Subject("General Science")));
+    }
+
+    @Test
+    public void parse_missingPrefix_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenameSubjectCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, VALID_SUBJECT_DESC, expectedMessage);
+        assertParseFailure(parser, NEW_NAME_DESC, expectedMessage);
+        assertParseFailure(parser, "1" + VALID_SUBJECT_DESC + NEW_NAME_DESC, expectedMessage);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_throwsParseException() {
+        assertParseFailure(parser, VALID_SUBJECT_DESC + VALID_SUBJECT_2_DESC + NEW_NAME_DESC,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SUBJECT));
+    }
+
+    @Test
+    public void parse_invalidSubject_throwsParseException() {
+        assertParseFailure(parser, INVALID_SUBJECT_DESC + NEW_NAME_DESC, Subject.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, VALID_SUBJECT_DESC + " " + PREFIX_NEW_SUBJECT + "new*name",
+                Subject.MESSAGE_CONSTRAINTS);
+    }
+}
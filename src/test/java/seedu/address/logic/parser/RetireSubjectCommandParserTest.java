@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_2_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_DESC;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RetireSubjectCommand;
+import seedu.address.model.subject.Subject;
+
+public class RetireSubjectCommandParserTest {
+    private RetireSubjectCommandParser parser = new RetireSubjectCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRetireSubjectCommand() {
+        assertParseSuccess(parser, VALID_SUBJECT_DESC + VALID_SUBJECT_2_DESC,
+                new RetireSubjectCommand(List.of(Subject.MATH, Subject.SCIENCE)));
+    }
+
+    @Test
+    public void parse_missingSubject_throwsParseException() {
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RetireSubjectCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1" + VALID_SUBJECT_DESC,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RetireSubjectCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidSubject_throwsParseException() {
+        assertParseFailure(parser, INVALID_SUBJECT_DESC, Subject.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_2_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.SortCommand.SortField;
+import seedu.address.model.subject.Subject;
+
+public class SortCommandParserTest {
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " child", new SortCommand(SortField.CHILD));
+        assertParseSuccess(parser, " PARENT ", new SortCommand(SortField.PARENT));
+        assertParseSuccess(parser, " subjects", new SortCommand(SortField.SUBJECTS));
+        assertParseSuccess(parser, " none", new SortCommand(SortField.NONE));
+        assertParseSuccess(parser, " score" + VALID_SUBJECT_DESC, new SortCommand(Subject.MATH));
+    }
+
+    @Test
+    public void parse_invalidField_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " age", expectedMessage);
+        assertParseFailure(parser, " child parent", expectedMessage);
+    }
+
+    @Test
+    public void parse_subjectMismatch_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, " score", expectedMessage);
+        assertParseFailure(parser, " child" + VALID_SUBJECT_DESC, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidPrefix_throwsParseException() {
+        assertParseFailure(parser, " child c/Alice",
+                String.format(Messages.MESSAGE_INVALID_PREFIX, "c/", SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_repeatedSubject_throwsParseException() {
+        assertParseFailure(parser, " score" + VALID_SUBJECT_DESC + VALID_SUBJECT_2_DESC,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SUBJECT));
+    }
+
+    @Test
+    public void parse_invalidSubject_throwsParseException() {
+        assertParseFailure(parser, " score" + INVALID_SUBJECT_DESC, Subject.MESSAGE_CONSTRAINTS);
+    }
+}
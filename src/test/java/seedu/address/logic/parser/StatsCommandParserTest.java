@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_2_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.subject.Subject;
+
+public class StatsCommandParserTest {
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsStatsCommand() {
+        assertParseSuccess(parser, VALID_SUBJECT_DESC, new StatsCommand(Subject.MATH));
+    }
+
+    @Test
+    public void parse_missingSubject_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "1" + VALID_SUBJECT_DESC, expectedMessage);
+    }
+
+    @Test
+    public void parse_repeatedSubject_throwsParseException() {
+        assertParseFailure(parser, VALID_SUBJECT_DESC + VALID_SUBJECT_2_DESC,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SUBJECT));
+    }
+
+    @Test
+    public void parse_invalidSubject_throwsParseException() {
+        assertParseFailure(parser, INVALID_SUBJECT_DESC, Subject.MESSAGE_CONSTRAINTS);
+    }
+}
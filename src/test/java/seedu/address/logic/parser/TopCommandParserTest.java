@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_SUBJECT_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_2_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_SUBJECT_DESC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_COUNT;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.TopCommand;
+import seedu.address.model.subject.Subject;
+
+public class TopCommandParserTest {
+    private TopCommandParser parser = new TopCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsTopCommand() {
+        assertParseSuccess(parser, " 20" + VALID_SUBJECT_DESC, new TopCommand(20, Subject.MATH));
+    }
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, TopCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, VALID_SUBJECT_DESC, expectedMessage);
+        assertParseFailure(parser, "20", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, "0" + VALID_SUBJECT_DESC, MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "1 2" + VALID_SUBJECT_DESC, MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "5" + INVALID_SUBJECT_DESC, Subject.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "5" + VALID_SUBJECT_DESC + VALID_SUBJECT_2_DESC,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SUBJECT));
+    }
+}
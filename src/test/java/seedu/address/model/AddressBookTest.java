@@ -12,14 +12,20 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.subject.ReadOnlySubjectStore;
+import seedu.address.model.subject.Subject;
+import seedu.address.model.subject.SubjectStore;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -78,11 +84,79 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void copyConstructor_withEnrollments_copiesSubjectStore() {
+        AddressBook original = getTypicalAddressBook();
+        original.enrollPerson(Subject.MATH, ALICE);
+        original.setScore(Subject.MATH, ALICE, 90);
+
+        AddressBook copy = new AddressBook(original);
+        assertEquals(original, copy);
+        assertEquals(90, copy.getSubjectStore().getScore(Subject.MATH, ALICE));
+
+        // the copy does not share enrollments with the original
+        copy.unenrollPerson(Subject.MATH, ALICE);
+        assertTrue(original.isEnrolled(Subject.MATH, ALICE));
+        assertFalse(original.equals(copy));
+    }
+
+    @Test
+    public void removePerson_enrolledPerson_unenrolledFromSubjects() {
+        addressBook.addPerson(ALICE);
+        addressBook.enrollPerson(Subject.ENGLISH, ALICE);
+
+        addressBook.removePerson(ALICE);
+
+        assertTrue(addressBook.getSubjectStore().getSubjectsOf(ALICE).isEmpty());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSearchCandidates_personsChanged_indexKeptUpToDate() {
+        PersonContainsKeywordsPredicate alicePredicate = new PersonContainsKeywordsPredicate(List.of("alice"),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        assertEquals(Set.of(), addressBook.getSearchCandidates(alicePredicate));
+
+        addressBook.addPerson(ALICE);
+        assertEquals(Set.of(ALICE), addressBook.getSearchCandidates(alicePredicate));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withChildName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertEquals(Set.of(), addressBook.getSearchCandidates(alicePredicate));
+
+        addressBook.removePerson(renamedAlice);
+        addressBook.setPersons(List.of(ALICE));
+        assertEquals(Set.of(ALICE), addressBook.getSearchCandidates(alicePredicate));
+    }
+
+    @Test
+    public void getVersion_dataChanged_versionChanges() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.enrollPerson(Subject.MATH, ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.setScore(Subject.MATH, ALICE, 80);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getSearchCandidates(new PersonContainsKeywordsPredicate(List.of("Alice"), List.of(), List.of(),
+                List.of()));
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -103,6 +177,21 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public ReadOnlySubjectStore getSubjectStore() {
+            return new SubjectStore();
+        }
+
+        @Override
+        public Set<Person> getSearchCandidates(PersonContainsKeywordsPredicate predicate) {
+            return new HashSet<>(persons);
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
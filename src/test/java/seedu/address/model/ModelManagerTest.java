@@ -10,14 +10,29 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.subject.Subject;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -89,11 +104,196 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonById_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Optional.of(BENSON), modelManager.getPersonById(BENSON.getUniqueId()));
+    }
+
+    @Test
+    public void getPersonById_personNotInAddressBook_returnsEmpty() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.empty(), modelManager.getPersonById(BENSON.getUniqueId()));
+    }
+
+    @Test
+    public void setPerson_personInAddressBook_stillFoundById() {
+        modelManager.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withParentPhone("91234567").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), modelManager.getPersonById(ALICE.getUniqueId()));
+    }
+
+    @Test
+    public void deletePersonById_personInAddressBook_removesPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.deletePersonById(ALICE.getUniqueId());
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertEquals(Optional.of(BENSON), modelManager.getPersonById(BENSON.getUniqueId()));
+    }
+
+    @Test
+    public void deletePersonById_personNotInAddressBook_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> modelManager.deletePersonById(ALICE.getUniqueId()));
+    }
+
+    @Test
+    public void setPersonById_personInAddressBook_replacesPerson() {
+        modelManager.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withParentPhone("91234567").build();
+        modelManager.setPersonById(ALICE.getUniqueId(), editedAlice);
+        assertEquals(Optional.of(editedAlice), modelManager.getPersonById(ALICE.getUniqueId()));
+        assertEquals(List.of(AddressBookChange.addPerson(ALICE), AddressBookChange.setPerson(ALICE, editedAlice)),
+                modelManager.takeAddressBookChanges());
+    }
+
+    @Test
+    public void setPersonById_personNotInAddressBook_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> modelManager.setPersonById(ALICE.getUniqueId(), ALICE));
+    }
+
+    @Test
+    public void takeAddressBookChanges_changesMade_returnsThemInOrderOnce() {
+        Person editedAlice = new PersonBuilder(ALICE).withParentPhone("99999999").build();
+        modelManager.addPerson(ALICE);
+        modelManager.enrollPerson(Subject.MATH, ALICE);
+        modelManager.setScore(Subject.MATH, ALICE, 80);
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(editedAlice);
+
+        assertEquals(List.of(AddressBookChange.addPerson(ALICE), AddressBookChange.enroll(Subject.MATH, ALICE),
+                AddressBookChange.setScore(Subject.MATH, ALICE, 80),
+                AddressBookChange.setPerson(ALICE, editedAlice), AddressBookChange.removePerson(editedAlice)),
+                modelManager.takeAddressBookChanges());
+        assertEquals(List.of(), modelManager.takeAddressBookChanges());
+    }
+
+    @Test
+    public void takeAddressBookChanges_appliedToCopy_sameAsAddressBook() {
+        AddressBook copy = new AddressBook(modelManager.getAddressBook());
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addSubject(new Subject("History"));
+        modelManager.enrollPerson(new Subject("History"), BENSON);
+        modelManager.renameSubject(Subject.MATH, new Subject("Maths"));
+        modelManager.deletePersons(List.of(ALICE));
+
+        modelManager.takeAddressBookChanges().forEach(change -> change.applyTo(copy));
+        assertEquals(modelManager.getAddressBook(), copy);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void sortFilteredPersonList_nullComparator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.sortFilteredPersonList(null));
+    }
+
+    @Test
+    public void sortFilteredPersonList_comparator_sortsFilteredList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.sortFilteredPersonList(Comparator.comparing(person -> person.getParentName().fullName));
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(Model.COMPARATOR_ORDER_ADDED);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedQuery_answeredFromCache() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("Alice"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        QueryCache cache = modelManager.getQueryCache();
+
+        modelManager.updateFilteredPersonList(predicate);
+        modelManager.updateFilteredPersonList(new PersonContainsKeywordsPredicate(
+                Arrays.asList("Alice"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // persons edited after the query are tested against it
+        Person renamedBenson = new PersonBuilder(BENSON).withChildName("Alice Meier").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(ALICE, renamedBenson), modelManager.getFilteredPersonList());
+
+        // and the cached result is out of date
+        modelManager.updateFilteredPersonList(predicate);
+        assertEquals(1, cache.getInvalidationCount());
+        assertEquals(Arrays.asList(ALICE, renamedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_manyCandidates_sameAsTestingEachPerson() {
+        AddressBook addressBook = getManyPersonsAddressBook();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        // a keyword too short to be narrowed down by the search index, so every person is a candidate
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                Arrays.asList("ab"), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+        modelManager.updateFilteredPersonList(predicate);
+        List<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListInBackground_manyPersons_shownInOneChangeThroughPublisher() throws Exception {
+        AddressBook addressBook = getManyPersonsAddressBook();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        BlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+        modelManager.setFilterPublisher(published::add);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) changes::add);
+        Predicate<Person> predicate = person -> person.getChildName().fullName.endsWith("b");
+
+        CompletableFuture<Integer> listed = modelManager.updateFilteredPersonListInBackground(predicate);
+        Runnable publish = published.poll(10, TimeUnit.SECONDS);
+        assertFalse(listed.isDone());
+        assertEquals(addressBook.getPersonList(), modelManager.getFilteredPersonList());
+
+        publish.run();
+        List<Person> expected = addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected.size(), listed.get());
+        assertEquals(expected, modelManager.getFilteredPersonList());
+        assertEquals(1, changes.size());
+        assertEquals(predicate, modelManager.getFilteredPersonListPredicate());
+    }
+
+    @Test
+    public void updateFilteredPersonListInBackground_filterUpdatedFirst_notShown() throws Exception {
+        AddressBook addressBook = getManyPersonsAddressBook();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        BlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+        modelManager.setFilterPublisher(published::add);
+
+        CompletableFuture<Integer> listed = modelManager.updateFilteredPersonListInBackground(
+                person -> person.getChildName().fullName.endsWith("b"));
+        modelManager.updateFilteredPersonList(person -> false);
+        published.poll(10, TimeUnit.SECONDS).run();
+
+        assertTrue(listed.isCancelled());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonListInBackground_noPublisher_shownBeforeReturning() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        CompletableFuture<Integer> listed = modelManager.updateFilteredPersonListInBackground(ALICE::equals);
+        assertEquals(1, listed.join());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -135,4 +335,20 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * Returns an address book of as many persons as are tested in parallel, with child names Aaaa, Aaab and so on,
+     * so that only some contain "ab".
+     */
+    private static AddressBook getManyPersonsAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < ModelManager.PARALLEL_SEARCH_THRESHOLD; i++) {
+            String suffix = "";
+            for (int n = i; suffix.length() < 3; n /= 26) {
+                suffix = (char) ('a' + n % 26) + suffix;
+            }
+            addressBook.addPerson(new PersonBuilder().withChildName("A" + suffix).withUniqueId(i).build());
+        }
+        return addressBook;
+    }
 }
@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+public class QueryCacheTest {
+
+    private static final PersonContainsKeywordsPredicate ALICE_QUERY = childNames("Alice");
+    private static final PersonContainsKeywordsPredicate BENSON_QUERY = childNames("Benson");
+    private static final PersonContainsKeywordsPredicate CARL_QUERY = childNames("Carl");
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache(0));
+    }
+
+    @Test
+    public void get_sameVersion_hit() {
+        QueryCache cache = new QueryCache();
+        assertEquals(Optional.empty(), cache.get(ALICE_QUERY, 1));
+
+        cache.put(ALICE_QUERY, 1, Set.of(ALICE));
+        assertEquals(Optional.of(Set.of(ALICE)), cache.get(childNames("Alice"), 1));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_newerVersion_invalidated() {
+        QueryCache cache = new QueryCache();
+        cache.put(ALICE_QUERY, 1, Set.of(ALICE));
+
+        assertEquals(Optional.empty(), cache.get(ALICE_QUERY, 2));
+        assertEquals(1, cache.getInvalidationCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_full_leastRecentlyUsedEvicted() {
+        QueryCache cache = new QueryCache(2);
+        cache.put(ALICE_QUERY, 1, Set.of(ALICE));
+        cache.put(BENSON_QUERY, 1, Set.of(BENSON));
+        cache.get(ALICE_QUERY, 1);
+        cache.put(CARL_QUERY, 1, Set.of());
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(Optional.empty(), cache.get(BENSON_QUERY, 1));
+        assertEquals(Optional.of(Set.of(ALICE)), cache.get(ALICE_QUERY, 1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        QueryCache cache = new QueryCache();
+        cache.get(ALICE_QUERY, 0);
+        String expected = QueryCache.class.getCanonicalName()
+                + "{size=0, hits=0, misses=1, evictions=0, invalidations=0}";
+        assertEquals(expected, cache.toString());
+    }
+
+    private static PersonContainsKeywordsPredicate childNames(String keyword) {
+        return new PersonContainsKeywordsPredicate(List.of(keyword), List.of(), List.of(), List.of());
+    }
+}
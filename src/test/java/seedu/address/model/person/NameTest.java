@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -73,4 +76,17 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void getCollationKey() {
+        assertTrue(new Name("alice").getCollationKey().compareTo(new Name("Bob").getCollationKey()) < 0);
+        assertTrue(new Name("Bob").getCollationKey().compareTo(new Name("bobby").getCollationKey()) < 0);
+        assertEquals(0, new Name("Bob Lee").getCollationKey().compareTo(new Name("Bob  Lee").getCollationKey()));
+    }
+
+    @Test
+    public void getPhoneticKeys() {
+        assertEquals(Set.of("S530", "J520"), new Name("Smith-Jones").getPhoneticKeys());
+        assertEquals(new Name("Jon Smyth").getPhoneticKeys(), new Name("John Smith").getPhoneticKeys());
+    }
 }
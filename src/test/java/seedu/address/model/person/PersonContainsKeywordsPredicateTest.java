@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +43,7 @@ public class PersonContainsKeywordsPredicateTest {
                         Collections.singletonList("firstAllergy"),
                         Collections.singletonList("firstTag"));
         assertEquals(firstPredicate, firstPredicateCopy);
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertNotEquals(firstPredicate, 1);
@@ -231,6 +233,117 @@ public class PersonContainsKeywordsPredicateTest {
                 .withParentEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_requiredAndExcludedCategories() {
+        Person person = new PersonBuilder().withChildName("Alice Bob").withAllergies("Peanut", "Dust")
+                .withTags("P5", "Vegetarian").build();
+
+        // every required allergy and tag present -> returns true
+        assertTrue(new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of("+peanut"), List.of("+p5"))
+                .test(person));
+
+        // required names are matched whole -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of("+pea"), List.of())
+                .test(person));
+
+        // excluded tag present -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of(), List.of("-vegetarian"))
+                .test(person));
+
+        // excluded allergy absent -> returns true
+        assertTrue(new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of("-milk"), List.of())
+                .test(person));
+
+        // any-of keywords must still match -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("Carol"), List.of(), List.of("+Dust"), List.of())
+                .test(person));
+        assertTrue(new PersonContainsKeywordsPredicate(List.of("Bob"), List.of(), List.of("+Dust"), List.of())
+                .test(person));
+
+        // lone markers are plain keywords
+        PersonContainsKeywordsPredicate loneMarkers =
+                new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of("+", "-"), List.of());
+        assertEquals(List.of("+", "-"), loneMarkers.getAllergyKeywords());
+        assertFalse(loneMarkers.test(person));
+    }
+
+    @Test
+    public void test_fuzzyNameKeywords() {
+        Person person = new PersonBuilder().withChildName("John Smith").withParentName("Mary-Ann Smith").build();
+
+        // one edit per marker
+        assertTrue(childNames("~jonh").test(person));
+        assertFalse(childNames("~jnoh").test(person));
+        assertTrue(childNames("~~jnoh").test(person));
+        assertFalse(childNames("~jo").test(person));
+
+        // markers beyond the maximum distance are ignored
+        PersonContainsKeywordsPredicate farFetched = childNames("~~~~~zzzzz");
+        assertEquals(PersonContainsKeywordsPredicate.MAX_FUZZY_DISTANCE,
+                farFetched.getFuzzyChildNameKeywords().get(0).getMaxDistance());
+        assertFalse(farFetched.test(person));
+
+        // parent names are split into words at punctuation
+        assertTrue(new PersonContainsKeywordsPredicate(List.of(), List.of("~an"), List.of(), List.of())
+                .test(person));
+
+        // a lone marker is a plain keyword
+        assertEquals(List.of("~"), childNames("~").getChildNameKeywords());
+        assertFalse(childNames("~").test(person));
+    }
+
+    @Test
+    public void test_phoneticNameKeywords() {
+        Person person = new PersonBuilder().withChildName("Catherine Smith").withParentName("Jon Smith").build();
+
+        assertTrue(childNames("?Cathryn").test(person));
+        assertFalse(childNames("?Kathryn").test(person)); // the first letter is kept as it is spelt
+        assertTrue(childNames("?Smyth").test(person));
+        assertTrue(new PersonContainsKeywordsPredicate(List.of(), List.of("?John"), List.of(), List.of())
+                .test(person));
+        assertFalse(new PersonContainsKeywordsPredicate(List.of(), List.of("?Mary"), List.of(), List.of())
+                .test(person));
+        assertEquals(Set.of("J500"), new PersonContainsKeywordsPredicate(List.of(), List.of("?John"),
+                List.of(), List.of()).getParentNamePhoneticKeys());
+
+        // a keyword without letters is a plain keyword
+        assertEquals(List.of("?", "?'"), childNames("?", "?'").getChildNameKeywords());
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        // keyword typed out further -> narrower
+        assertTrue(childNames("Alic").isNarrowerThan(childNames("al")));
+        assertTrue(childNames("alice", "bo").isNarrowerThan(childNames("ali", "b")));
+
+        // keyword added -> not narrower
+        assertFalse(childNames("al", "bo").isNarrowerThan(childNames("al")));
+        assertFalse(childNames("al").isNarrowerThan(childNames("ali")));
+
+        // keyword moved to another field -> not narrower
+        PersonContainsKeywordsPredicate parentName = new PersonContainsKeywordsPredicate(List.of(), List.of("ali"),
+                List.of(), List.of());
+        assertFalse(parentName.isNarrowerThan(childNames("al")));
+
+        // marked keywords must be kept
+        PersonContainsKeywordsPredicate requiredTag = new PersonContainsKeywordsPredicate(List.of("al"), List.of(),
+                List.of(), List.of("+friends"));
+        assertTrue(requiredTag.isNarrowerThan(childNames("al")));
+        assertFalse(childNames("al").isNarrowerThan(requiredTag));
+        assertFalse(childNames("~al").isNarrowerThan(childNames("~a")));
+        assertTrue(childNames("~al").isNarrowerThan(childNames("~al", "bo")));
+        assertFalse(childNames("~al").isNarrowerThan(childNames("al")));
+
+        // no keywords matches no one
+        assertTrue(childNames().isNarrowerThan(childNames("al")));
+        assertFalse(childNames("al").isNarrowerThan(childNames()));
+    }
+
+    @Test
+    public void toWords() {
+        assertEquals(List.of("mary", "ann", "o", "neil"), PersonContainsKeywordsPredicate.toWords("Mary-Ann O'Neil"));
+        assertEquals(List.of(), PersonContainsKeywordsPredicate.toWords(" "));
+    }
 
     @Test
     public void toStringMethod() {
@@ -250,4 +363,9 @@ public class PersonContainsKeywordsPredicateTest {
                 + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    private static PersonContainsKeywordsPredicate childNames(String... keywords) {
+        return new PersonContainsKeywordsPredicate(List.of(keywords), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList());
+    }
 }
@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private PersonSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new PersonSearchIndex();
+        index.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void getCandidates_childNameKeyword_matchingPersons() {
+        assertEquals(Set.of(BENSON, DANIEL), index.getCandidates(childNames("mEiEr")));
+        assertEquals(Set.of(), index.getCandidates(childNames("Zzz")));
+    }
+
+    @Test
+    public void getCandidates_eachField_matchingPersons() {
+        assertEquals(Set.of(CARL), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of("Carls"), List.of(), List.of())));
+        assertEquals(Set.of(BENSON), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of("shell"), List.of())));
+        assertEquals(Set.of(BENSON, DANIEL), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of("Benson"), List.of(), List.of("Eggs"), List.of())));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_allPersons() {
+        assertEquals(Set.copyOf(getTypicalPersons()), index.getCandidates(childNames("Li")));
+    }
+
+    @Test
+    public void getCandidates_allTrigramsButNotKeyword_candidateRejectedByPredicate() {
+        Person person = new PersonBuilder().withChildName("Abcd Bcde").build();
+        index.setPersons(List.of(person));
+        PersonContainsKeywordsPredicate predicate = childNames("abcde");
+
+        assertEquals(Set.of(person), index.getCandidates(predicate));
+        assertFalse(predicate.test(person));
+    }
+
+    @Test
+    public void getCandidates_everyMatchIsCandidate() {
+        for (String keyword : List.of("a", "al", "ali", "Meier", "Kurz", "Dad", "Mom", "elle", "ei")) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of(keyword),
+                    List.of(keyword), List.of(keyword), List.of(keyword));
+            Set<Person> candidates = index.getCandidates(predicate);
+            for (Person person : getTypicalPersons()) {
+                assertTrue(!predicate.test(person) || candidates.contains(person), keyword + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void addAndRemove_personsChanged_candidatesUpdated() {
+        index.remove(ALICE);
+        assertEquals(Set.of(), index.getCandidates(childNames("Pauline")));
+
+        index.add(ALICE);
+        index.add(ALICE);
+        assertEquals(Set.of(ALICE), index.getCandidates(childNames("Pauline")));
+
+        index.remove(BENSON);
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL), index.getCandidates(childNames("Meier")));
+    }
+
+    @Test
+    public void getCandidates_requiredAndExcludedCategories_bitmapsApplied() {
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("P5").build();
+        Person taggedBenson = new PersonBuilder(BENSON).withTags("P5", "ADHD").build();
+        index.setPersons(List.of(taggedAlice, taggedBenson, CARL, DANIEL));
+
+        assertEquals(Set.of(taggedAlice, taggedBenson), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of(), List.of("+p5"))));
+        assertEquals(Set.of(taggedAlice), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of("+Peanuts"), List.of("+P5"))));
+        assertEquals(Set.of(taggedAlice, CARL, DANIEL), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of(), List.of("-adhd"))));
+        assertEquals(Set.of(DANIEL), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of("Meier"), List.of(), List.of(), List.of("-P5"))));
+        assertEquals(Set.of(), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of("+Honey"), List.of())));
+
+        index.remove(taggedBenson);
+        assertEquals(Set.of(taggedAlice, CARL, DANIEL), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of(), List.of("-Milk"), List.of())));
+    }
+
+    @Test
+    public void getCandidates_fuzzyNameKeywords_nearbyWords() {
+        assertEquals(Set.of(BENSON, DANIEL), index.getCandidates(childNames("~meeir")));
+        assertEquals(Set.of(ALICE), index.getCandidates(childNames("~~alcie", "~zzzz")));
+        assertEquals(Set.of(BENSON, DANIEL, FIONA), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of("~dda"), List.of(), List.of())));
+
+        index.remove(BENSON);
+        assertEquals(Set.of(DANIEL), index.getCandidates(childNames("~meeir")));
+        index.remove(DANIEL);
+        assertEquals(Set.of(), index.getCandidates(childNames("~meeir")));
+    }
+
+    @Test
+    public void getFuzzyDistances_fuzzyNameKeywords_closestWordDistance() {
+        assertEquals(Map.of(ELLE, 1, BENSON, 2, DANIEL, 2), index.getFuzzyDistances(childNames("~~meyr")));
+        assertEquals(Map.of(ELLE, 0, BENSON, 1, DANIEL, 1), index.getFuzzyDistances(childNames("~~meyr", "~meyer")));
+        assertEquals(Map.of(), index.getFuzzyDistances(childNames("Meier")));
+    }
+
+    @Test
+    public void getCandidates_phoneticNameKeywords_soundAlikeNames() {
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), index.getCandidates(childNames("?Mayer")));
+        assertEquals(Set.of(CARL), index.getCandidates(
+                new PersonContainsKeywordsPredicate(List.of(), List.of("?Carlz"), List.of(), List.of())));
+
+        index.remove(DANIEL);
+        assertEquals(Set.of(BENSON, ELLE), index.getCandidates(childNames("?Mayer")));
+    }
+
+    private static PersonContainsKeywordsPredicate childNames(String... keywords) {
+        return new PersonContainsKeywordsPredicate(List.of(keywords), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -7,11 +7,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SINGLEPARENT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +50,23 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseIdentityFields_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE)
+                .withChildName(ALICE.getChildName().fullName.toUpperCase())
+                .withParentName(ALICE.getParentName().fullName.toUpperCase())
+                .build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +129,18 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        // the released identity can be added again
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +159,72 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_middlePerson_laterPersonsStillFoundById() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(BENSON);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getById(ALICE.getUniqueId()));
+        assertEquals(Optional.empty(), uniquePersonList.getById(BENSON.getUniqueId()));
+        assertEquals(Optional.of(CARL), uniquePersonList.getById(CARL.getUniqueId()));
+
+        // removal and replacement of the shifted person still resolve to the right position
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.remove(BOB);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void add_personWithSameUniqueId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person sameIdAsAlice = new PersonBuilder(BOB).withUniqueId(ALICE.getUniqueId()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(sameIdAsAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasUniqueIdOfAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person sameIdAsBenson = new PersonBuilder(ALICE).withUniqueId(BENSON.getUniqueId()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, sameIdAsBenson));
+        assertEquals(Optional.of(ALICE), uniquePersonList.getById(ALICE.getUniqueId()));
+    }
+
+    @Test
+    public void setPersons_listWithSameUniqueIds_throwsDuplicatePersonException() {
+        Person sameIdAsAlice = new PersonBuilder(BOB).withUniqueId(ALICE.getUniqueId()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(ALICE, sameIdAsAlice)));
+    }
+
+    @Test
+    public void getById_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.getById(ALICE.getUniqueId()));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Optional.of(BENSON), uniquePersonList.getById(BENSON.getUniqueId()));
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BENSON)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +260,23 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_originalListUnchanged() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_list_identityIndexReplaced() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -3,18 +3,24 @@ package seedu.address.model.subject;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableMap;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class ScoreDictTest {
 
@@ -61,12 +67,10 @@ public class ScoreDictTest {
     }
 
     @Test
-    public void setScore_negativeScore_success() {
-        // ScoreDict itself doesn't validate score values
-        // validation should be done at a higher level
-        scoreDict.setScore(ALICE, -10);
+    public void setScore_ungradedScore_success() {
+        scoreDict.setScore(ALICE, Subject.getDefaultScore());
 
-        assertEquals(-10, scoreDict.getScore(ALICE).orElse(999));
+        assertEquals(Subject.getDefaultScore(), scoreDict.getScore(ALICE).orElse(999));
     }
 
     @Test
@@ -240,4 +244,103 @@ public class ScoreDictTest {
         assertEquals(95, scoreDict.getScore(ALICE).orElse(-1));
     }
 
+    @Test
+    public void setScore_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> scoreDict.setScore(ALICE, 128));
+        assertThrows(IllegalArgumentException.class, () -> scoreDict.setScore(ALICE, 101));
+        assertThrows(IllegalArgumentException.class, () -> scoreDict.setScore(ALICE, -2));
+        assertThrows(IllegalArgumentException.class, () -> scoreDict.setScore(ALICE, Byte.MIN_VALUE));
+        assertFalse(scoreDict.contains(ALICE));
+    }
+
+    @Test
+    public void getStats_scoresChangedAndRemoved_statsUpdated() {
+        scoreDict.setScore(ALICE, -1);
+        scoreDict.setScore(BENSON, 70);
+        scoreDict.setScore(CARL, 90);
+        scoreDict.setScore(ALICE, 40);
+        scoreDict.setScore(CARL, 90);
+        scoreDict.removePerson(BENSON);
+
+        ScoreStats stats = scoreDict.getStats();
+        assertEquals(2, stats.getCount());
+        assertEquals(0, stats.getUngradedCount());
+        assertEquals(130, stats.getSum());
+        assertEquals(40, stats.getMin().getAsInt());
+        assertEquals(0, stats.getCountOf(70));
+    }
+
+    @Test
+    public void setScore_personWithSameIdDifferentFields_storedSeparately() {
+        Person otherWithAliceId = new PersonBuilder(BENSON).withUniqueId(ALICE.getUniqueId()).build();
+        scoreDict.setScore(ALICE, 85);
+        scoreDict.setScore(otherWithAliceId, 40);
+
+        assertEquals(85, scoreDict.getScore(ALICE).orElse(-1));
+        assertEquals(40, scoreDict.getScore(otherWithAliceId).orElse(-1));
+
+        scoreDict.removePerson(ALICE);
+        assertFalse(scoreDict.contains(ALICE));
+        assertEquals(40, scoreDict.getScore(otherWithAliceId).orElse(-1));
+    }
+
+    @Test
+    public void integration_manyPersonsAddAndRemove_consistentWithMap() {
+        List<Person> persons = new ArrayList<>();
+        Map<Person, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            String suffix = "" + (char) ('a' + i / 26 % 26) + (char) ('a' + i % 26);
+            Person person = new PersonBuilder().withChildName("Child " + suffix).withUniqueId(i * 7).build();
+            persons.add(person);
+            scoreDict.setScore(person, i % 101);
+            expected.put(person, i % 101);
+        }
+        for (int i = 0; i < 500; i += 3) {
+            scoreDict.removePerson(persons.get(i));
+            expected.remove(persons.get(i));
+        }
+
+        assertEquals(expected.size(), scoreDict.size());
+        assertEquals(expected, scoreDict.getAllScores());
+        for (Person person : persons) {
+            assertEquals(expected.containsKey(person), scoreDict.contains(person));
+        }
+    }
+
+    @Test
+    public void addListener_scoreChanges_notified() {
+        List<Person> changed = new ArrayList<>();
+        scoreDict.addListener(changed::add);
+
+        scoreDict.setScore(ALICE, 85);
+        scoreDict.setScore(ALICE, 85); // unchanged score, no notification
+        scoreDict.setScore(ALICE, 90);
+        scoreDict.removePerson(ALICE);
+        scoreDict.removePerson(BENSON); // not present, no notification
+
+        assertEquals(List.of(ALICE, ALICE, ALICE), changed);
+    }
+
+    @Test
+    public void forEachScore_multiplePersons_visitsAll() {
+        scoreDict.setScore(ALICE, 85);
+        scoreDict.setScore(BENSON, 90);
+
+        Map<Person, Integer> visited = new HashMap<>();
+        scoreDict.forEachScore(visited::put);
+
+        assertEquals(Map.of(ALICE, 85, BENSON, 90), visited);
+    }
+
+    @Test
+    public void getObservableScores_laterChanges_mirrored() {
+        scoreDict.setScore(ALICE, 85);
+        ObservableMap<Person, Integer> observableScores = scoreDict.getObservableScores();
+        assertEquals(Map.of(ALICE, 85), observableScores);
+
+        scoreDict.setScore(BENSON, 90);
+        scoreDict.removePerson(ALICE);
+
+        assertEquals(Map.of(BENSON, 90), observableScores);
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.address.model.subject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ScoreRangeTest {
+
+    @Test
+    public void between_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ScoreRange.between(-1, 50));
+        assertThrows(IllegalArgumentException.class, () -> ScoreRange.between(60, 50));
+        assertThrows(IllegalArgumentException.class, () -> ScoreRange.between(0, 101));
+    }
+
+    @Test
+    public void contains() {
+        ScoreRange range = ScoreRange.between(50, 70);
+
+        assertTrue(range.contains(50));
+        assertTrue(range.contains(70));
+        assertFalse(range.contains(71));
+        assertFalse(range.contains(Subject.getDefaultScore()));
+
+        assertTrue(ScoreRange.UNSET.contains(Subject.getDefaultScore()));
+        assertFalse(ScoreRange.UNSET.contains(0));
+    }
+
+    @Test
+    public void equals() {
+        ScoreRange range = ScoreRange.between(50, 70);
+
+        assertTrue(range.equals(ScoreRange.between(50, 70)));
+        assertFalse(range.equals(ScoreRange.between(50, 71)));
+        assertFalse(range.equals(ScoreRange.UNSET));
+        assertFalse(range.equals(null));
+        assertEquals(range.hashCode(), ScoreRange.between(50, 70).hashCode());
+    }
+
+    @Test
+    public void isUnset() {
+        assertTrue(ScoreRange.UNSET.isUnset());
+        assertFalse(ScoreRange.between(0, 0).isUnset());
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.model.subject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScoreRankingTest {
+
+    private ScoreDict scores;
+    private ScoreRanking ranking;
+
+    @BeforeEach
+    public void setUp() {
+        scores = new ScoreDict();
+        scores.setScore(ALICE, 70);
+        scores.setScore(BENSON, 90);
+        scores.setScore(CARL, 70);
+        scores.setScore(DANIEL, 40);
+        ranking = scores.getRanking();
+    }
+
+    @Test
+    public void add_negativeScore_notRanked() {
+        ScoreDict ungraded = new ScoreDict();
+        ungraded.setScore(ALICE, -1);
+
+        assertEquals(0, ungraded.getRanking().size());
+        assertEquals(List.of(), ungraded.getRanking().getTop(5));
+    }
+
+    @Test
+    public void getTop_tiedScores_highestFirstInGradingOrder() {
+        assertEquals(List.of(BENSON, ALICE, CARL, DANIEL), ranking.getTop(10));
+        assertEquals(List.of(BENSON, ALICE), ranking.getTop(2));
+        assertEquals(List.of(), ranking.getTop(0));
+    }
+
+    @Test
+    public void getBottom_lowestFirst() {
+        assertEquals(List.of(DANIEL, ALICE, CARL), ranking.getBottom(3));
+    }
+
+    @Test
+    public void remove_rankedPerson_noLongerListed() {
+        scores.removePerson(BENSON);
+
+        assertEquals(3, ranking.size());
+        assertEquals(List.of(ALICE, CARL, DANIEL), ranking.getTop(10));
+    }
+
+    @Test
+    public void setScore_regraded_rankedLastAmongTies() {
+        scores.setScore(ALICE, 40);
+        scores.setScore(ALICE, 70);
+
+        assertEquals(List.of(BENSON, CARL, ALICE, DANIEL), ranking.getTop(10));
+    }
+
+    @Test
+    public void setScore_tableResizedAndEntriesShifted_gradingOrderKept() {
+        List<Person> graded = new ArrayList<>();
+        for (int id = 100; id < 200; id++) {
+            Person person = new PersonBuilder().withUniqueId(id).build();
+            scores.setScore(person, 55);
+            graded.add(person);
+        }
+        for (int i = 0; i < graded.size(); i += 3) {
+            scores.removePerson(graded.get(i));
+        }
+        List<Person> expected = new ArrayList<>();
+        for (int i = 0; i < graded.size(); i++) {
+            if (i % 3 != 0) {
+                expected.add(graded.get(i));
+            }
+        }
+
+        assertEquals(expected, new ArrayList<>(ranking.getInRange(ScoreRange.between(55, 55))));
+        assertEquals(List.of(BENSON, ALICE, CARL), ranking.getTop(3));
+        assertEquals(expected.size() + 4, ranking.size());
+    }
+
+    @Test
+    public void countAboveAndBelow_tiesExcluded() {
+        assertEquals(1, ranking.countAbove(70));
+        assertEquals(1, ranking.countBelow(70));
+        assertEquals(0, ranking.countAbove(90));
+        assertEquals(0, ranking.countBelow(40));
+    }
+
+    @Test
+    public void getBelowPercentile_tiesKeptTogether() {
+        assertEquals(List.of(), ranking.getBelowPercentile(0));
+        assertEquals(List.of(DANIEL), ranking.getBelowPercentile(25));
+        assertEquals(List.of(DANIEL, ALICE, CARL), ranking.getBelowPercentile(26));
+        assertEquals(List.of(DANIEL, ALICE, CARL, BENSON), ranking.getBelowPercentile(100));
+    }
+
+    @Test
+    public void getInRange_scoresAndUnset_matchingStudents() {
+        scores.setScore(ALICE, 95);
+        ScoreDict withUngraded = new ScoreDict();
+        withUngraded.setScore(BENSON, -1);
+        withUngraded.setScore(CARL, 50);
+
+        assertEquals(Set.of(CARL), ranking.getInRange(ScoreRange.between(50, 70)));
+        assertEquals(Set.of(ALICE, BENSON), ranking.getInRange(ScoreRange.between(90, 100)));
+        assertEquals(Set.of(), ranking.getInRange(ScoreRange.UNSET));
+        assertEquals(Set.of(BENSON), withUngraded.getRanking().getInRange(ScoreRange.UNSET));
+
+        withUngraded.removePerson(BENSON);
+        assertEquals(Set.of(), withUngraded.getRanking().getInRange(ScoreRange.UNSET));
+    }
+}
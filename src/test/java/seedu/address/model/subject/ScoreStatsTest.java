@@ -0,0 +1,82 @@
+package seedu.address.model.subject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ScoreStatsTest {
+
+    private final ScoreStats stats = new ScoreStats();
+
+    @Test
+    public void newStats_empty() {
+        assertEquals(0, stats.getCount());
+        assertFalse(stats.getAverage().isPresent());
+        assertFalse(stats.getMin().isPresent());
+        assertFalse(stats.getMax().isPresent());
+    }
+
+    @Test
+    public void add_gradedAndUngraded_countedSeparately() {
+        stats.add(-1);
+        stats.add(60);
+        stats.add(90);
+
+        assertEquals(3, stats.getCount());
+        assertEquals(2, stats.getGradedCount());
+        assertEquals(1, stats.getUngradedCount());
+        assertEquals(150, stats.getSum());
+        assertEquals(75.0, stats.getAverage().getAsDouble());
+        assertEquals(60, stats.getMin().getAsInt());
+        assertEquals(90, stats.getMax().getAsInt());
+    }
+
+    @Test
+    public void remove_lowestAndHighest_minAndMaxMoved() {
+        stats.add(10);
+        stats.add(10);
+        stats.add(50);
+        stats.add(100);
+
+        stats.remove(10);
+        assertEquals(10, stats.getMin().getAsInt());
+
+        stats.remove(10);
+        stats.remove(100);
+        assertEquals(50, stats.getMin().getAsInt());
+        assertEquals(50, stats.getMax().getAsInt());
+
+        stats.remove(50);
+        assertFalse(stats.getMin().isPresent());
+    }
+
+    @Test
+    public void remove_ungraded_ungradedCountDecreased() {
+        stats.add(-1);
+        stats.remove(-1);
+
+        assertEquals(0, stats.getUngradedCount());
+    }
+
+    @Test
+    public void getCountBetween_histogram_countsInclusiveRange() {
+        stats.add(0);
+        stats.add(9);
+        stats.add(10);
+        stats.add(100);
+
+        assertEquals(2, stats.getCountBetween(0, 9));
+        assertEquals(1, stats.getCountBetween(100, 100));
+        assertEquals(4, stats.getCountBetween(0, ScoreStats.MAX_SCORE));
+        assertEquals(1, stats.getCountOf(9));
+    }
+
+    @Test
+    public void getCountBetween_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> stats.getCountBetween(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> stats.getCountBetween(50, 40));
+        assertThrows(IllegalArgumentException.class, () -> stats.getCountOf(101));
+    }
+}
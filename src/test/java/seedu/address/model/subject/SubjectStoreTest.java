@@ -0,0 +1,723 @@
+package seedu.address.model.subject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.exceptions.DuplicateSubjectException;
+import seedu.address.model.subject.exceptions.SubjectNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class SubjectStoreTest {
+
+    private final SubjectStore store = new SubjectStore();
+
+    @Test
+    public void getSubjectsOf_noEnrollment_returnsEmptySet() {
+        Set<Subject> subjects = store.getSubjectsOf(ALICE);
+
+        assertTrue(subjects.isEmpty());
+    }
+
+    @Test
+    public void getSubjectsOf_singleSubject_returnsCorrectSet() {
+        store.enrollPerson(Subject.MATH, ALICE);
+
+        Set<Subject> subjects = store.getSubjectsOf(ALICE);
+
+        assertEquals(1, subjects.size());
+        assertTrue(subjects.contains(Subject.MATH));
+    }
+
+    @Test
+    public void getSubjectsOf_multipleSubjects_returnsAllEnrolledSubjects() {
+        store.enrollPerson(Subject.MATH, BENSON);
+        store.enrollPerson(Subject.ENGLISH, BENSON);
+        store.enrollPerson(Subject.SCIENCE, BENSON);
+
+        Set<Subject> subjects = store.getSubjectsOf(BENSON);
+
+        assertEquals(3, subjects.size());
+        assertTrue(subjects.contains(Subject.MATH));
+        assertTrue(subjects.contains(Subject.ENGLISH));
+        assertTrue(subjects.contains(Subject.SCIENCE));
+    }
+
+    @Test
+    public void getSubjectsOf_partialEnrollment_returnsOnlyEnrolledSubjects() {
+        store.enrollPerson(Subject.MATH, CARL);
+        store.enrollPerson(Subject.SCIENCE, CARL);
+
+        Set<Subject> subjects = store.getSubjectsOf(CARL);
+
+        assertEquals(2, subjects.size());
+        assertTrue(subjects.contains(Subject.MATH));
+        assertTrue(subjects.contains(Subject.SCIENCE));
+        assertFalse(subjects.contains(Subject.ENGLISH));
+    }
+
+    @Test
+    public void getSubjectsOf_afterUnenrollment_excludesUnenrolledSubjects() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.ENGLISH, ALICE);
+
+        store.unenrollPerson(Subject.MATH, ALICE);
+        assertEquals(Set.of(Subject.ENGLISH), store.getSubjectsOf(ALICE));
+
+        store.unenrollPerson(Subject.ENGLISH, ALICE);
+        assertTrue(store.getSubjectsOf(ALICE).isEmpty());
+        assertTrue(store.getScoresOf(ALICE).isEmpty());
+    }
+
+    @Test
+    public void getSubjectsOf_modifyReturnedSet_enrollmentUnchanged() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.getSubjectsOf(ALICE).clear();
+
+        assertEquals(Set.of(Subject.MATH), store.getSubjectsOf(ALICE));
+    }
+
+    @Test
+    public void getSubjectsOf_returnsUnmodifiableSet() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        Set<Subject> subjects = store.getSubjectsOf(ALICE);
+
+        assertTrue(subjects instanceof java.util.AbstractSet);
+    }
+
+    @Test
+    public void getScoresOf_noEnrollment_returnsEmptyMap() {
+        Map<Subject, Integer> scores = store.getScoresOf(ALICE);
+
+        assertTrue(scores.isEmpty());
+    }
+
+    @Test
+    public void getScoresOf_singleSubject_returnsCorrectScore() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.setScore(Subject.MATH, ALICE, 85);
+
+        Map<Subject, Integer> scores = store.getScoresOf(ALICE);
+
+        assertEquals(1, scores.size());
+        assertEquals(85, scores.get(Subject.MATH));
+    }
+
+    @Test
+    public void getScoresOf_multipleSubjects_returnsAllScores() {
+        store.enrollPerson(Subject.MATH, BENSON);
+        store.enrollPerson(Subject.ENGLISH, BENSON);
+        store.enrollPerson(Subject.SCIENCE, BENSON);
+
+        store.setScore(Subject.MATH, BENSON, 90);
+        store.setScore(Subject.ENGLISH, BENSON, 85);
+        store.setScore(Subject.SCIENCE, BENSON, 95);
+
+        Map<Subject, Integer> scores = store.getScoresOf(BENSON);
+
+        assertEquals(3, scores.size());
+        assertEquals(90, scores.get(Subject.MATH));
+        assertEquals(85, scores.get(Subject.ENGLISH));
+        assertEquals(95, scores.get(Subject.SCIENCE));
+    }
+
+    @Test
+    public void getScoresOf_defaultScore_returnsNegativeOne() {
+        store.enrollPerson(Subject.SCIENCE, CARL);
+
+        Map<Subject, Integer> scores = store.getScoresOf(CARL);
+
+        assertEquals(1, scores.size());
+        assertEquals(-1, scores.get(Subject.SCIENCE));
+    }
+
+    @Test
+    public void getScoresOf_mixedEnrollment_returnsOnlyEnrolledScores() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.setScore(Subject.MATH, ALICE, 75);
+        // ALICE is not enrolled in ENGLISH or SCIENCE
+
+        Map<Subject, Integer> scores = store.getScoresOf(ALICE);
+
+        assertEquals(1, scores.size());
+        assertTrue(scores.containsKey(Subject.MATH));
+        assertFalse(scores.containsKey(Subject.ENGLISH));
+        assertFalse(scores.containsKey(Subject.SCIENCE));
+    }
+
+    @Test
+    public void getScoreDict_returnsCorrectScoreDict() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.setScore(Subject.MATH, ALICE, 88);
+
+        ScoreDict scoreDict = store.getScoreDict(Subject.MATH);
+
+        assertTrue(scoreDict.contains(ALICE));
+        assertEquals(88, scoreDict.getScore(ALICE).orElse(-1));
+    }
+
+    @Test
+    public void getScoreDict_differentSubjects_returnsDifferentScoreDicts() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.ENGLISH, BENSON);
+
+        ScoreDict mathDict = store.getScoreDict(Subject.MATH);
+        ScoreDict englishDict = store.getScoreDict(Subject.ENGLISH);
+
+        assertTrue(mathDict.contains(ALICE));
+        assertFalse(mathDict.contains(BENSON));
+
+        assertFalse(englishDict.contains(ALICE));
+        assertTrue(englishDict.contains(BENSON));
+    }
+
+    @Test
+    public void getViewOnlyScores_emptySubject_returnsEmptyMap() {
+        Map<Person, Integer> scores = store.getViewOnlyScores(Subject.MATH);
+
+        assertTrue(scores.isEmpty());
+    }
+
+    @Test
+    public void getViewOnlyScores_multipleStudents_returnsAllScores() {
+        store.enrollPerson(Subject.SCIENCE, ALICE);
+        store.enrollPerson(Subject.SCIENCE, BENSON);
+        store.enrollPerson(Subject.SCIENCE, CARL);
+
+        store.setScore(Subject.SCIENCE, ALICE, 80);
+        store.setScore(Subject.SCIENCE, BENSON, 90);
+        store.setScore(Subject.SCIENCE, CARL, 85);
+
+        Map<Person, Integer> scores = store.getViewOnlyScores(Subject.SCIENCE);
+
+        assertEquals(3, scores.size());
+        assertEquals(80, scores.get(ALICE));
+        assertEquals(90, scores.get(BENSON));
+        assertEquals(85, scores.get(CARL));
+    }
+
+    @Test
+    public void getViewOnlyScores_returnsUnmodifiableMap() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.setScore(Subject.MATH, ALICE, 75);
+
+        Map<Person, Integer> scores = store.getViewOnlyScores(Subject.MATH);
+
+        // Attempting to modify should throw an exception
+        try {
+            scores.put(BENSON, 80);
+            assertTrue(false, "Should have thrown UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // Expected
+            assertTrue(true);
+        }
+    }
+
+    @Test
+    public void integration_enrollmentAndScores_workTogether() {
+        // Enroll multiple students in different subjects
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.MATH, BENSON);
+        store.enrollPerson(Subject.ENGLISH, ALICE);
+        store.enrollPerson(Subject.SCIENCE, BENSON);
+        store.enrollPerson(Subject.SCIENCE, CARL);
+
+        // Set scores
+        store.setScore(Subject.MATH, ALICE, 95);
+        store.setScore(Subject.MATH, BENSON, 88);
+        store.setScore(Subject.ENGLISH, ALICE, 92);
+        store.setScore(Subject.SCIENCE, BENSON, 85);
+        store.setScore(Subject.SCIENCE, CARL, 90);
+
+        // Verify ALICE's enrollment and scores
+        Set<Subject> aliceSubjects = store.getSubjectsOf(ALICE);
+        assertEquals(2, aliceSubjects.size());
+
+        Map<Subject, Integer> aliceScores = store.getScoresOf(ALICE);
+        assertEquals(95, aliceScores.get(Subject.MATH));
+        assertEquals(92, aliceScores.get(Subject.ENGLISH));
+
+        // Verify BENSON's enrollment and scores
+        Set<Subject> bensonSubjects = store.getSubjectsOf(BENSON);
+        assertEquals(2, bensonSubjects.size());
+
+        Map<Subject, Integer> bensonScores = store.getScoresOf(BENSON);
+        assertEquals(88, bensonScores.get(Subject.MATH));
+        assertEquals(85, bensonScores.get(Subject.SCIENCE));
+
+        // Verify CARL's enrollment and scores
+        Set<Subject> carlSubjects = store.getSubjectsOf(CARL);
+        assertEquals(1, carlSubjects.size());
+
+        Map<Subject, Integer> carlScores = store.getScoresOf(CARL);
+        assertEquals(90, carlScores.get(Subject.SCIENCE));
+    }
+
+
+    @Test
+    public void addScoreListener_scoreChanged_listenerNotified() {
+        List<Person> changed = new ArrayList<>();
+        store.addScoreListener(changed::add);
+
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.setScore(Subject.MATH, ALICE, 95);
+        store.unenrollPerson(Subject.MATH, ALICE);
+
+        assertEquals(List.of(ALICE, ALICE, ALICE), changed);
+    }
+
+    @Test
+    public void removeScoreListener_scoreChanged_listenerNotNotified() {
+        List<Person> changed = new ArrayList<>();
+        ScoreDict.ScoreChangeListener listener = changed::add;
+        store.addScoreListener(listener);
+        store.removeScoreListener(listener);
+
+        store.enrollPerson(Subject.MATH, ALICE);
+
+        assertTrue(changed.isEmpty());
+    }
+
+    @Test
+    public void copyConstructor_copiesEnrollmentsAndScores() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.setScore(Subject.MATH, ALICE, 70);
+        store.enrollPerson(Subject.SCIENCE, BENSON);
+
+        SubjectStore copy = new SubjectStore(store);
+
+        assertEquals(store, copy);
+        assertEquals(70, copy.getScore(Subject.MATH, ALICE));
+        assertEquals(Set.of(Subject.SCIENCE), copy.getSubjectsOf(BENSON));
+    }
+
+    @Test
+    public void copyConstructor_laterChanges_storesIndependent() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        SubjectStore copy = new SubjectStore(store);
+
+        copy.setScore(Subject.MATH, ALICE, 50);
+        copy.enrollPerson(Subject.ENGLISH, BENSON);
+        store.unenrollPerson(Subject.MATH, ALICE);
+
+        assertFalse(store.isEnrolled(Subject.ENGLISH, BENSON));
+        assertFalse(store.isEnrolled(Subject.MATH, ALICE));
+        assertEquals(50, copy.getScore(Subject.MATH, ALICE));
+        assertFalse(store.equals(copy));
+    }
+
+    @Test
+    public void resetData_replacesExistingEnrollments() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        SubjectStore newData = new SubjectStore();
+        newData.enrollPerson(Subject.ENGLISH, BENSON);
+        newData.setScore(Subject.ENGLISH, BENSON, 90);
+
+        store.resetData(newData);
+
+        assertFalse(store.isEnrolled(Subject.MATH, ALICE));
+        assertTrue(store.getSubjectsOf(ALICE).isEmpty());
+        assertEquals(90, store.getScore(Subject.ENGLISH, BENSON));
+    }
+
+    @Test
+    public void removePerson_enrolledInSeveralSubjects_unenrolledFromAll() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.SCIENCE, ALICE);
+        store.enrollPerson(Subject.MATH, BENSON);
+
+        store.removePerson(ALICE);
+
+        assertTrue(store.getSubjectsOf(ALICE).isEmpty());
+        assertFalse(store.getScoreDict(Subject.SCIENCE).contains(ALICE));
+        assertTrue(store.isEnrolled(Subject.MATH, BENSON));
+
+        // removing a person that is not enrolled anywhere is a no-op
+        store.removePerson(CARL);
+    }
+
+    @Test
+    public void replacePerson_enrolledPerson_enrollmentsAndScoresMoved() {
+        Person editedAlice = new PersonBuilder(ALICE).withChildName("Alice Edited").build();
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.setScore(Subject.MATH, ALICE, 65);
+        store.enrollPerson(Subject.ENGLISH, ALICE);
+
+        store.replacePerson(ALICE, editedAlice);
+
+        assertTrue(store.getSubjectsOf(ALICE).isEmpty());
+        assertEquals(Map.of(Subject.MATH, 65, Subject.ENGLISH, -1), store.getScoresOf(editedAlice));
+    }
+
+    @Test
+    public void enrollPerson_success() {
+        store.enrollPerson(Subject.MATH, ALICE);
+
+        assertTrue(store.getStudents(Subject.MATH).contains(ALICE));
+        assertEquals(-1, store.getScore(Subject.MATH, ALICE));
+    }
+
+    @Test
+    public void enrollPerson_multipleStudents_success() {
+        store.enrollPerson(Subject.ENGLISH, ALICE);
+        store.enrollPerson(Subject.ENGLISH, BENSON);
+        store.enrollPerson(Subject.ENGLISH, CARL);
+
+        Set<Person> students = store.getStudents(Subject.ENGLISH);
+        assertEquals(3, students.size());
+        assertTrue(students.contains(ALICE));
+        assertTrue(students.contains(BENSON));
+        assertTrue(students.contains(CARL));
+    }
+
+    @Test
+    public void enrollPerson_duplicateEnrollment_doesNotDuplicateStudent() {
+        store.enrollPerson(Subject.SCIENCE, ALICE);
+        store.enrollPerson(Subject.SCIENCE, ALICE);
+
+        assertEquals(1, store.getStudents(Subject.SCIENCE).size());
+    }
+
+    @Test
+    public void unenrollPerson_success() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.MATH, BENSON);
+
+        store.unenrollPerson(Subject.MATH, ALICE);
+
+        assertFalse(store.getStudents(Subject.MATH).contains(ALICE));
+        assertTrue(store.getStudents(Subject.MATH).contains(BENSON));
+    }
+
+    @Test
+    public void unenrollPerson_notEnrolled_noEffect() {
+        store.unenrollPerson(Subject.MATH, ALICE);
+
+        assertFalse(store.getStudents(Subject.MATH).contains(ALICE));
+    }
+
+    @Test
+    public void setScore_enrolledStudent_success() {
+        store.enrollPerson(Subject.MATH, ALICE);
+
+        store.setScore(Subject.MATH, ALICE, 85);
+
+        assertEquals(85, store.getScore(Subject.MATH, ALICE));
+    }
+
+    @Test
+    public void setScore_notEnrolled_throwsException() {
+        assertThrows(IllegalStateException.class, () -> store.setScore(Subject.MATH, ALICE, 90));
+    }
+
+    @Test
+    public void setScore_updateExistingScore_success() {
+        store.enrollPerson(Subject.ENGLISH, BENSON);
+        store.setScore(Subject.ENGLISH, BENSON, 70);
+
+        store.setScore(Subject.ENGLISH, BENSON, 95);
+
+        assertEquals(95, store.getScore(Subject.ENGLISH, BENSON));
+    }
+
+    @Test
+    public void getScore_enrolledStudent_success() {
+        store.enrollPerson(Subject.SCIENCE, CARL);
+        store.setScore(Subject.SCIENCE, CARL, 88);
+
+        assertEquals(88, store.getScore(Subject.SCIENCE, CARL));
+    }
+
+    @Test
+    public void getScore_notEnrolled_throwsException() {
+        assertThrows(IllegalStateException.class, () -> store.getScore(Subject.MATH, ALICE));
+    }
+
+    @Test
+    public void getScore_enrolledButNoScoreSet_returnsDefaultScore() {
+        store.enrollPerson(Subject.MATH, ALICE);
+
+        assertEquals(-1, store.getScore(Subject.MATH, ALICE));
+    }
+
+    @Test
+    public void getStudents_emptySubject_returnsEmptySet() {
+        Set<Person> students = store.getStudents(Subject.MATH);
+
+        assertTrue(students.isEmpty());
+    }
+
+    @Test
+    public void getStudents_returnsUnmodifiableSet() {
+        store.enrollPerson(Subject.ENGLISH, ALICE);
+        Set<Person> students = store.getStudents(Subject.ENGLISH);
+
+        // Attempting to modify the returned set should throw an exception
+        assertThrows(UnsupportedOperationException.class, () -> students.add(BENSON));
+    }
+
+    @Test
+    public void isEnrolled_enrolledAndUnenrolled_reflectsEnrollment() {
+        assertFalse(store.isEnrolled(Subject.MATH, ALICE));
+
+        store.enrollPerson(Subject.MATH, ALICE);
+        assertTrue(store.isEnrolled(Subject.MATH, ALICE));
+        assertFalse(store.isEnrolled(Subject.MATH, BENSON));
+
+        store.unenrollPerson(Subject.MATH, ALICE);
+        assertFalse(store.isEnrolled(Subject.MATH, ALICE));
+    }
+
+    @Test
+    public void getEnrolledCount_multipleStudents_returnsCount() {
+        assertEquals(0, store.getEnrolledCount(Subject.SCIENCE));
+
+        store.enrollPerson(Subject.SCIENCE, ALICE);
+        store.enrollPerson(Subject.SCIENCE, BENSON);
+        store.enrollPerson(Subject.SCIENCE, ALICE);
+
+        assertEquals(2, store.getEnrolledCount(Subject.SCIENCE));
+    }
+
+    @Test
+    public void getStudents_laterEnrollment_reflectedInView() {
+        Set<Person> view = store.getStudents(Subject.ENGLISH);
+        assertTrue(view.isEmpty());
+
+        store.enrollPerson(Subject.ENGLISH, CARL);
+
+        assertTrue(view.contains(CARL));
+        assertThrows(UnsupportedOperationException.class, () -> view.add(ALICE));
+    }
+
+    @Test
+    public void multipleSubjects_independentEnrollment() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.ENGLISH, BENSON);
+        store.enrollPerson(Subject.SCIENCE, CARL);
+
+        assertEquals(1, store.getStudents(Subject.MATH).size());
+        assertEquals(1, store.getStudents(Subject.ENGLISH).size());
+        assertEquals(1, store.getStudents(Subject.SCIENCE).size());
+
+        assertTrue(store.getStudents(Subject.MATH).contains(ALICE));
+        assertFalse(store.getStudents(Subject.MATH).contains(BENSON));
+    }
+
+    @Test
+    public void multipleSubjects_sameStudent_independentScores() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.ENGLISH, ALICE);
+        store.enrollPerson(Subject.SCIENCE, ALICE);
+
+        store.setScore(Subject.MATH, ALICE, 90);
+        store.setScore(Subject.ENGLISH, ALICE, 85);
+        store.setScore(Subject.SCIENCE, ALICE, 95);
+
+        assertEquals(90, store.getScore(Subject.MATH, ALICE));
+        assertEquals(85, store.getScore(Subject.ENGLISH, ALICE));
+        assertEquals(95, store.getScore(Subject.SCIENCE, ALICE));
+    }
+
+    @Test
+    public void constructor_offersDefaultSubjects() {
+        assertEquals(Subject.getDefaultSubjects(), store.getSubjectList());
+    }
+
+    @Test
+    public void addSubject_newSubject_addedToCatalogue() {
+        Subject physics = new Subject("Physics");
+        store.addSubject(physics);
+
+        assertTrue(store.hasSubject(physics));
+        assertEquals(physics, store.getSubjectList().get(3));
+        assertEquals(0, store.getEnrolledCount(physics));
+    }
+
+    @Test
+    public void addSubject_duplicateSubject_throwsDuplicateSubjectException() {
+        assertThrows(DuplicateSubjectException.class, () -> store.addSubject(new Subject("math")));
+    }
+
+    @Test
+    public void findSubject_differentCase_returnsCatalogueSubject() {
+        store.addSubject(new Subject("Physics"));
+
+        assertEquals("Physics", store.findSubject("PHYSICS").get().subjectName);
+        assertFalse(store.findSubject("Chemistry").isPresent());
+    }
+
+    @Test
+    public void unknownSubject_throwsSubjectNotFoundException() {
+        Subject physics = new Subject("Physics");
+
+        assertFalse(store.hasSubject(physics));
+        assertThrows(SubjectNotFoundException.class, () -> store.enrollPerson(physics, ALICE));
+        assertThrows(SubjectNotFoundException.class, () -> store.getEnrolledCount(physics));
+        assertThrows(SubjectNotFoundException.class, () -> store.retireSubject(physics));
+    }
+
+    @Test
+    public void renameSubject_enrolledStudents_enrollmentsAndScoresKept() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.setScore(Subject.MATH, ALICE, 90);
+        Subject mathematics = new Subject("Mathematics");
+
+        store.renameSubject(Subject.MATH, mathematics);
+
+        assertFalse(store.hasSubject(Subject.MATH));
+        assertTrue(store.isEnrolled(mathematics, ALICE));
+        assertEquals(90, store.getScore(mathematics, ALICE));
+        assertEquals(Set.of(mathematics), store.getSubjectsOf(ALICE));
+    }
+
+    @Test
+    public void renameSubject_changeOfCase_success() {
+        store.renameSubject(Subject.MATH, new Subject("Math"));
+
+        assertEquals("Math", store.findSubject("MATH").get().subjectName);
+    }
+
+    @Test
+    public void renameSubject_nameTaken_throwsDuplicateSubjectException() {
+        assertThrows(DuplicateSubjectException.class, () -> store.renameSubject(Subject.MATH, Subject.SCIENCE));
+    }
+
+    @Test
+    public void renameSubject_listenerNotifiedForStudents() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        List<Person> changed = new ArrayList<>();
+        store.addScoreListener(changed::add);
+
+        store.renameSubject(Subject.MATH, new Subject("Mathematics"));
+
+        assertEquals(List.of(ALICE), changed);
+    }
+
+    @Test
+    public void retireSubject_enrolledStudents_unenrolled() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.ENGLISH, ALICE);
+
+        store.retireSubject(Subject.MATH);
+
+        assertFalse(store.hasSubject(Subject.MATH));
+        assertEquals(Set.of(Subject.ENGLISH), store.getSubjectsOf(ALICE));
+    }
+
+    @Test
+    public void addSubject_afterRetire_reusesSlotWithoutEnrollments() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.retireSubject(Subject.MATH);
+        Subject physics = new Subject("Physics");
+
+        store.addSubject(physics);
+
+        assertEquals(List.of(physics, Subject.ENGLISH, Subject.SCIENCE), store.getSubjectList());
+        assertFalse(store.isEnrolled(physics, ALICE));
+        assertTrue(store.getSubjectsOf(ALICE).isEmpty());
+    }
+
+    @Test
+    public void setSubjects_replacesCatalogue() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        Subject physics = new Subject("Physics");
+
+        store.setSubjects(List.of(physics, Subject.MATH));
+
+        assertEquals(List.of(physics, Subject.MATH), store.getSubjectList());
+        assertFalse(store.isEnrolled(Subject.MATH, ALICE));
+    }
+
+    @Test
+    public void setSubjects_duplicateSubjects_throwsDuplicateSubjectException() {
+        assertThrows(DuplicateSubjectException.class, () ->
+                store.setSubjects(List.of(Subject.MATH, new Subject("Math"))));
+        assertEquals(Subject.getDefaultSubjects(), store.getSubjectList());
+    }
+
+    @Test
+    public void copyConstructor_customCatalogue_copied() {
+        Subject physics = new Subject("Physics");
+        store.addSubject(physics);
+        store.enrollPerson(physics, BENSON);
+
+        SubjectStore copy = new SubjectStore(store);
+
+        assertEquals(store, copy);
+        assertTrue(copy.isEnrolled(physics, BENSON));
+    }
+
+    @Test
+    public void getScoreStats_enrollmentsAndScores_kept() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.MATH, BENSON);
+        store.setScore(Subject.MATH, ALICE, 80);
+        store.unenrollPerson(Subject.MATH, BENSON);
+
+        ScoreStats stats = store.getScoreStats(Subject.MATH);
+        assertEquals(1, stats.getCount());
+        assertEquals(80, stats.getMax().getAsInt());
+        assertEquals(0, store.getScoreStats(Subject.ENGLISH).getCount());
+    }
+
+    @Test
+    public void ranking_scoresChanged_rankingUpdated() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.MATH, BENSON);
+        store.enrollPerson(Subject.MATH, CARL);
+        store.setScore(Subject.MATH, ALICE, 50);
+        store.setScore(Subject.MATH, BENSON, 80);
+
+        assertEquals(List.of(BENSON, ALICE), store.getTopScorers(Subject.MATH, 5));
+        assertEquals(List.of(ALICE), store.getBottomScorers(Subject.MATH, 1));
+        assertEquals(2, store.getRank(Subject.MATH, ALICE));
+        assertEquals(50, store.getPercentileRank(Subject.MATH, BENSON));
+
+        store.setScore(Subject.MATH, ALICE, 90);
+        store.unenrollPerson(Subject.MATH, BENSON);
+
+        assertEquals(List.of(ALICE), store.getTopScorers(Subject.MATH, 5));
+        assertEquals(1, store.getRank(Subject.MATH, ALICE));
+        assertEquals(List.of(ALICE), store.getScorersBelowPercentile(Subject.MATH, 1));
+    }
+
+    @Test
+    public void getRank_ungradedPerson_throwsException() {
+        store.enrollPerson(Subject.MATH, ALICE);
+
+        assertThrows(IllegalStateException.class, () -> store.getRank(Subject.MATH, ALICE));
+        assertThrows(IllegalStateException.class, () -> store.getPercentileRank(Subject.MATH, BENSON));
+    }
+
+    @Test
+    public void getStudentsInRange_scoresChanged_matchingStudents() {
+        store.enrollPerson(Subject.MATH, ALICE);
+        store.enrollPerson(Subject.MATH, BENSON);
+        store.enrollPerson(Subject.MATH, CARL);
+        store.setScore(Subject.MATH, ALICE, 50);
+        store.setScore(Subject.MATH, BENSON, 80);
+
+        assertEquals(Set.of(BENSON), store.getStudentsInRange(Subject.MATH, ScoreRange.between(80, 100)));
+        assertEquals(Set.of(CARL), store.getStudentsInRange(Subject.MATH, ScoreRange.UNSET));
+
+        store.setScore(Subject.MATH, CARL, 95);
+        store.unenrollPerson(Subject.MATH, BENSON);
+
+        assertEquals(Set.of(CARL), store.getStudentsInRange(Subject.MATH, ScoreRange.between(80, 100)));
+        assertEquals(Set.of(), store.getStudentsInRange(Subject.MATH, ScoreRange.UNSET));
+        assertEquals(Set.of(), store.getStudentsInRange(Subject.ENGLISH, ScoreRange.between(0, 100)));
+    }
+}
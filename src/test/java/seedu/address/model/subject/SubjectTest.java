@@ -2,230 +2,81 @@ package seedu.address.model.subject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static seedu.address.testutil.TypicalPersons.ALICE;
-import static seedu.address.testutil.TypicalPersons.BENSON;
-import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.Assert.assertThrows;
 
-import java.util.Set;
+import java.util.List;
 
-import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.person.Person;
-
 public class SubjectTest {
 
-    @AfterEach
-    public void cleanup() {
-        for (Subject subject : Subject.values()) {
-            subject.getStudents().forEach(person -> subject.unenrollPerson(person));
-        }
-    }
-
-    // --- fromString() tests --------------------------------------------
-
     @Test
-    public void fromString_validNames_success() {
-        assertEquals(Subject.MATH, Subject.fromString("MATH"));
-        assertEquals(Subject.ENGLISH, Subject.fromString("ENGLISH"));
-        assertEquals(Subject.SCIENCE, Subject.fromString("SCIENCE"));
-
-        // Case-insensitive
-        assertEquals(Subject.MATH, Subject.fromString("math"));
-        assertEquals(Subject.ENGLISH, Subject.fromString("english"));
-        assertEquals(Subject.SCIENCE, Subject.fromString("science"));
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Subject(null));
     }
 
     @Test
-    public void fromString_invalidNames_throwsException() {
-        assertThrows(IllegalArgumentException.class, () -> Subject.fromString("History"));
-        assertThrows(IllegalArgumentException.class, () -> Subject.fromString(""));
-        assertThrows(IllegalArgumentException.class, () -> Subject.fromString(null));
-    }
-
-    // --- contains() tests --------------------------------------------
-
-    @Test
-    public void contains_validNames_true() {
-        assertTrue(Subject.contains("MATH"));
-        assertTrue(Subject.contains("english")); // lowercase
-        assertTrue(Subject.contains("Science")); // mixed case
+    public void constructor_invalidSubjectName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Subject(""));
+        assertThrows(IllegalArgumentException.class, () -> new Subject("Math!"));
     }
 
     @Test
-    public void contains_invalidNames_false() {
-        assertFalse(Subject.contains("History"));
-        assertFalse(Subject.contains(""));
-        assertFalse(Subject.contains(null));
-    }
+    public void isValidSubjectName() {
+        // null subject name
+        assertThrows(NullPointerException.class, () -> Subject.isValidSubjectName(null));
 
-    // --- consistency check -------------------------------------------
+        // invalid subject names
+        assertFalse(Subject.isValidSubjectName("")); // empty string
+        assertFalse(Subject.isValidSubjectName(" ")); // spaces only
+        assertFalse(Subject.isValidSubjectName(" Math")); // leading space
+        assertFalse(Subject.isValidSubjectName("notasubject!@#*&(")); // special characters
 
-    @Test
-    public void contains_andFromString_consistent() {
-        for (Subject s : Subject.values()) {
-            String name = s.name();
-            assertTrue(Subject.contains(name));
-            assertEquals(s, Subject.fromString(name));
-        }
+        // valid subject names
+        assertTrue(Subject.isValidSubjectName("MATH"));
+        assertTrue(Subject.isValidSubjectName("physics")); // not a default subject
+        assertTrue(Subject.isValidSubjectName("CS2103T")); // course code
+        assertTrue(Subject.isValidSubjectName("Sec 3 Additional Math")); // with spaces and digits
     }
 
     @Test
-    public void enrollPerson_success() {
-        Subject.MATH.enrollPerson(ALICE);
+    public void equals() {
+        Subject subject = new Subject("Physics");
 
-        assertTrue(Subject.MATH.getStudents().contains(ALICE));
-        assertEquals(-1, Subject.MATH.getScore(ALICE));
-    }
+        // same values -> returns true
+        assertTrue(subject.equals(new Subject("Physics")));
 
-    @Test
-    public void enrollPerson_multipleStudents_success() {
-        Subject.ENGLISH.enrollPerson(ALICE);
-        Subject.ENGLISH.enrollPerson(BENSON);
-        Subject.ENGLISH.enrollPerson(CARL);
-
-        Set<Person> students = Subject.ENGLISH.getStudents();
-        assertEquals(3, students.size());
-        assertTrue(students.contains(ALICE));
-        assertTrue(students.contains(BENSON));
-        assertTrue(students.contains(CARL));
-    }
+        // same object -> returns true
+        assertTrue(subject.equals(subject));
 
-    @Test
-    public void enrollPerson_duplicateEnrollment_doesNotDuplicateStudent() {
-        Subject.SCIENCE.enrollPerson(ALICE);
-        Subject.SCIENCE.enrollPerson(ALICE);
+        // different case -> returns true
+        assertTrue(subject.equals(new Subject("PHYSICS")));
+        assertTrue(Subject.MATH.equals(new Subject("math")));
 
-        assertEquals(1, Subject.SCIENCE.getStudents().size());
-    }
+        // null -> returns false
+        assertFalse(subject.equals(null));
 
-    @Test
-    public void unenrollPerson_success() {
-        Subject.MATH.enrollPerson(ALICE);
-        Subject.MATH.enrollPerson(BENSON);
+        // different types -> returns false
+        assertFalse(subject.equals("Physics"));
 
-        Subject.MATH.unenrollPerson(ALICE);
-
-        assertFalse(Subject.MATH.getStudents().contains(ALICE));
-        assertTrue(Subject.MATH.getStudents().contains(BENSON));
-    }
-
-    @Test
-    public void unenrollPerson_notEnrolled_noEffect() {
-        Subject.MATH.unenrollPerson(ALICE);
-
-        assertFalse(Subject.MATH.getStudents().contains(ALICE));
+        // different values -> returns false
+        assertFalse(subject.equals(new Subject("Chemistry")));
     }
 
     @Test
-    public void setScore_enrolledStudent_success() {
-        Subject.MATH.enrollPerson(ALICE);
-
-        Subject.MATH.setScore(ALICE, 85);
-
-        assertEquals(85, Subject.MATH.getScore(ALICE));
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new Subject("Physics").hashCode(), new Subject("pHYSICS").hashCode());
     }
 
     @Test
-    public void setScore_notEnrolled_throwsException() {
-        assertThrows(IllegalStateException.class, () -> Subject.MATH.setScore(ALICE, 90));
+    public void toString_keepsOriginalCase() {
+        assertEquals("Sec 3 Physics", new Subject("Sec 3 Physics").toString());
+        assertEquals("MATH", Subject.MATH.toString());
     }
 
     @Test
-    public void setScore_updateExistingScore_success() {
-        Subject.ENGLISH.enrollPerson(BENSON);
-        Subject.ENGLISH.setScore(BENSON, 70);
-
-        Subject.ENGLISH.setScore(BENSON, 95);
-
-        assertEquals(95, Subject.ENGLISH.getScore(BENSON));
-    }
-
-    @Test
-    public void getScore_enrolledStudent_success() {
-        Subject.SCIENCE.enrollPerson(CARL);
-        Subject.SCIENCE.setScore(CARL, 88);
-
-        assertEquals(88, Subject.SCIENCE.getScore(CARL));
-    }
-
-    @Test
-    public void getScore_notEnrolled_throwsException() {
-        assertThrows(IllegalStateException.class, () -> Subject.MATH.getScore(ALICE));
-    }
-
-    @Test
-    public void getScore_enrolledButNoScoreSet_returnsDefaultScore() {
-        Subject.MATH.enrollPerson(ALICE);
-
-        assertEquals(-1, Subject.MATH.getScore(ALICE));
-    }
-
-    @Test
-    public void getStudents_emptySubject_returnsEmptySet() {
-        Set<Person> students = Subject.MATH.getStudents();
-
-        assertTrue(students.isEmpty());
-    }
-
-    @Test
-    public void getStudents_returnsUnmodifiableSet() {
-        Subject.ENGLISH.enrollPerson(ALICE);
-        Set<Person> students = Subject.ENGLISH.getStudents();
-
-        // Attempting to modify the returned set should throw an exception
-        assertThrows(UnsupportedOperationException.class, () -> students.add(BENSON));
-    }
-
-    @Test
-    public void getScoreDict_returnsCorrectScoreDict() {
-        Subject.MATH.enrollPerson(ALICE);
-        Subject.MATH.setScore(ALICE, 75);
-
-        ScoreDict scoreDict = Subject.MATH.getScoreDict();
-
-        assertTrue(scoreDict.contains(ALICE));
-        assertEquals(75, scoreDict.getScore(ALICE).orElse(-1));
-    }
-
-    @Test
-    public void multipleSubjects_independentEnrollment() {
-        Subject.MATH.enrollPerson(ALICE);
-        Subject.ENGLISH.enrollPerson(BENSON);
-        Subject.SCIENCE.enrollPerson(CARL);
-
-        assertEquals(1, Subject.MATH.getStudents().size());
-        assertEquals(1, Subject.ENGLISH.getStudents().size());
-        assertEquals(1, Subject.SCIENCE.getStudents().size());
-
-        assertTrue(Subject.MATH.getStudents().contains(ALICE));
-        assertFalse(Subject.MATH.getStudents().contains(BENSON));
-    }
-
-    @Test
-    public void multipleSubjects_sameStudent_independentScores() {
-        Subject.MATH.enrollPerson(ALICE);
-        Subject.ENGLISH.enrollPerson(ALICE);
-        Subject.SCIENCE.enrollPerson(ALICE);
-
-        Subject.MATH.setScore(ALICE, 90);
-        Subject.ENGLISH.setScore(ALICE, 85);
-        Subject.SCIENCE.setScore(ALICE, 95);
-
-        assertEquals(90, Subject.MATH.getScore(ALICE));
-        assertEquals(85, Subject.ENGLISH.getScore(ALICE));
-        assertEquals(95, Subject.SCIENCE.getScore(ALICE));
-    }
-
-    @Test
-    public void subjectEnum_correctValues() {
-        Subject[] subjects = Subject.values();
-
-        assertEquals(3, subjects.length);
-        assertEquals(Subject.MATH, Subject.valueOf("MATH"));
-        assertEquals(Subject.ENGLISH, Subject.valueOf("ENGLISH"));
-        assertEquals(Subject.SCIENCE, Subject.valueOf("SCIENCE"));
+    public void getDefaultSubjects_returnsBuiltInSubjects() {
+        assertEquals(List.of(Subject.MATH, Subject.ENGLISH, Subject.SCIENCE), Subject.getDefaultSubjects());
     }
 }
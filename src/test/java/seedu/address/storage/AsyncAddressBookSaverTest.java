@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final Supplier<ReadOnlyAddressBook> NO_SNAPSHOT = () -> {
+        throw new AssertionError("No snapshot should be taken.");
+    };
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AsyncAddressBookSaver(new RecordingStorage(testFolder.resolve("ab.json")), -1));
+    }
+
+    @Test
+    public void save_null_throwsNullPointerException() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new RecordingStorage(testFolder.resolve("ab.json")),
+                NEVER);
+        assertThrows(NullPointerException.class, () -> saver.save(null, AddressBook::new));
+        assertThrows(NullPointerException.class, () -> saver.save(List.of(), null));
+    }
+
+    @Test
+    public void flush_severalSavesSnapshotDue_writesLatestSnapshotOnce() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("ab.json"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, NEVER);
+        AddressBook first = new AddressBook();
+        first.addPerson(ALICE);
+        AddressBook second = new AddressBook(first);
+        second.addPerson(BENSON);
+
+        saver.save(List.of(AddressBookChange.addPerson(ALICE)), () -> first);
+        saver.save(List.of(AddressBookChange.addPerson(BENSON)), () -> second);
+        assertTrue(saver.hasPending());
+        assertTrue(storage.saved.isEmpty());
+
+        saver.flush(NO_SNAPSHOT);
+        assertFalse(saver.hasPending());
+        assertEquals(List.of(second), storage.saved);
+        assertEquals(second, new AddressBook(storage.readAddressBook().get()));
+
+        // nothing left to write
+        saver.flush(NO_SNAPSHOT);
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void flush_severalSavesSnapshotNotDue_writesAllChangesInOrderWithoutSnapshot() throws Exception {
+        List<List<AddressBookChange>> written = new ArrayList<>();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public synchronized boolean saveAddressBookChanges(List<AddressBookChange> changes) throws IOException {
+                written.add(changes);
+                return super.saveAddressBookChanges(changes);
+            }
+        };
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, NEVER);
+
+        model.deletePerson(ALICE);
+        List<AddressBookChange> firstChanges = model.takeAddressBookChanges();
+        model.enrollPerson(Subject.MATH, BENSON);
+        List<AddressBookChange> secondChanges = model.takeAddressBookChanges();
+        saver.save(firstChanges, NO_SNAPSHOT);
+        saver.save(secondChanges, NO_SNAPSHOT);
+        saver.flush(NO_SNAPSHOT);
+
+        List<AddressBookChange> allChanges = new ArrayList<>(firstChanges);
+        allChanges.addAll(secondChanges);
+        assertEquals(List.of(allChanges), written);
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void save_writeOfChangesFailed_snapshotTakenNext() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("ab.json")) {
+            private boolean hasFailed = false;
+
+            @Override
+            public synchronized boolean saveAddressBookChanges(List<AddressBookChange> changes) throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw failure;
+                }
+                return super.saveAddressBookChanges(changes);
+            }
+        };
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, NEVER);
+
+        model.deletePerson(ALICE);
+        saver.save(model.takeAddressBookChanges(), NO_SNAPSHOT);
+        assertThrows(IOException.class, failure.getMessage(), () -> saver.flush(NO_SNAPSHOT));
+
+        // the failed changes are written with the next snapshot
+        AddressBook snapshot = new AddressBook(model.getAddressBook());
+        saver.save(List.of(), () -> snapshot);
+        saver.flush(NO_SNAPSHOT);
+        assertEquals(snapshot, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void save_afterDelay_writesInBackground() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                super.saveAddressBook(addressBook, filePath);
+                written.countDown();
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, 0);
+        Thread callingThread = Thread.currentThread();
+
+        saver.save(List.of(), () -> {
+            assertEquals(callingThread, Thread.currentThread());
+            return getTypicalAddressBook();
+        });
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        saver.flush(NO_SNAPSHOT);
+        assertEquals(List.of(getTypicalAddressBook()), storage.saved);
+    }
+
+    @Test
+    public void flush_writeFails_throwsOnce() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, NEVER);
+
+        saver.save(List.of(), AddressBook::new);
+        assertThrows(IOException.class, failure.getMessage(), () -> saver.flush(NO_SNAPSHOT));
+
+        // the error has been taken
+        assertEquals(Optional.empty(), saver.takeError());
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that records the address books it saves.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saved.add(addressBook);
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
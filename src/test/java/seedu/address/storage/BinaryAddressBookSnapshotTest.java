@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jsonFilePath = testFolder.resolve("parentconnect.json");
+        filePath = testFolder.resolve("parentconnect.json.bin");
+        Files.writeString(jsonFilePath, "{}");
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() {
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, jsonFilePath).isPresent());
+    }
+
+    @Test
+    public void read_emptyAddressBook_success() throws Exception {
+        BinaryAddressBookSnapshot.write(new AddressBook(), 0, jsonFilePath, filePath);
+        JsonAddressBookReader reader = BinaryAddressBookSnapshot.read(filePath, jsonFilePath).get();
+        assertEquals(new AddressBook(), reader.toModelType());
+        assertEquals(0, reader.getLastChange());
+    }
+
+    @Test
+    public void read_addressBookWithScores_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Subject history = new Subject("History");
+        addressBook.addSubject(history);
+        addressBook.enrollPerson(Subject.MATH, ALICE);
+        addressBook.setScore(Subject.MATH, ALICE, 88);
+        addressBook.enrollPerson(Subject.MATH, BENSON);
+        addressBook.enrollPerson(history, BENSON);
+        addressBook.setScore(history, BENSON, 0);
+        BinaryAddressBookSnapshot.write(addressBook, 42, jsonFilePath, filePath);
+
+        JsonAddressBookReader reader = BinaryAddressBookSnapshot.read(filePath, jsonFilePath).get();
+        AddressBook addressBookFromFile = reader.toModelType();
+        assertEquals(addressBook, addressBookFromFile);
+        assertEquals(addressBook.getSubjectList(), addressBookFromFile.getSubjectList());
+        assertEquals(88, addressBookFromFile.getSubjectStore().getScore(Subject.MATH, ALICE));
+        assertEquals(-1, addressBookFromFile.getSubjectStore().getScore(Subject.MATH, BENSON));
+        assertEquals(0, addressBookFromFile.getSubjectStore().getScore(history, BENSON));
+        assertEquals(42, reader.getLastChange());
+    }
+
+    @Test
+    public void read_largeAddressBook_sameAsJsonSnapshot() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 10_000; i++) {
+            // child names Aaaaa, Aaaab and so on, sharing a few parents, allergies and tags
+            String suffix = "";
+            for (int n = i; suffix.length() < 4; n /= 26) {
+                suffix = (char) ('a' + n % 26) + suffix;
+            }
+            Person person = new PersonBuilder().withChildName("A" + suffix).withParentName("Parent " + suffix.charAt(0))
+                    .withAllergies("Allergy" + i % 7).withTags("Tag" + i % 5).withUniqueId(i).build();
+            addressBook.addPerson(person);
+            if (i % 2 == 0) {
+                addressBook.enrollPerson(Subject.MATH, person);
+                addressBook.setScore(Subject.MATH, person, i % 101);
+            }
+        }
+        JsonAddressBookWriter.write(addressBook, 0, jsonFilePath);
+        BinaryAddressBookSnapshot.write(addressBook, 0, jsonFilePath, filePath);
+
+        JsonAddressBookReader jsonReader = new JsonAddressBookReader();
+        jsonReader.read(jsonFilePath);
+        AddressBook addressBookFromJson = jsonReader.toModelType();
+        AddressBook addressBookFromBinary = BinaryAddressBookSnapshot.read(filePath, jsonFilePath).get().toModelType();
+
+        assertEquals(addressBook, addressBookFromJson);
+        assertEquals(addressBookFromJson, addressBookFromBinary);
+        for (int i = 0; i < addressBook.getPersonList().size(); i += 2) {
+            Person person = addressBook.getPersonList().get(i);
+            assertEquals(i % 101, addressBookFromJson.getSubjectStore().getScore(Subject.MATH, person));
+            assertEquals(i % 101, addressBookFromBinary.getSubjectStore().getScore(Subject.MATH, person));
+        }
+    }
+
+    @Test
+    public void read_jsonSnapshotChanged_emptyResult() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), 0, jsonFilePath, filePath);
+
+        // same size, different last modified time
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, jsonFilePath).isPresent());
+
+        // same last modified time, different size
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), 0, jsonFilePath, filePath);
+        FileTime lastModifiedTime = Files.getLastModifiedTime(jsonFilePath);
+        Files.writeString(jsonFilePath, "{ }");
+        Files.setLastModifiedTime(jsonFilePath, lastModifiedTime);
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, jsonFilePath).isPresent());
+    }
+
+    @Test
+    public void read_corruptByte_emptyResult() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), 0, jsonFilePath, filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, jsonFilePath).isPresent());
+    }
+
+    @Test
+    public void read_otherFormatVersion_emptyResult() throws Exception {
+        BinaryAddressBookSnapshot.write(getTypicalAddressBook(), 0, jsonFilePath, filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryAddressBookSnapshot.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, jsonFilePath).isPresent());
+    }
+
+    @Test
+    public void read_notABinarySnapshot_emptyResult() throws Exception {
+        Files.writeString(filePath, "not a binary snapshot of an address book");
+        assertFalse(BinaryAddressBookSnapshot.read(filePath, jsonFilePath).isPresent());
+    }
+}
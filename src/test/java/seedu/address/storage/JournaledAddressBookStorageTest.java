@@ -0,0 +1,294 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.subject.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private Path binaryFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("parentconnect.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        binaryFilePath = JournaledAddressBookStorage.getBinarySnapshotFilePath(filePath);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JournaledAddressBookStorage(filePath, 0));
+    }
+
+    @Test
+    public void getJournalFilePath_dataFile_siblingWithSuffix() {
+        assertEquals(testFolder.resolve("parentconnect.json.journal"), journalFilePath);
+    }
+
+    @Test
+    public void getBinarySnapshotFilePath_dataFile_siblingWithSuffix() {
+        assertEquals(testFolder.resolve("parentconnect.json.bin"), binaryFilePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(getTypicalAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChanges_changes_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        model.deletePerson(ALICE);
+        model.addPerson(HOON);
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withParentPhone("99999999").build());
+        saveChanges(storage, model);
+
+        model.enrollPerson(Subject.MATH, HOON);
+        model.setScore(Subject.MATH, HOON, 88);
+        saveChanges(storage, model);
+
+        // no changes add nothing
+        saveChanges(storage, model);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChanges_beforeFirstSave_writesNothing() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addPerson(HOON);
+        List<AddressBookChange> changes = model.takeAddressBookChanges();
+
+        assertTrue(storage.isSnapshotDue(changes));
+        assertFalse(storage.saveAddressBookChanges(changes));
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBookChanges_reset_compactsJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveChanges(storage, model);
+
+        model.setAddressBook(new AddressBook());
+        model.addPerson(IDA);
+        List<AddressBookChange> changes = model.takeAddressBookChanges();
+        assertTrue(storage.isSnapshotDue(changes));
+        assertFalse(storage.saveAddressBookChanges(changes));
+
+        storage.saveAddressBook(model.getAddressBook());
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChanges_thresholdReached_compactsJournal() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+
+        model.addPerson(HOON);
+        saveChanges(storage, model);
+        model.addPerson(IDA);
+        saveChanges(storage, model);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertTrue(storage.isSnapshotDue(List.of()));
+
+        // still appended to until a snapshot is saved
+        model.deletePerson(ALICE);
+        assertTrue(storage.saveAddressBookChanges(model.takeAddressBookChanges()));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        saveChanges(storage, model);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_compactionInterrupted_skipsIncludedEntries() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveChanges(storage, model);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        // compacts, and then puts back the journal as if the app stopped before emptying it
+        model.addPerson(IDA);
+        saveChanges(storage, model);
+        Files.write(journalFilePath, journal);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, 1);
+        assertEquals(model.getAddressBook(), reopened.readAddressBook().get());
+
+        // later entries are still replayed
+        model.deletePerson(ALICE);
+        saveChanges(reopened, model);
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_lastEntryCutShort_entryDroppedAndSnapshotWrittenNext() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveChanges(storage, model);
+        Files.writeString(journalFilePath, "{\"sequenceNumber\":2,\"ch", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        assertEquals(model.getAddressBook(), reopened.readAddressBook().get());
+
+        model.addPerson(IDA);
+        saveChanges(reopened, model);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(model.getAddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveChanges(storage, model);
+        List<String> journal = Files.readAllLines(journalFilePath);
+        Files.write(journalFilePath, List.of("not json", journal.get(0)));
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesSnapshotOnly() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook(otherFilePath).get());
+    }
+
+    @Test
+    public void saveAddressBook_binarySnapshotDisabled_noBinarySnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+
+        assertFalse(Files.exists(binaryFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_binarySnapshotEnabled_writtenWithSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(binaryFilePath));
+
+        // the binary snapshot is read instead of the snapshot
+        replaceWithSameSizeAndLastModifiedTime(filePath);
+        assertEquals(getTypicalAddressBook(), new JournaledAddressBookStorage(filePath, 1, true)
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_binarySnapshotEnabled_writtenWithJournalReplayed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(HOON);
+        saveChanges(storage, model);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, 1000, true);
+        assertEquals(model.getAddressBook(), reopened.readAddressBook().get());
+        assertTrue(Files.exists(binaryFilePath));
+
+        // journal entries included in the binary snapshot are skipped, and later ones replayed
+        model.addPerson(IDA);
+        saveChanges(reopened, model);
+        replaceWithSameSizeAndLastModifiedTime(filePath);
+        assertEquals(model.getAddressBook(),
+                new JournaledAddressBookStorage(filePath, 1000, true).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_snapshotChangedAfterBinarySnapshot_snapshotRead() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+        new JournaledAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+
+        assertEquals(new AddressBook(), new JournaledAddressBookStorage(filePath, 1, true).readAddressBook().get());
+    }
+
+    /**
+     * Saves the changes made to the address book of {@code model} since they were last taken to {@code storage}.
+     */
+    private static void saveChanges(JournaledAddressBookStorage storage, Model model) throws Exception {
+        List<AddressBookChange> changes = model.takeAddressBookChanges();
+        if (storage.isSnapshotDue(changes)) {
+            storage.saveAddressBook(model.getAddressBook());
+        } else {
+            assertTrue(storage.saveAddressBookChanges(changes));
+        }
+    }
+
+    /**
+     * Overwrites the file at {@code filePath} with as many spaces, keeping its last modified time.
+     */
+    private static void replaceWithSameSizeAndLastModifiedTime(Path filePath) throws Exception {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        Files.writeString(filePath, " ".repeat((int) Files.size(filePath)));
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+    }
+}
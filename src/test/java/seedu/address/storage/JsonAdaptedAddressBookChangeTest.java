@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.Type;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAdaptedAddressBookChangeTest {
+
+    @Test
+    public void constructor_setPerson_recordsTargetIdAndEditedPerson() throws Exception {
+        Person editedBenson = new PersonBuilder(BENSON).withParentPhone("99999999").build();
+        JsonAdaptedAddressBookChange change =
+                new JsonAdaptedAddressBookChange(AddressBookChange.setPerson(BENSON, editedBenson));
+
+        assertEquals(Type.SET_PERSON, change.getType());
+        assertEquals(BENSON.getUniqueId(), change.getUniqueId());
+        assertEquals(editedBenson, change.getPerson().toModelType());
+        assertThrows(IllegalValueException.class, change::getChildName);
+    }
+
+    @Test
+    public void constructor_setScore_recordsChildNameAndScore() throws Exception {
+        JsonAdaptedAddressBookChange change =
+                new JsonAdaptedAddressBookChange(AddressBookChange.setScore(Subject.MATH, ALICE, 75));
+
+        assertEquals(Type.SET_SCORE, change.getType());
+        assertEquals(ALICE.getChildName().toString(), change.getChildName());
+        assertEquals(Subject.MATH.subjectName, change.getSubject());
+        assertEquals(75, change.getScore());
+        assertThrows(IllegalValueException.class, change::getPerson);
+    }
+
+    @Test
+    public void constructor_reset_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JsonAdaptedAddressBookChange(AddressBookChange.reset(new AddressBook())));
+    }
+
+    @Test
+    public void toJson_renameSubject_writesOnlyUsedFields() throws Exception {
+        JsonAdaptedAddressBookChange change = new JsonAdaptedAddressBookChange(
+                AddressBookChange.renameSubject(Subject.MATH, new Subject("Maths")));
+        String json = JsonUtil.toCompactJsonString(change);
+        assertEquals("{\"type\":\"RENAME_SUBJECT\",\"subject\":\"MATH\",\"renamedSubject\":\"Maths\"}", json);
+
+        JsonAdaptedAddressBookChange read = JsonUtil.fromJsonString(json, JsonAdaptedAddressBookChange.class);
+        assertEquals(Type.RENAME_SUBJECT, read.getType());
+        assertEquals("Maths", read.getRenamedSubject());
+    }
+
+    @Test
+    public void getType_unknownType_throwsIllegalValueException() {
+        JsonAdaptedAddressBookChange unknown =
+                new JsonAdaptedAddressBookChange("MERGE_PERSONS", null, null, null, null, null, null);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAdaptedAddressBookChange.MESSAGE_UNKNOWN_TYPE, "MERGE_PERSONS"), unknown::getType);
+
+        JsonAdaptedAddressBookChange reset =
+                new JsonAdaptedAddressBookChange("RESET", null, null, null, null, null, null);
+        assertThrows(IllegalValueException.class, reset::getType);
+    }
+
+    @Test
+    public void getType_missingType_throwsIllegalValueException() {
+        JsonAdaptedAddressBookChange change =
+                new JsonAdaptedAddressBookChange(null, null, null, null, null, null, null);
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAdaptedAddressBookChange.MISSING_FIELD_MESSAGE_FORMAT, "type"), change::getType);
+    }
+}
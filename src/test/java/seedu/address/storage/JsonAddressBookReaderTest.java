@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.subject.Subject;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path NOT_AN_ADDRESS_BOOK_FILE = TEST_DATA_FOLDER.resolve("notAnAddressBook.json");
+    private static final Path REORDERED_FILE = TEST_DATA_FOLDER.resolve("reorderedAddressBook.json");
+
+    @Test
+    public void read_savedFiles_sameAsJsonSerializableAddressBook() throws Exception {
+        for (String fileName : List.of("typicalPersonsAddressBook.json", "typicalPersonsAddressBookWithScores.json",
+                "customSubjectsAddressBook.json")) {
+            Path filePath = SERIALIZABLE_TEST_DATA_FOLDER.resolve(fileName);
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            reader.read(filePath);
+            assertEquals(JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType(),
+                    reader.toModelType());
+        }
+    }
+
+    @Test
+    public void read_invalidFiles_throwsIllegalValueException() {
+        for (String fileName : List.of("invalidPersonAddressBook.json", "duplicatePersonAddressBook.json",
+                "invalidScoreAddressBook.json", "unknownPersonScoreAddressBook.json",
+                "unknownSubjectAddressBook.json", "duplicateSubjectAddressBook.json")) {
+            JsonAddressBookReader reader = new JsonAddressBookReader();
+            assertThrows(IllegalValueException.class, () -> {
+                reader.read(SERIALIZABLE_TEST_DATA_FOLDER.resolve(fileName));
+                reader.toModelType();
+            });
+        }
+    }
+
+    @Test
+    public void read_fieldsInAnyOrder_success() throws Exception {
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        reader.read(REORDERED_FILE);
+        AddressBook addressBook = reader.toModelType();
+
+        Subject history = new Subject("History");
+        assertEquals(List.of(history, Subject.MATH), addressBook.getSubjectList());
+        assertEquals(75, addressBook.getSubjectStore().getScore(history, addressBook.getPersonList().get(0)));
+        assertEquals(7, reader.getLastChange());
+    }
+
+    @Test
+    public void read_notAnObject_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_NOT_AN_ADDRESS_BOOK, () ->
+                new JsonAddressBookReader().read(NOT_AN_ADDRESS_BOOK_FILE));
+    }
+
+    @Test
+    public void apply_changesMadeToModel_reproducesModelAddressBook() throws Exception {
+        AddressBook before = TypicalPersons.getTypicalAddressBook();
+        before.enrollPerson(Subject.MATH, TypicalPersons.ALICE);
+        before.setScore(Subject.MATH, TypicalPersons.ALICE, 60);
+        before.enrollPerson(Subject.SCIENCE, TypicalPersons.BENSON);
+        before.enrollPerson(Subject.ENGLISH, TypicalPersons.CARL);
+        before.setScore(Subject.ENGLISH, TypicalPersons.CARL, 70);
+        Model model = new ModelManager(before, new UserPrefs());
+        model.deletePerson(TypicalPersons.ALICE);
+        model.addPerson(TypicalPersons.HOON);
+        model.enrollPerson(Subject.MATH, TypicalPersons.HOON);
+        model.setScore(Subject.MATH, TypicalPersons.HOON, 90);
+        model.retireSubject(Subject.SCIENCE);
+        Person renamedCarl = new PersonBuilder(TypicalPersons.CARL).withChildName("Carla Kurz").build();
+        model.setPerson(TypicalPersons.CARL, renamedCarl);
+        Subject history = new Subject("History");
+        model.addSubject(history);
+        model.enrollPerson(history, renamedCarl);
+        model.renameSubject(Subject.ENGLISH, new Subject("Literature"));
+
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        before.getPersonList().forEach(reader::addPerson);
+        reader.addScore(Subject.MATH.subjectName, new JsonAdaptedScoreEntry(TypicalPersons.ALICE, 60));
+        reader.addScore(Subject.SCIENCE.subjectName, new JsonAdaptedScoreEntry(TypicalPersons.BENSON, -1));
+        reader.addScore(Subject.ENGLISH.subjectName, new JsonAdaptedScoreEntry(TypicalPersons.CARL, 70));
+        reader.apply(JsonAdaptedJournalEntry.fromModelType(1, model.takeAddressBookChanges()));
+        assertEquals(model.getAddressBook(), reader.toModelType());
+        assertEquals(1, reader.getLastChange());
+    }
+
+    @Test
+    public void apply_changeToUnknownPerson_throwsIllegalValueException() {
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.fromModelType(3,
+                List.of(AddressBookChange.removePerson(TypicalPersons.ALICE)));
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAddressBookReader.MESSAGE_CHANGE_OUT_OF_RANGE, 3), () -> reader.apply(entry));
+    }
+
+    @Test
+    public void toModelType_duplicateUniqueIds_throwsIllegalValueException() {
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        reader.addPerson(TypicalPersons.ALICE);
+        reader.addPerson(new PersonBuilder(TypicalPersons.BENSON).withUniqueId(TypicalPersons.ALICE.getUniqueId())
+                .build());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                reader::toModelType);
+    }
+}
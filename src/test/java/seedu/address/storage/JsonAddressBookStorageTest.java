@@ -12,8 +12,6 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -22,7 +20,6 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.subject.Subject;
-import seedu.address.testutil.SubjectTestUtil;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -30,16 +27,6 @@ public class JsonAddressBookStorageTest {
     @TempDir
     public Path testFolder;
 
-    @BeforeEach
-    public void setUp() {
-        SubjectTestUtil.resetSubjects();
-    }
-
-    @AfterEach
-    public void tearDown() {
-        SubjectTestUtil.resetSubjects();
-    }
-
     @Test
     public void readAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> readAddressBook(null));
@@ -134,11 +121,11 @@ public class JsonAddressBookStorageTest {
         original.addPerson(IDA);
 
         // Enroll and set scores on the original Typical persons
-        Subject.MATH.enrollPerson(HOON);
-        Subject.MATH.setScore(HOON, 88);
+        original.enrollPerson(Subject.MATH, HOON);
+        original.setScore(Subject.MATH, HOON, 88);
 
-        Subject.SCIENCE.enrollPerson(IDA);
-        Subject.SCIENCE.setScore(IDA, 92);
+        original.enrollPerson(Subject.SCIENCE, IDA);
+        original.setScore(Subject.SCIENCE, IDA, 92);
 
         JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
 
@@ -154,9 +141,10 @@ public class JsonAddressBookStorageTest {
                 .filter(p -> p.getChildName().equals(IDA.getChildName()))
                 .findFirst().orElseThrow();
 
-        // Subject enums should have enrolled the persons and set scores during deserialization
-        assertEquals(88, Subject.MATH.getScore(hoonFromRead));
-        assertEquals(92, Subject.SCIENCE.getScore(idaFromRead));
+        // The read address book should have enrolled the persons and set scores during deserialization
+        assertEquals(88, readBack.getSubjectStore().getScore(Subject.MATH, hoonFromRead));
+        assertEquals(92, readBack.getSubjectStore().getScore(Subject.SCIENCE, idaFromRead));
+        assertEquals(original, new AddressBook(readBack));
 
     }
 }
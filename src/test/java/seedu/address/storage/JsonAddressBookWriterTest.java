@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.subject.Subject;
+
+public class JsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_emptyAddressBook_sameAsJsonSerializableAddressBook() throws Exception {
+        assertSameAsJsonSerializableAddressBook(new AddressBook(), 0);
+    }
+
+    @Test
+    public void write_addressBookWithScores_sameAsJsonSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addSubject(new Subject("History"));
+        addressBook.enrollPerson(Subject.MATH, ALICE);
+        addressBook.setScore(Subject.MATH, ALICE, 88);
+        addressBook.enrollPerson(Subject.MATH, BENSON);
+        addressBook.enrollPerson(new Subject("History"), BENSON);
+        addressBook.setScore(new Subject("History"), BENSON, 0);
+        assertSameAsJsonSerializableAddressBook(addressBook, 42);
+    }
+
+    @Test
+    public void write_existingFile_replacedWithoutTemporaryFiles() throws Exception {
+        Path filePath = testFolder.resolve("data").resolve("parentconnect.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), 0, filePath);
+        JsonAddressBookWriter.write(new AddressBook(), 0, filePath);
+
+        assertEquals(new AddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    private void assertSameAsJsonSerializableAddressBook(AddressBook addressBook, long lastChange) throws Exception {
+        Path filePath = testFolder.resolve("parentconnect.json");
+        JsonAddressBookWriter.write(addressBook, lastChange, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook, lastChange)),
+                FileUtil.readFromFile(filePath));
+    }
+}
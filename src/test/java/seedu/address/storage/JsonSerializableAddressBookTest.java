@@ -5,9 +5,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
-import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -15,7 +14,6 @@ import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.subject.Subject;
-import seedu.address.testutil.SubjectTestUtil;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -38,16 +36,12 @@ public class JsonSerializableAddressBookTest {
             .resolve("missingPersonNameAddressBook.json");
     private static final Path NEGATIVE_SCORE_FILE = TEST_DATA_FOLDER
             .resolve("negativeScoreAddressBook.json");
-
-    @BeforeEach
-    public void setUp() {
-        SubjectTestUtil.resetSubjects();
-    }
-
-    @AfterEach
-    public void tearDown() {
-        SubjectTestUtil.resetSubjects();
-    }
+    private static final Path CUSTOM_SUBJECTS_FILE = TEST_DATA_FOLDER
+            .resolve("customSubjectsAddressBook.json");
+    private static final Path DUPLICATE_SUBJECT_FILE = TEST_DATA_FOLDER
+            .resolve("duplicateSubjectAddressBook.json");
+    private static final Path INVALID_SUBJECT_FILE = TEST_DATA_FOLDER
+            .resolve("invalidSubjectAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -89,9 +83,9 @@ public class JsonSerializableAddressBookTest {
                 .filter(p -> p.getChildName().toString().equals(TypicalPersons.IDA.getChildName().toString()))
                 .findFirst().orElseThrow();
 
-        // Verify scores were restored onto Subjects
-        assertEquals(88, Subject.MATH.getScore(hoon));
-        assertEquals(92, Subject.SCIENCE.getScore(ida));
+        // Verify scores were restored into the subject store of the address book
+        assertEquals(88, addressBookFromFile.getSubjectStore().getScore(Subject.MATH, hoon));
+        assertEquals(92, addressBookFromFile.getSubjectStore().getScore(Subject.SCIENCE, ida));
     }
 
     @Test
@@ -136,4 +130,41 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    // ---- Subject catalogue ----
+
+    @Test
+    public void toModelType_noSubjectsList_defaultSubjects() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(Subject.getDefaultSubjects(), dataFromFile.toModelType().getSubjectList());
+    }
+
+    @Test
+    public void toModelType_customSubjects_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(CUSTOM_SUBJECTS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        Subject history = new Subject("History");
+        Person hoon = addressBookFromFile.getPersonList().get(0);
+
+        assertEquals(List.of(history, Subject.MATH), addressBookFromFile.getSubjectList());
+        assertEquals("History", addressBookFromFile.getSubjectList().get(0).subjectName);
+        assertEquals(75, addressBookFromFile.getSubjectStore().getScore(history, hoon));
+        assertEquals(addressBookFromFile, new JsonSerializableAddressBook(addressBookFromFile).toModelType());
+    }
+
+    @Test
+    public void toModelType_duplicateSubjects_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_SUBJECT_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_SUBJECT,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_invalidSubject_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_SUBJECT_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, Subject.MESSAGE_CONSTRAINTS, dataFromFile::toModelType);
+    }
 }
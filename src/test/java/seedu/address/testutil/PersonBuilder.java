@@ -61,6 +61,7 @@ public class PersonBuilder {
         allergies = personToCopy.getAllergies();
         address = personToCopy.getAddress();
         tags = new HashSet<>(personToCopy.getTags());
+        uniqueId = personToCopy.getUniqueId();
     }
 
     /**